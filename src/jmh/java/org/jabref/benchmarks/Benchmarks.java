@@ -77,6 +77,12 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    @Benchmark
+    public ParserResult parallelParse() throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences());
+        return parser.parseInParallel(new StringReader(bibtexString));
+    }
+
     @Benchmark
     public String write() throws Exception {
         BibtexDatabaseWriter<StringSaveSession> databaseWriter = new BibtexDatabaseWriter<>(StringSaveSession::new);
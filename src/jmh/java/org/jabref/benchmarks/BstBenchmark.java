@@ -0,0 +1,76 @@
+package org.jabref.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.bst.VM;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexEntryTypes;
+
+import org.antlr.runtime.RecognitionException;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Formats a library with abbrv.bst, once with a freshly parsed style and once reusing the parsed and compiled style.
+ */
+@State(Scope.Thread)
+public class BstBenchmark {
+
+    private static final File ABBRV = new File("src/test/resources/org/jabref/logic/bst/abbrv.bst");
+
+    @Param({"5000"})
+    private int numberOfEntries;
+
+    private List<BibEntry> entries;
+    private VM vm;
+
+    @Setup
+    public void init() throws RecognitionException, IOException {
+        Random randomizer = new Random(42);
+        entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry;
+            if ((i % 3) == 0) {
+                entry = new BibEntry(BibtexEntryTypes.INPROCEEDINGS.getName());
+                entry.setField("booktitle", "Proceedings of the Conference " + randomizer.nextInt(50));
+                entry.setField("address", "City " + randomizer.nextInt(20));
+            } else {
+                entry = new BibEntry(BibtexEntryTypes.ARTICLE.getName());
+                entry.setField("journal", "Journal Title " + randomizer.nextInt(100));
+                entry.setField("volume", String.valueOf(randomizer.nextInt(40)));
+                entry.setField("number", String.valueOf(randomizer.nextInt(12)));
+            }
+            entry.setCiteKey("key" + i);
+            entry.setField("author", "Firstname Lastname" + randomizer.nextInt(1000)
+                    + " and F. A. von LastnameA and LastnameB, Jr., FirstnameB");
+            entry.setField("title", "This is {My} Title " + i);
+            entry.setField("pages", (i + 1) + "--" + (i + 10));
+            entry.setField("year", String.valueOf(1990 + randomizer.nextInt(30)));
+            entries.add(entry);
+        }
+        vm = new VM(ABBRV);
+    }
+
+    @Benchmark
+    public String formatWithNewStyle() throws RecognitionException, IOException {
+        return new VM(ABBRV).run(entries);
+    }
+
+    @Benchmark
+    public String formatWithReusedStyle() {
+        return vm.run(entries);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,77 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.bibtex.DuplicateCheck;
+import org.jabref.logic.bibtex.DuplicateFingerprint;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexEntryTypes;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares one entry with all entries of a database of 10k entries, once based on fingerprints computed for each
+ * comparison (which corresponds to parsing and normalizing the fields for each pair) and once based on the cached
+ * fingerprints used by {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}.
+ */
+@State(Scope.Thread)
+public class DuplicateCheckBenchmark {
+
+    private final List<BibEntry> entries = new ArrayList<>();
+    private BibEntry entryToCheck;
+
+    @Setup
+    public void init() {
+        Random randomizer = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            BibEntry entry = new BibEntry(BibtexEntryTypes.ARTICLE.getName());
+            entry.setCiteKey("id" + i);
+            entry.setField("title", "This is my title " + i + " about topic " + randomizer.nextInt(100));
+            entry.setField("author", "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+            entry.setField("journal", "Journal Title " + randomizer.nextInt(50));
+            entry.setField("year", String.valueOf(1900 + randomizer.nextInt(120)));
+            entry.setField("pages", (i + 1) + "--" + (i + 10));
+            entries.add(entry);
+        }
+        entryToCheck = (BibEntry) entries.get(5000).clone();
+
+        // fill the fingerprint cache
+        cachedFingerprints();
+    }
+
+    @Benchmark
+    public int uncachedFingerprints() {
+        int duplicates = 0;
+        for (BibEntry entry : entries) {
+            if (DuplicateCheck.isDuplicate(DuplicateFingerprint.of(entryToCheck), DuplicateFingerprint.of(entry),
+                    BibDatabaseMode.BIBTEX)) {
+                duplicates++;
+            }
+        }
+        return duplicates;
+    }
+
+    @Benchmark
+    public int cachedFingerprints() {
+        int duplicates = 0;
+        for (BibEntry entry : entries) {
+            if (DuplicateCheck.isDuplicate(entryToCheck, entry, BibDatabaseMode.BIBTEX)) {
+                duplicates++;
+            }
+        }
+        return duplicates;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,83 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexEntryTypes;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Creates a library of entries similar to parsed ones and reports the heap retained per entry (measured as the
+ * difference of the used heap after garbage collection before and after creating the entries). The entries are
+ * inserted into a database, as every entry is in practice.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+public class EntryFootprintBenchmark {
+
+    @Param({"100000"})
+    private int numberOfEntries;
+
+    private BibDatabase database;
+    private long usedHeapBefore;
+
+    @Setup(Level.Iteration)
+    public void init() {
+        database = null;
+        usedHeapBefore = usedHeapAfterGarbageCollection();
+    }
+
+    @Benchmark
+    public BibDatabase createEntries() {
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry(BibtexEntryTypes.ARTICLE.getName());
+            entry.setCiteKey("id" + i);
+            entry.setField("author", "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+            entry.setField("title", "This is my title " + i);
+            entry.setField("journal", "Journal Title " + (i % 100));
+            entry.setField("year", String.valueOf(1900 + (i % 120)));
+            entry.setField("pages", (i + 1) + "--" + (i + 10));
+            entry.setField("doi", "10.1000/" + i);
+            entries.add(entry);
+        }
+        database = new BibDatabase();
+        database.insertEntries(entries);
+        return database;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportFootprint() {
+        long retained = usedHeapAfterGarbageCollection() - usedHeapBefore;
+        System.out.println(String.format(Locale.ENGLISH, "%nHeap retained per entry: %d bytes",
+                retained / database.getEntryCount()));
+        database = null;
+    }
+
+    private static long usedHeapAfterGarbageCollection() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,68 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
+import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternUtil;
+import org.jabref.model.bibtexkeypattern.DatabaseBibtexKeyPattern;
+import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexEntryTypes;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Regenerates the keys of all entries of a library, once entry by entry and once as a batch. Many entries share the
+ * same author and year, so that a lot of collisions have to be resolved.
+ */
+@State(Scope.Thread)
+public class KeyGenerationBenchmark {
+
+    @Param({"100000"})
+    private int numberOfEntries;
+
+    private BibDatabase database;
+    private DatabaseBibtexKeyPattern keyPattern;
+    private BibtexKeyPatternPreferences preferences;
+
+    @Setup
+    public void init() {
+        Random randomizer = new Random(42);
+        database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry(BibtexEntryTypes.ARTICLE.getName());
+            entry.setField("author", "Firstname Lastname" + randomizer.nextInt(1000) + " and FirstnameA LastnameA");
+            entry.setField("title", "This is my title " + i);
+            entry.setField("year", String.valueOf(1990 + randomizer.nextInt(30)));
+            database.insertEntry(entry);
+        }
+
+        GlobalBibtexKeyPattern pattern = GlobalBibtexKeyPattern.fromPattern("[auth][year]");
+        keyPattern = new DatabaseBibtexKeyPattern(pattern);
+        preferences = new BibtexKeyPatternPreferences("", "", false, true, true, pattern, ',');
+    }
+
+    @Benchmark
+    public void generateKeysOneByOne() {
+        for (BibEntry entry : database.getEntries()) {
+            BibtexKeyPatternUtil.makeAndSetLabel(keyPattern, database, entry, preferences);
+        }
+    }
+
+    @Benchmark
+    public void generateKeysAsBatch() {
+        BibtexKeyPatternUtil.makeAndSetLabels(keyPattern, database, database.getEntries(), preferences);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
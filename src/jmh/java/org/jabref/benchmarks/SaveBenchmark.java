@@ -0,0 +1,90 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.Globals;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SaveException;
+import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.exporter.StringSaveSession;
+import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.Defaults;
+import org.jabref.model.cleanup.FieldFormatterCleanup;
+import org.jabref.model.cleanup.FieldFormatterCleanups;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Saves a parsed library with save actions after editing some of its entries. Only the edited entries are cleaned up
+ * and serialized again, all other entries are written as they were parsed.
+ */
+@State(Scope.Thread)
+public class SaveBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    @Param({"1", "100"})
+    private int numberOfEdits;
+
+    private BibDatabaseContext databaseContext;
+    private List<BibEntry> entries;
+    private int edit;
+
+    @Setup
+    public void init() throws IOException, SaveException {
+        Globals.prefs = JabRefPreferences.getInstance();
+
+        StringBuilder bibtexString = new StringBuilder();
+        for (int i = 0; i < numberOfEntries; i++) {
+            bibtexString.append("@Article{id").append(i).append(',').append('\n')
+                    .append("  author  = {Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB").append(i).append("},\n")
+                    .append("  title   = {This is my title ").append(i).append("},\n")
+                    .append("  journal = {Journal Title ").append(i).append("},\n")
+                    .append("  year    = {1").append(i).append("},\n")
+                    .append("}\n\n");
+        }
+        ParserResult result = new BibtexParser(Globals.prefs.getImportFormatPreferences())
+                .parseInParallel(new StringReader(bibtexString.toString()));
+        databaseContext = new BibDatabaseContext(result.getDatabase(), result.getMetaData(), new Defaults());
+        databaseContext.getMetaData().setSaveActions(new FieldFormatterCleanups(true,
+                Collections.singletonList(new FieldFormatterCleanup("title", new LowerCaseFormatter()))));
+        entries = databaseContext.getDatabase().getEntries();
+
+        // the first save applies the save actions to all entries
+        save();
+    }
+
+    @Benchmark
+    public String editAndSave() throws SaveException {
+        for (int i = 0; i < numberOfEdits; i++) {
+            BibEntry entry = entries.get((edit * numberOfEdits + i) % entries.size());
+            entry.setField("year", String.valueOf(edit));
+        }
+        edit++;
+        return save();
+    }
+
+    private String save() throws SaveException {
+        BibtexDatabaseWriter<StringSaveSession> databaseWriter = new BibtexDatabaseWriter<>(StringSaveSession::new);
+        return databaseWriter.saveDatabase(databaseContext, new SavePreferences()).getStringValue();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
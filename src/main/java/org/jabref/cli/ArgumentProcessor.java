@@ -40,6 +40,7 @@ import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.search.DatabaseSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.util.OS;
+import org.jabref.logic.xmp.XMPBulkWriter;
 import org.jabref.model.Defaults;
 import org.jabref.model.EntryTypes;
 import org.jabref.model.database.BibDatabase;
@@ -202,6 +203,10 @@ public class ArgumentProcessor {
             automaticallySetFileLinks(loaded);
         }
 
+        if (cli.isWriteXMP()) {
+            writeXMP(loaded);
+        }
+
         if (cli.isFileExport()) {
             if (!loaded.isEmpty()) {
                 exportFile(loaded, cli.getFileExport().split(","));
@@ -505,6 +510,31 @@ public class ArgumentProcessor {
         }
     }
 
+    private void writeXMP(List<ParserResult> loaded) {
+        for (ParserResult parserResult : loaded) {
+            BibDatabaseContext databaseContext = parserResult.getDatabaseContext();
+            LOGGER.info(Localization.lang("Writing XMP-metadata..."));
+
+            XMPBulkWriter writer = new XMPBulkWriter(databaseContext, Globals.prefs.getFileDirectoryPreferences(),
+                    Globals.prefs.getXMPPreferences(), databaseContext.getDatabasePath()
+                    .map(path -> XMPBulkWriter.getJournalPath(Globals.prefs.getXMPJournalDirectory(), path)));
+            List<XMPBulkWriter.Result> results = writer.write(databaseContext.getDatabase().getEntries(), result -> {
+                if (result.getStatus() == XMPBulkWriter.Status.FAILED) {
+                    LOGGER.warn(Localization.lang("Error while writing") + " '" + result.getFile().get() + "'",
+                            result.getError().get());
+                }
+            });
+
+            long written = results.stream().filter(result -> (result.getStatus() == XMPBulkWriter.Status.WRITTEN)
+                    || (result.getStatus() == XMPBulkWriter.Status.UP_TO_DATE)).count();
+            long errors = results.stream().filter(result -> result.getStatus() == XMPBulkWriter.Status.FAILED)
+                    .count();
+            LOGGER.info(Localization.lang("Finished writing XMP for %0 file (%1 skipped, %2 errors).",
+                    String.valueOf(written), String.valueOf(results.size() - written - errors),
+                    String.valueOf(errors)));
+        }
+    }
+
     private void regenerateBibtexKeys(List<ParserResult> loaded) {
         for (ParserResult parserResult : loaded) {
             BibDatabase database = parserResult.getDatabase();
@@ -512,12 +542,9 @@ public class ArgumentProcessor {
             MetaData metaData = parserResult.getMetaData();
             if (metaData != null) {
                 LOGGER.info(Localization.lang("Regenerating BibTeX keys according to metadata"));
-                for (BibEntry entry : database.getEntries()) {
-                    // try to make a new label
-                    BibtexKeyPatternUtil.makeAndSetLabel(
-                            metaData.getCiteKeyPattern(Globals.prefs.getBibtexKeyPatternPreferences().getKeyPattern()),
-                            database, entry, Globals.prefs.getBibtexKeyPatternPreferences());
-                }
+                BibtexKeyPatternUtil.makeAndSetLabels(
+                        metaData.getCiteKeyPattern(Globals.prefs.getBibtexKeyPatternPreferences().getKeyPattern()),
+                        database, database.getEntries(), Globals.prefs.getBibtexKeyPatternPreferences());
             } else {
                 LOGGER.info(Localization.lang("No meta data present in BIB_file. Cannot regenerate BibTeX keys"));
             }
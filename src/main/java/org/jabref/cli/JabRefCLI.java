@@ -139,6 +139,10 @@ public class JabRefCLI {
 
     public boolean isAutomaticallySetFileLinks() { return cl.hasOption("automaticallySetFileLinks"); }
 
+    public boolean isWriteXMP() {
+        return cl.hasOption("writeXMP");
+    }
+
     private Options getOptions() {
         Options options = new Options();
 
@@ -224,6 +228,11 @@ public class JabRefCLI {
                 desc(Localization.lang("Automatically set file links")).
                 build());
 
+        options.addOption(Option.builder().
+                longOpt("writeXMP").
+                desc(Localization.lang("Write XMP-metadata")).
+                build());
+
         return options;
     }
 
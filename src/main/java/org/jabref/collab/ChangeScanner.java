@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -18,7 +19,8 @@ import org.jabref.JabRefExecutorService;
 import org.jabref.gui.BasePanel;
 import org.jabref.gui.JabRefFrame;
 import org.jabref.logic.bibtex.DuplicateCheck;
-import org.jabref.logic.bibtex.comparator.EntryComparator;
+import org.jabref.logic.bibtex.comparator.BibDatabaseDiff;
+import org.jabref.logic.bibtex.comparator.BibEntryDiff;
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.FileSaveSession;
@@ -32,10 +34,8 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.model.Defaults;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.database.EntrySorter;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
-import org.jabref.model.entry.FieldName;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.metadata.MetaData;
 
@@ -45,9 +45,6 @@ import org.apache.commons.logging.LogFactory;
 public class ChangeScanner implements Runnable {
     private static final Log LOGGER = LogFactory.getLog(ChangeScanner.class);
 
-    private static final String[] SORT_BY = new String[] {FieldName.YEAR, FieldName.AUTHOR, FieldName.TITLE};
-
-    private static final double MATCH_THRESHOLD = 0.4;
     private final File file;
     private final BibDatabase databaseInMemory;
     private final MetaData metadataInMemory;
@@ -91,26 +88,12 @@ public class ChangeScanner implements Runnable {
             BibDatabase databaseOnDisk = result.getDatabase();
             MetaData metadataOnDisk = result.getMetaData();
 
-            // Sort both databases according to a common sort key.
-            EntryComparator comparator = new EntryComparator(false, true, SORT_BY[2]);
-            comparator = new EntryComparator(false, true, SORT_BY[1], comparator);
-            comparator = new EntryComparator(false, true, SORT_BY[0], comparator);
-            EntrySorter sorterInTemp = databaseInTemp.getSorter(comparator);
-            comparator = new EntryComparator(false, true, SORT_BY[2]);
-            comparator = new EntryComparator(false, true, SORT_BY[1], comparator);
-            comparator = new EntryComparator(false, true, SORT_BY[0], comparator);
-            EntrySorter sorterOnDisk = databaseOnDisk.getSorter(comparator);
-            comparator = new EntryComparator(false, true, SORT_BY[2]);
-            comparator = new EntryComparator(false, true, SORT_BY[1], comparator);
-            comparator = new EntryComparator(false, true, SORT_BY[0], comparator);
-            EntrySorter sorterInMem = databaseInMemory.getSorter(comparator);
-
             // Start looking at changes.
             scanMetaData(metadataInMemory, metadataInTemp, metadataOnDisk);
             scanPreamble(databaseInMemory, databaseInTemp, databaseOnDisk);
             scanStrings(databaseInMemory, databaseInTemp, databaseOnDisk);
 
-            scanEntries(sorterInMem, sorterInTemp, sorterOnDisk);
+            scanEntries(databaseInMemory, databaseInTemp, databaseOnDisk);
 
             scanGroups(metadataInTemp, metadataOnDisk);
 
@@ -172,147 +155,53 @@ public class ChangeScanner implements Runnable {
         }
     }
 
-    private void scanEntries(EntrySorter memorySorter, EntrySorter tmpSorter, EntrySorter diskSorter) {
-
-        // Create pointers that are incremented as the entries of each base are used in
-        // successive order from the beginning. Entries "further down" in the "disk" base
-        // can also be matched.
-        int piv1;
-        int piv2 = 0;
-
-        // Create a HashSet where we can put references to entry numbers in the "disk"
-        // database that we have matched. This is to avoid matching them twice.
-        Set<String> used = new HashSet<>(diskSorter.getEntryCount());
-        Set<Integer> notMatched = new HashSet<>(tmpSorter.getEntryCount());
-
-        // Loop through the entries of the "tmp" database, looking for exact matches in the "disk" one.
-        // We must finish scanning for exact matches before looking for near matches, to avoid an exact
-        // match being "stolen" from another entry.
-        mainLoop:
-        for (piv1 = 0; piv1 < tmpSorter.getEntryCount(); piv1++) {
-
-            // First check if the similarly placed entry in the other base matches exactly.
-            double comp = -1;
-            // (if there are not any entries left in the "disk" database, comp will stay at -1,
-            // and this entry will be marked as nonmatched).
-            if (!used.contains(String.valueOf(piv2)) && (piv2 < diskSorter.getEntryCount())) {
-                comp = DuplicateCheck.compareEntriesStrictly(tmpSorter.getEntryAt(piv1), diskSorter.getEntryAt(piv2));
-            }
-            if (comp > 1) {
-                used.add(String.valueOf(piv2));
-                piv2++;
-                continue;
-            }
-
-            // No? Then check if another entry matches exactly.
-            if (piv2 < (diskSorter.getEntryCount() - 1)) {
-                for (int i = piv2 + 1; i < diskSorter.getEntryCount(); i++) {
-                    if (used.contains(String.valueOf(i))) {
-                        comp = -1;
-                    } else {
-                        comp = DuplicateCheck.compareEntriesStrictly(tmpSorter.getEntryAt(piv1), diskSorter.getEntryAt(i));
-                    }
+    private void scanEntries(BibDatabase inMemory, BibDatabase onTmp, BibDatabase onDisk) {
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(onTmp.getEntries(), onDisk.getEntries());
+        Map<Map<String, String>, BibEntry> entriesInMemory = BibDatabaseDiff.indexByContent(inMemory.getEntries());
 
-                    if (comp > 1) {
-                        used.add(String.valueOf(i));
-                        continue mainLoop;
-                    }
-                }
-            }
-
-            // No? Add this entry to the list of nonmatched entries.
-            notMatched.add(piv1);
+        for (BibEntryDiff changedEntry : diff.getChangedEntries()) {
+            BibEntry tmp = changedEntry.getOriginalEntry();
+            changes.add(new EntryChange(bestFit(tmp, inMemory, entriesInMemory), tmp, changedEntry.getNewEntry()));
         }
 
-        // Now we've found all exact matches, look through the remaining entries, looking
-        // for close matches.
-        if (!notMatched.isEmpty()) {
-
-            for (Iterator<Integer> it = notMatched.iterator(); it.hasNext(); ) {
-
-                piv1 = it.next();
-
-                // These two variables will keep track of which entry most closely matches the
-                // one we're looking at, in case none matches completely.
-                int bestMatchI = -1;
-                double bestMatch = 0;
-                double comp;
-
-                if (piv2 < (diskSorter.getEntryCount() - 1)) {
-                    for (int i = piv2; i < diskSorter.getEntryCount(); i++) {
-                        if (used.contains(String.valueOf(i))) {
-                            comp = -1;
-                        } else {
-                            comp = DuplicateCheck.compareEntriesStrictly(tmpSorter.getEntryAt(piv1), diskSorter.getEntryAt(i));
-                        }
-
-                        if (comp > bestMatch) {
-                            bestMatch = comp;
-                            bestMatchI = i;
-                        }
-                    }
-                }
-
-                if (bestMatch > MATCH_THRESHOLD) {
-                    used.add(String.valueOf(bestMatchI));
-                    it.remove();
-
-                    changes.add(new EntryChange(bestFit(tmpSorter, memorySorter, piv1), tmpSorter.getEntryAt(piv1),
-                            diskSorter.getEntryAt(bestMatchI)));
-                } else {
-                    changes.add(
-                            new EntryDeleteChange(bestFit(tmpSorter, memorySorter, piv1), tmpSorter.getEntryAt(piv1)));
-                }
-
-            }
-
+        for (BibEntry tmp : diff.getRemovedEntries()) {
+            changes.add(new EntryDeleteChange(bestFit(tmp, inMemory, entriesInMemory), tmp));
         }
 
-        // Finally, look if there are still untouched entries in the disk database. These
-        // may have been added.
-        if (used.size() < diskSorter.getEntryCount()) {
-            for (int i = 0; i < diskSorter.getEntryCount(); i++) {
-                if (!used.contains(String.valueOf(i))) {
-
-                    // See if there is an identical dupe in the mem database:
-                    boolean hasAlready = false;
-                    for (int j = 0; j < memorySorter.getEntryCount(); j++) {
-                        if (DuplicateCheck.compareEntriesStrictly(memorySorter.getEntryAt(j), diskSorter.getEntryAt(i)) >= 1) {
-                            hasAlready = true;
-                            break;
-                        }
-                    }
-                    if (!hasAlready) {
-                        changes.add(new EntryAddChange(diskSorter.getEntryAt(i)));
-                    }
-                }
+        // Entries added on disk are only reported if there is no identical entry in memory
+        for (BibEntry disk : diff.getAddedEntries()) {
+            if (!entriesInMemory.containsKey(disk.getFieldMap())) {
+                changes.add(new EntryAddChange(disk));
             }
         }
     }
 
     /**
-     * Finds the entry in neu best fitting the specified entry in old. If no entries get a score
+     * Finds the entry in the database best fitting the specified entry. If no entries get a score
      * above zero, an entry is still returned.
      *
-     * @param oldSorter   EntrySorter
-     * @param newSorter   EntrySorter
-     * @param index int
+     * @param entry            the entry to look for
+     * @param database         the database to search in
+     * @param entriesByContent the entries of the database indexed by their fields
      * @return BibEntry
      */
-    private static BibEntry bestFit(EntrySorter oldSorter, EntrySorter newSorter, int index) {
+    private static BibEntry bestFit(BibEntry entry, BibDatabase database,
+            Map<Map<String, String>, BibEntry> entriesByContent) {
+        BibEntry identicalEntry = entriesByContent.get(entry.getFieldMap());
+        if (identicalEntry != null) {
+            return identicalEntry;
+        }
+
         double comp = -1;
-        int found = 0;
-        for (int i = 0; i < newSorter.getEntryCount(); i++) {
-            double res = DuplicateCheck.compareEntriesStrictly(oldSorter.getEntryAt(index), newSorter.getEntryAt(i));
+        BibEntry found = null;
+        for (BibEntry candidate : database.getEntries()) {
+            double res = DuplicateCheck.compareEntriesStrictly(entry, candidate);
             if (res > comp) {
                 comp = res;
-                found = i;
-            }
-            if (comp > 1) {
-                break;
+                found = candidate;
             }
         }
-        return newSorter.getEntryAt(found);
+        return found;
     }
 
     private void scanPreamble(BibDatabase inMemory, BibDatabase onTmp, BibDatabase onDisk) {
@@ -2,10 +2,20 @@ package org.jabref.collab;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jabref.logic.util.io.FileUtil;
 
@@ -14,37 +24,171 @@ import org.apache.commons.logging.LogFactory;
 
 /**
  * This thread monitors a set of files, each associated with a FileUpdateListener, for changes
- * in the file's last modification time stamp. The
+ * in the file's last modification time stamp or size.
+ * <p>
+ * The directories of the files are watched using a {@link WatchService}, thus changes are detected as soon as they
+ * happen. As some programs save a file in several steps (e.g., truncate and write, or write a temporary file and rename
+ * it), the listener is notified only after no further change happened for {@link #QUIET_PERIOD} ms.
+ * <p>
+ * Files which cannot be watched (and all files if no watch service is available) are polled every
+ * {@link #POLLING_INTERVAL} ms. Watched files are only polled every {@link #WATCHED_POLLING_INTERVAL} ms as a safety
+ * net, as watch services miss changes done by other machines on network file systems (e.g., NFS or SMB).
  */
 public class FileUpdateMonitor implements Runnable {
     private static final Log LOGGER = LogFactory.getLog(FileUpdateMonitor.class);
 
-    private static final int WAIT = 4000;
+    private static final long POLLING_INTERVAL = 4000;
+    private static final long WATCHED_POLLING_INTERVAL = 60000;
+    private static final long QUIET_PERIOD = 250;
 
-    private int numberOfUpdateListener;
-    private final Map<String, Entry> entries = new HashMap<>();
+    private final long pollingInterval;
+    private final long watchedPollingInterval;
+    private final long quietPeriod;
+    private final AtomicInteger numberOfUpdateListener = new AtomicInteger();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final WatchService watchService;
+    /**
+     * The watched directories together with the number of monitored files in them.
+     */
+    private final Map<Path, WatchedDirectory> watchedDirectories = new HashMap<>();
+    /**
+     * Entries with changes that were not reported yet, mapped to the time at which they are checked again.
+     */
+    private final Map<Entry, Long> pendingEntries = new ConcurrentHashMap<>();
+
+    public FileUpdateMonitor() {
+        this(POLLING_INTERVAL, WATCHED_POLLING_INTERVAL, QUIET_PERIOD, true);
+    }
+
+    /**
+     * @param pollingInterval        the interval in ms in which files which are not watched are polled
+     * @param watchedPollingInterval the interval in ms in which watched files are polled
+     * @param quietPeriod            the time in ms without further changes after which a change is reported
+     * @param watchFiles             false if the files should only be polled
+     */
+    FileUpdateMonitor(long pollingInterval, long watchedPollingInterval, long quietPeriod, boolean watchFiles) {
+        this.pollingInterval = pollingInterval;
+        this.watchedPollingInterval = watchedPollingInterval;
+        this.quietPeriod = quietPeriod;
+
+        WatchService service = null;
+        if (watchFiles) {
+            try {
+                service = FileSystems.getDefault().newWatchService();
+            } catch (IOException | UnsupportedOperationException e) {
+                LOGGER.info("File changes cannot be watched, falling back to polling", e);
+            }
+        }
+        watchService = service;
+    }
 
     @Override
     public void run() {
-        // The running variable is used to make the thread stop when needed.
-        while (true) {
-            for (Entry e : entries.values()) {
-                try {
-                    if (e.hasBeenUpdated()) {
-                        e.notifyListener();
+        long nextPolling = System.currentTimeMillis() + pollingInterval;
+        long nextWatchedPolling = System.currentTimeMillis() + watchedPollingInterval;
+        try {
+            while (true) {
+                long now = System.currentTimeMillis();
+                long nextReport = pendingEntries.values().stream().min(Long::compare).orElse(Long.MAX_VALUE);
+                long timeout = Math.max(0, Math.min(Math.min(nextPolling, nextWatchedPolling), nextReport) - now);
+
+                if (watchService == null) {
+                    Thread.sleep(timeout);
+                } else {
+                    WatchKey key = watchService.poll(timeout, TimeUnit.MILLISECONDS);
+                    while (key != null) {
+                        handleEvents(key);
+                        key = watchService.poll();
                     }
-                } catch (IOException ex) {
-                    e.notifyFileRemoved();
+                }
+
+                now = System.currentTimeMillis();
+                reportPendingEntries(now);
+                if (now >= nextPolling) {
+                    pollEntries(now, false);
+                    nextPolling = now + pollingInterval;
+                }
+                if (now >= nextWatchedPolling) {
+                    pollEntries(now, true);
+                    nextWatchedPolling = now + watchedPollingInterval;
                 }
             }
+        } catch (InterruptedException ex) {
+            LOGGER.debug("FileUpdateMonitor has been interrupted. Terminating...", ex);
+        } catch (ClosedWatchServiceException ex) {
+            LOGGER.debug("Watch service has been closed. Terminating...", ex);
+        } finally {
+            closeWatchService();
+        }
+    }
 
-            // Sleep for a while before starting a new polling round.
+    private void closeWatchService() {
+        if (watchService != null) {
             try {
-                Thread.sleep(WAIT);
-            } catch (InterruptedException ex) {
-                LOGGER.debug("FileUpdateMonitor has been interrupted. Terminating...", ex);
-                return;
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.debug("Could not close watch service", e);
+            }
+        }
+    }
+
+    private void handleEvents(WatchKey key) {
+        Path directory = (Path) key.watchable();
+        long reportTime = System.currentTimeMillis() + quietPeriod;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // events were lost, thus all files in the directory may have changed
+                entries.values().stream().filter(entry -> directory.equals(entry.getDirectory()))
+                        .forEach(entry -> pendingEntries.put(entry, reportTime));
+            } else {
+                Path changedFile = directory.resolve((Path) event.context());
+                entries.values().stream().filter(entry -> changedFile.equals(entry.getFile()))
+                        .forEach(entry -> pendingEntries.put(entry, reportTime));
+            }
+        }
+        key.reset();
+    }
+
+    private void reportPendingEntries(long now) {
+        Iterator<Map.Entry<Entry, Long>> iterator = pendingEntries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Entry, Long> pendingEntry = iterator.next();
+            if (pendingEntry.getValue() <= now) {
+                iterator.remove();
+                // the entry may have been removed in the meantime
+                if (entries.containsValue(pendingEntry.getKey())) {
+                    checkForUpdate(pendingEntry.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks either the entries which are not watched or the watched ones, whose changes might not have been reported
+     * by the watch service. Changed entries are reported after the quiet period like watched changes.
+     */
+    private void pollEntries(long now, boolean watched) {
+        for (Entry entry : entries.values()) {
+            if ((entry.isWatched() != watched) || pendingEntries.containsKey(entry)) {
+                continue;
+            }
+            try {
+                if (entry.hasBeenUpdated()) {
+                    pendingEntries.putIfAbsent(entry, now + quietPeriod);
+                }
+            } catch (IOException ex) {
+                entry.notifyFileRemoved();
+            }
+        }
+    }
+
+    private static void checkForUpdate(Entry entry) {
+        try {
+            if (entry.hasBeenUpdated()) {
+                entry.notifyListener();
             }
+        } catch (IOException ex) {
+            entry.notifyFileRemoved();
         }
     }
 
@@ -58,12 +202,59 @@ public class FileUpdateMonitor implements Runnable {
         if (!file.exists()) {
             throw new IOException("File not found");
         }
-        numberOfUpdateListener++;
-        String key = String.valueOf(numberOfUpdateListener);
-        entries.put(key, new Entry(ul, file.toPath()));
+        String key = String.valueOf(numberOfUpdateListener.incrementAndGet());
+        Path path = file.toPath().toAbsolutePath().normalize();
+        boolean watched = watch(path.getParent());
+        Entry entry;
+        try {
+            entry = new Entry(ul, path, watched);
+        } catch (IOException e) {
+            if (watched) {
+                unwatch(path.getParent());
+            }
+            throw e;
+        }
+        entries.put(key, entry);
         return key;
     }
 
+    /**
+     * Starts watching the given directory, if it is not watched already.
+     *
+     * @return true if the directory is watched, false if files in it have to be polled
+     */
+    private synchronized boolean watch(Path directory) {
+        if ((watchService == null) || (directory == null)) {
+            return false;
+        }
+
+        WatchedDirectory watchedDirectory = watchedDirectories.get(directory);
+        if (watchedDirectory == null) {
+            try {
+                WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                watchedDirectory = new WatchedDirectory(key);
+                watchedDirectories.put(directory, watchedDirectory);
+            } catch (IOException | UnsupportedOperationException e) {
+                LOGGER.info("Cannot watch " + directory + ", falling back to polling", e);
+                return false;
+            }
+        }
+        watchedDirectory.numberOfFiles++;
+        return true;
+    }
+
+    private synchronized void unwatch(Path directory) {
+        WatchedDirectory watchedDirectory = watchedDirectories.get(directory);
+        if (watchedDirectory != null) {
+            watchedDirectory.numberOfFiles--;
+            if (watchedDirectory.numberOfFiles == 0) {
+                watchedDirectory.key.cancel();
+                watchedDirectories.remove(directory);
+            }
+        }
+    }
+
     /**
      * Forces a check on the file, and returns the result. Does not
      * force a report to all listeners before the next routine check.
@@ -85,13 +276,15 @@ public class FileUpdateMonitor implements Runnable {
      * Change the stored timestamp for the given file. If the timestamp equals
      * the file's timestamp on disk, after this call the file will appear to
      * have been modified. Used if a file has been modified, and the change
-     * scan fails, in order to ensure successive checks.
+     * scan fails, in order to ensure successive checks. As the file might not change again, the next check is
+     * scheduled explicitly.
      * @param handle the handle to the correct file.
      */
     public void perturbTimestamp(String handle) {
         Entry entry = entries.get(handle);
         if (entry != null) {
             entry.decreaseTimeStamp();
+            pendingEntries.put(entry, System.currentTimeMillis() + pollingInterval);
         }
     }
 
@@ -100,7 +293,25 @@ public class FileUpdateMonitor implements Runnable {
      * @param handle String The handle for the listener to remove.
      */
     public void removeUpdateListener(String handle) {
-        entries.remove(handle);
+        Entry entry = entries.remove(handle);
+        if ((entry != null) && entry.isWatched()) {
+            unwatch(entry.getDirectory());
+        }
+    }
+
+    /**
+     * @return true if changes of the file are reported by the watch service, false if the file is polled only
+     */
+    boolean isWatched(String handle) {
+        Entry entry = entries.get(handle);
+        return (entry != null) && entry.isWatched();
+    }
+
+    /**
+     * @return the number of directories watched by the watch service
+     */
+    synchronized int getNumberOfWatchedDirectories() {
+        return watchedDirectories.size();
     }
 
     public void updateTimeStamp(String key) {
@@ -138,13 +349,15 @@ public class FileUpdateMonitor implements Runnable {
         private final FileUpdateListener listener;
         private final Path file;
         private final Path tmpFile;
-        private long timeStamp;
-        private long fileSize;
+        private final boolean watched;
+        private volatile long timeStamp;
+        private volatile long fileSize;
 
 
-        public Entry(FileUpdateListener ul, Path f) throws IOException {
+        public Entry(FileUpdateListener ul, Path f, boolean watched) throws IOException {
             listener = ul;
             file = f;
+            this.watched = watched;
             timeStamp = Files.getLastModifiedTime(file).toMillis();
             fileSize = Files.size(file);
             tmpFile = FileUpdateMonitor.getTempFile();
@@ -205,11 +418,36 @@ public class FileUpdateMonitor implements Runnable {
             return tmpFile;
         }
 
+        public Path getFile() {
+            return file;
+        }
+
+        public Path getDirectory() {
+            return file.getParent();
+        }
+
+        /**
+         * @return true if changes of the file are reported by the watch service, false if the file has to be polled
+         */
+        public boolean isWatched() {
+            return watched;
+        }
+
         public void decreaseTimeStamp() {
             timeStamp--;
         }
     }
 
+    private static class WatchedDirectory {
+
+        private final WatchKey key;
+        private int numberOfFiles;
+
+        WatchedDirectory(WatchKey key) {
+            this.key = key;
+        }
+    }
+
     private static synchronized Path getTempFile() {
         Path temporaryFile = null;
         try {
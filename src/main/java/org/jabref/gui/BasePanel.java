@@ -100,6 +100,7 @@ import org.jabref.gui.worker.CallBack;
 import org.jabref.gui.worker.CitationStyleToClipboardWorker;
 import org.jabref.gui.worker.MarkEntriesAction;
 import org.jabref.gui.worker.SendAsEMailAction;
+import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
 import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternUtil;
 import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
@@ -108,6 +109,8 @@ import org.jabref.logic.exporter.FileSaveSession;
 import org.jabref.logic.exporter.SaveException;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.exporter.SaveSession;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Encodings;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.Layout;
@@ -136,6 +139,7 @@ import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.EntryEventSource;
 import org.jabref.model.entry.specialfields.SpecialField;
 import org.jabref.model.entry.specialfields.SpecialFieldValue;
+import org.jabref.model.metadata.FileDirectoryPreferences;
 import org.jabref.preferences.JabRefPreferences;
 import org.jabref.preferences.PreviewPreferences;
 import org.jabref.shared.DBMSSynchronizer;
@@ -199,6 +203,8 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
     /** the query the user searches when this basepanel is active */
     private Optional<SearchQuery> currentSearchQuery = Optional.empty();
 
+    private IntegrityCheck integrityCheck;
+
     public BasePanel(JabRefFrame frame, BibDatabaseContext bibDatabaseContext) {
         Objects.requireNonNull(frame);
         Objects.requireNonNull(bibDatabaseContext);
@@ -444,14 +450,11 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
                 final NamedCompound ce = new NamedCompound(Localization.lang("Autogenerate BibTeX keys"));
                 AbstractBibtexKeyPattern citeKeyPattern = bibDatabaseContext.getMetaData()
                         .getCiteKeyPattern(Globals.prefs.getBibtexKeyPatternPreferences().getKeyPattern());
-                for (BibEntry entry : entries) {
-                    String oldCiteKey = entry.getCiteKeyOptional().orElse("");
-                    BibtexKeyPatternUtil.makeAndSetLabel(citeKeyPattern, bibDatabaseContext.getDatabase(),
-                            entry, Globals.prefs.getBibtexKeyPatternPreferences());
-                    String newCiteKey = entry.getCiteKeyOptional().orElse("");
-                    if (!oldCiteKey.equals(newCiteKey)) {
-                        ce.addEdit(new UndoableKeyChange(entry, oldCiteKey, newCiteKey));
-                    }
+                for (FieldChange change : BibtexKeyPatternUtil.makeAndSetLabels(citeKeyPattern,
+                        bibDatabaseContext.getDatabase(), entries, Globals.prefs.getBibtexKeyPatternPreferences())) {
+                    ce.addEdit(new UndoableKeyChange(change.getEntry(),
+                            Optional.ofNullable(change.getOldValue()).orElse(""),
+                            Optional.ofNullable(change.getNewValue()).orElse("")));
                 }
                 ce.end();
 
@@ -2047,6 +2050,25 @@ public class BasePanel extends JPanel implements ClipboardOwner, FileUpdateListe
         return annotationCache;
     }
 
+    /**
+     * Returns the integrity check of this library for the current preferences. The same check is reused as long as the
+     * preferences it caches its results for stay the same, so that unchanged entries are not checked again.
+     */
+    public synchronized IntegrityCheck getIntegrityCheck() {
+        FileDirectoryPreferences fileDirectoryPreferences = Globals.prefs.getFileDirectoryPreferences();
+        BibtexKeyPatternPreferences bibtexKeyPatternPreferences = Globals.prefs.getBibtexKeyPatternPreferences();
+        JournalAbbreviationRepository journalAbbreviationRepository = Globals.journalAbbreviationLoader
+                .getRepository(Globals.prefs.getJournalAbbreviationPreferences());
+        if (integrityCheck == null) {
+            integrityCheck = new IntegrityCheck(bibDatabaseContext, fileDirectoryPreferences,
+                    bibtexKeyPatternPreferences, journalAbbreviationRepository);
+        } else {
+            integrityCheck = integrityCheck.withPreferences(fileDirectoryPreferences, bibtexKeyPatternPreferences,
+                    journalAbbreviationRepository);
+        }
+        return integrityCheck;
+    }
+
     private static class SearchAndOpenFile {
 
         private final BibEntry entry;
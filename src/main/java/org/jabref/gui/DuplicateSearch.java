@@ -3,10 +3,11 @@ package org.jabref.gui;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.SwingUtilities;
 
-import org.jabref.JabRefExecutorService;
 import org.jabref.JabRefGUI;
 import org.jabref.gui.DuplicateResolverDialog.DuplicateResolverResult;
 import org.jabref.gui.DuplicateResolverDialog.DuplicateResolverType;
@@ -14,7 +15,10 @@ import org.jabref.gui.undo.NamedCompound;
 import org.jabref.gui.undo.UndoableInsertEntry;
 import org.jabref.gui.undo.UndoableRemoveEntry;
 import org.jabref.gui.worker.CallBack;
+import org.jabref.logic.bibtex.DuplicateCandidateGenerator;
 import org.jabref.logic.bibtex.DuplicateCheck;
+import org.jabref.logic.bibtex.DuplicateDetectionEngine;
+import org.jabref.logic.bibtex.DuplicatePair;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
 
@@ -22,9 +26,10 @@ import spin.Spin;
 
 public class DuplicateSearch implements Runnable {
 
+    private static final long PROGRESS_INTERVAL_MILLIS = 1000;
+
     private final BasePanel panel;
     private List<BibEntry> bes;
-    private final List<List<BibEntry>> duplicates = new ArrayList<>();
 
 
     public DuplicateSearch(BasePanel bp) {
@@ -41,9 +46,9 @@ public class DuplicateSearch implements Runnable {
             return;
         }
 
-        SearcherRunnable st = new SearcherRunnable();
-        JabRefExecutorService.INSTANCE.executeInterruptableTask(st, "DuplicateSearcher");
-        int current = 0;
+        DuplicateDetectionEngine engine = new DuplicateDetectionEngine(panel.getBibDatabaseContext().getMode());
+        // only check the pairs which might be duplicates instead of all pairs
+        engine.startWithCandidates(new DuplicateCandidateGenerator().generateCandidates(bes));
 
         final List<BibEntry> toRemove = new ArrayList<>();
         final List<BibEntry> toAdd = new ArrayList<>();
@@ -51,59 +56,55 @@ public class DuplicateSearch implements Runnable {
         int duplicateCounter = 0;
         boolean autoRemoveExactDuplicates = false;
 
-        synchronized (duplicates) {
-            while (!st.finished() || (current < duplicates.size())) {
-
-                if (current >= duplicates.size()) {
-                    // wait until the search thread puts something into duplicates vector
-                    // or finish its work
-
-                    try {
-                        duplicates.wait();
-                    } catch (InterruptedException ignored) {
-                        // Ignore
-                    }
+        try {
+            while (engine.hasMoreDuplicates()) {
+                Optional<DuplicatePair> duplicate = engine.pollDuplicate(PROGRESS_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (!duplicate.isPresent()) {
+                    // nothing found yet, inform about the progress of the search
+                    outputProgress(engine);
+                    continue;
+                }
 
-                } else { // duplicates found
-                    List<BibEntry> be = duplicates.get(current);
-                    current++;
-                    if (!toRemove.contains(be.get(0)) && !toRemove.contains(be.get(1))) {
-                        // Check if they are exact duplicates:
-                        boolean askAboutExact = false;
-                        if (DuplicateCheck.compareEntriesStrictly(be.get(0), be.get(1)) > 1) {
-                            if (autoRemoveExactDuplicates) {
-                                toRemove.add(be.get(1));
-                                duplicateCounter++;
-                                continue;
-                            }
-                            askAboutExact = true;
+                List<BibEntry> be = Arrays.asList(duplicate.get().getFirst(), duplicate.get().getSecond());
+                if (!toRemove.contains(be.get(0)) && !toRemove.contains(be.get(1))) {
+                    // Check if they are exact duplicates:
+                    boolean askAboutExact = false;
+                    if (DuplicateCheck.compareEntriesStrictly(be.get(0), be.get(1)) > 1) {
+                        if (autoRemoveExactDuplicates) {
+                            toRemove.add(be.get(1));
+                            duplicateCounter++;
+                            continue;
                         }
+                        askAboutExact = true;
+                    }
 
-                        DuplicateCallBack cb = new DuplicateCallBack(JabRefGUI.getMainFrame(), be.get(0), be.get(1),
-                                askAboutExact ? DuplicateResolverType.DUPLICATE_SEARCH_WITH_EXACT : DuplicateResolverType.DUPLICATE_SEARCH);
-                        ((CallBack) Spin.over(cb)).update();
-
-                        duplicateCounter++;
-                        DuplicateResolverResult answer = cb.getSelected();
-                        if ((answer == DuplicateResolverResult.KEEP_LEFT)
-                                || (answer == DuplicateResolverResult.AUTOREMOVE_EXACT)) {
-                            toRemove.add(be.get(1));
-                            if (answer == DuplicateResolverResult.AUTOREMOVE_EXACT) {
-                                autoRemoveExactDuplicates = true; // Remember choice
-                            }
-                        } else if (answer == DuplicateResolverResult.KEEP_RIGHT) {
-                            toRemove.add(be.get(0));
-                        } else if (answer == DuplicateResolverResult.BREAK) {
-                            st.setFinished(); // thread killing
-                            current = Integer.MAX_VALUE;
-                            duplicateCounter--; // correct counter
-                        } else if (answer == DuplicateResolverResult.KEEP_MERGE) {
-                            toRemove.addAll(be);
-                            toAdd.add(cb.getMergedEntry());
+                    DuplicateCallBack cb = new DuplicateCallBack(JabRefGUI.getMainFrame(), be.get(0), be.get(1),
+                            askAboutExact ? DuplicateResolverType.DUPLICATE_SEARCH_WITH_EXACT : DuplicateResolverType.DUPLICATE_SEARCH);
+                    ((CallBack) Spin.over(cb)).update();
+
+                    duplicateCounter++;
+                    DuplicateResolverResult answer = cb.getSelected();
+                    if ((answer == DuplicateResolverResult.KEEP_LEFT)
+                            || (answer == DuplicateResolverResult.AUTOREMOVE_EXACT)) {
+                        toRemove.add(be.get(1));
+                        if (answer == DuplicateResolverResult.AUTOREMOVE_EXACT) {
+                            autoRemoveExactDuplicates = true; // Remember choice
                         }
+                    } else if (answer == DuplicateResolverResult.KEEP_RIGHT) {
+                        toRemove.add(be.get(0));
+                    } else if (answer == DuplicateResolverResult.BREAK) {
+                        engine.cancel(); // thread killing
+                        duplicateCounter--; // correct counter
+                        break;
+                    } else if (answer == DuplicateResolverResult.KEEP_MERGE) {
+                        toRemove.addAll(be);
+                        toAdd.add(cb.getMergedEntry());
                     }
                 }
             }
+        } catch (InterruptedException e) {
+            engine.cancel();
+            Thread.currentThread().interrupt();
         }
 
         final NamedCompound ce = new NamedCompound(Localization.lang("duplicate removal"));
@@ -130,10 +131,8 @@ public class DuplicateSearch implements Runnable {
                     panel.markBaseChanged();
                 }
 
-                synchronized (duplicates) {
-                    panel.output(Localization.lang("Duplicates found") + ": " + duplicates.size() + ' '
-                            + Localization.lang("pairs processed") + ": " + dupliC);
-                }
+                panel.output(Localization.lang("Duplicates found") + ": " + engine.getNumberOfDuplicates() + ' '
+                        + Localization.lang("pairs processed") + ": " + dupliC);
                 ce.end();
                 panel.getUndoManager().addEdit(ce);
 
@@ -143,43 +142,11 @@ public class DuplicateSearch implements Runnable {
 
     }
 
-    class SearcherRunnable implements Runnable {
-
-        private volatile boolean finished;
-
-        @Override
-        public void run() {
-            for (int i = 0; (i < (bes.size() - 1)) && !finished; i++) {
-                for (int j = i + 1; (j < bes.size()) && !finished; j++) {
-                    BibEntry first = bes.get(i);
-                    BibEntry second = bes.get(j);
-                    boolean eq = DuplicateCheck.isDuplicate(first, second, panel.getBibDatabaseContext().getMode());
-
-                    // If (suspected) duplicates, add them to the duplicates vector.
-                    if (eq) {
-                        synchronized (duplicates) {
-                            duplicates.add(Arrays.asList(first, second));
-                            duplicates.notifyAll(); // send wake up all
-                        }
-                    }
-                }
-            }
-            finished = true;
-            // if no duplicates found, the graphical thread will never wake up
-            synchronized (duplicates) {
-                duplicates.notifyAll();
-            }
-        }
-
-        public boolean finished() {
-            return finished;
-        }
-
-        // Thread cancel option
-        // no synchronized used because no "really" critical situations expected
-        public void setFinished() {
-            finished = true;
-        }
+    private void outputProgress(DuplicateDetectionEngine engine) {
+        String pairsPerSecond = String.valueOf(Math.round(engine.getPairsPerSecond()));
+        String secondsRemaining = engine.getEstimatedSecondsRemaining().map(String::valueOf).orElse("?");
+        panel.output(Localization.lang("Searching for duplicates... %0 pairs per second, about %1 seconds remaining",
+                pairsPerSecond, secondsRemaining));
     }
 
     static class DuplicateCallBack implements CallBack {
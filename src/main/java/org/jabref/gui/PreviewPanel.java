@@ -33,7 +33,6 @@ import org.jabref.gui.fieldeditors.PreviewPanelTransferHandler;
 import org.jabref.gui.keyboard.KeyBinding;
 import org.jabref.gui.worker.CitationStyleWorker;
 import org.jabref.logic.citationstyle.CitationStyle;
-import org.jabref.logic.exporter.ExportFormats;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutHelper;
@@ -262,8 +261,6 @@ public class PreviewPanel extends JPanel implements SearchQueryHighlightListener
     }
 
     public void update() {
-        ExportFormats.entryNumber = 1; // Set entry number in case that is included in the preview layout.
-
         if (citationStyleWorker.isPresent()) {
             citationStyleWorker.get().cancel(true);
             citationStyleWorker = Optional.empty();
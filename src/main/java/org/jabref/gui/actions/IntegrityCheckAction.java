@@ -44,11 +44,7 @@ public class IntegrityCheckAction extends MnemonicAwareAction {
 
     @Override
     public void actionPerformed(ActionEvent e) {
-        IntegrityCheck check = new IntegrityCheck(frame.getCurrentBasePanel().getBibDatabaseContext(),
-                Globals.prefs.getFileDirectoryPreferences(),
-                Globals.prefs.getBibtexKeyPatternPreferences(),
-                Globals.journalAbbreviationLoader
-                        .getRepository(Globals.prefs.getJournalAbbreviationPreferences()));
+        IntegrityCheck check = frame.getCurrentBasePanel().getIntegrityCheck();
         List<IntegrityMessage> messages = check.checkBibtexDatabase();
 
         if (messages.isEmpty()) {
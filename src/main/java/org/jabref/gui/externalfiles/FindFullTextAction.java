@@ -68,9 +68,11 @@ public class FindFullTextAction extends AbstractWorker {
                 return;
             }
         }
-        for (BibEntry entry : basePanel.getSelectedEntries()) {
-            FulltextFetchers fft = new FulltextFetchers(Globals.prefs.getImportFormatPreferences());
-            downloads.put(fft.findFullTextPDF(entry), entry);
+        List<BibEntry> entries = basePanel.getSelectedEntries();
+        FulltextFetchers fft = new FulltextFetchers(Globals.prefs.getImportFormatPreferences());
+        List<Optional<URL>> results = fft.findFullTextPDFs(entries);
+        for (int i = 0; i < entries.size(); i++) {
+            downloads.put(results.get(i), entries.get(i));
         }
     }
 
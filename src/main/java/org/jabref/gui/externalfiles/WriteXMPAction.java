@@ -4,12 +4,8 @@ import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.event.ActionEvent;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javax.swing.AbstractAction;
 import javax.swing.ActionMap;
@@ -31,7 +27,7 @@ import org.jabref.gui.JabRefDialog;
 import org.jabref.gui.keyboard.KeyBinding;
 import org.jabref.gui.worker.AbstractWorker;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.xmp.XMPUtil;
+import org.jabref.logic.xmp.XMPBulkWriter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 
@@ -54,6 +50,8 @@ public class WriteXMPAction extends AbstractWorker {
 
     private boolean goOn = true;
 
+    private volatile XMPBulkWriter xmpWriter;
+
     private int skipped;
     private int entriesChanged;
     private int errors;
@@ -112,56 +110,33 @@ public class WriteXMPAction extends AbstractWorker {
             return;
         }
 
-        for (BibEntry entry : entries) {
-
-            // Make a list of all PDFs linked from this entry:
-            List<Path> files = entry.getFiles().stream()
-                    .filter(file -> file.getFileType().equalsIgnoreCase("pdf"))
-                    .map(file -> file.findIn(panel.getBibDatabaseContext(), Globals.prefs.getFileDirectoryPreferences()))
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .collect(Collectors.toList());
-
-            SwingUtilities.invokeLater(() -> optDiag.getProgressArea()
-                    .append(entry.getCiteKeyOptional().orElse(Localization.lang("undefined")) + "\n"));
+        xmpWriter = new XMPBulkWriter(panel.getBibDatabaseContext(), Globals.prefs.getFileDirectoryPreferences(),
+                Globals.prefs.getXMPPreferences(), panel.getBibDatabaseContext().getDatabasePath()
+                .map(path -> XMPBulkWriter.getJournalPath(Globals.prefs.getXMPJournalDirectory(), path)));
+        if (optDiag.isCanceled()) {
+            xmpWriter.cancel();
+        }
 
-            if (files.isEmpty()) {
+        List<XMPBulkWriter.Result> results = xmpWriter.write(entries, this::showResult);
+        for (XMPBulkWriter.Result result : results) {
+            switch (result.getStatus()) {
+            case WRITTEN:
+            case UP_TO_DATE:
+                entriesChanged++;
+                break;
+            case FAILED:
+                errors++;
+                break;
+            default:
                 skipped++;
-                SwingUtilities.invokeLater(() -> optDiag.getProgressArea()
-                        .append("  " + Localization.lang("Skipped - No PDF linked") + ".\n"));
-            } else {
-                for (Path file : files) {
-                    if (Files.exists(file)) {
-                        try {
-                            XMPUtil.writeXMP(file.toFile(), entry, database, Globals.prefs.getXMPPreferences());
-                            SwingUtilities.invokeLater(
-                                    () -> optDiag.getProgressArea().append("  " + Localization.lang("OK") + ".\n"));
-                            entriesChanged++;
-                        } catch (Exception e) {
-                            SwingUtilities.invokeLater(() -> {
-                                optDiag.getProgressArea().append("  " + Localization.lang("Error while writing") + " '"
-                                        + file.toString() + "':\n");
-                                optDiag.getProgressArea().append("    " + e.getLocalizedMessage() + "\n");
-                            });
-                            errors++;
-                        }
-                    } else {
-                        skipped++;
-                        SwingUtilities.invokeLater(() -> {
-                            optDiag.getProgressArea()
-                                    .append("  " + Localization.lang("Skipped - PDF does not exist") + ":\n");
-                            optDiag.getProgressArea().append("    " + file.toString() + "\n");
-                        });
-                    }
-                }
-            }
-
-            if (optDiag.isCanceled()) {
-                SwingUtilities.invokeLater(
-                        () -> optDiag.getProgressArea().append("\n" + Localization.lang("Operation canceled.") + "\n"));
                 break;
             }
         }
+
+        if (xmpWriter.isCanceled()) {
+            SwingUtilities.invokeLater(
+                    () -> optDiag.getProgressArea().append("\n" + Localization.lang("Operation canceled.") + "\n"));
+        }
         SwingUtilities.invokeLater(() -> {
             optDiag.getProgressArea()
                 .append("\n"
@@ -171,6 +146,31 @@ public class WriteXMPAction extends AbstractWorker {
         });
     }
 
+    private void showResult(XMPBulkWriter.Result result) {
+        String citeKey = result.getEntry().getCiteKeyOptional().orElse(Localization.lang("undefined"));
+        SwingUtilities.invokeLater(() -> {
+            optDiag.getProgressArea().append(citeKey + "\n");
+            switch (result.getStatus()) {
+            case WRITTEN:
+            case UP_TO_DATE:
+                optDiag.getProgressArea().append("  " + Localization.lang("OK") + ".\n");
+                break;
+            case NO_PDF:
+                optDiag.getProgressArea().append("  " + Localization.lang("Skipped - No PDF linked") + ".\n");
+                break;
+            case FILE_NOT_FOUND:
+                optDiag.getProgressArea().append("  " + Localization.lang("Skipped - PDF does not exist") + ":\n");
+                optDiag.getProgressArea().append("    " + result.getFile().get() + "\n");
+                break;
+            default:
+                optDiag.getProgressArea().append("  " + Localization.lang("Error while writing") + " '"
+                        + result.getFile().get() + "':\n");
+                optDiag.getProgressArea().append("    " + result.getError().get().getLocalizedMessage() + "\n");
+                break;
+            }
+        });
+    }
+
     @Override
     public void update() {
         if (!goOn) {
@@ -201,6 +201,9 @@ public class WriteXMPAction extends AbstractWorker {
                 @Override
                 public void actionPerformed(ActionEvent e) {
                     canceled = true;
+                    if (xmpWriter != null) {
+                        xmpWriter.cancel();
+                    }
                 }
             };
             cancelButton.addActionListener(cancel);
@@ -172,7 +172,7 @@ public class LinkedFilesEditorViewModel extends AbstractEditorViewModel {
     public void fetchFulltext() {
         FulltextFetchers fetcher = new FulltextFetchers(Globals.prefs.getImportFormatPreferences());
         BackgroundTask
-                .wrap(() -> fetcher.findFullTextPDF(entry))
+                .wrap(() -> fetcher.findFullTextPDFConcurrently(entry))
                 .onRunning(() -> fulltextLookupInProgress.setValue(true))
                 .onFinished(() -> fulltextLookupInProgress.setValue(false))
                 .onSuccess(url -> {
@@ -5,13 +5,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
 
 import javax.swing.SwingWorker;
 
 import org.jabref.gui.BasePanel;
 import org.jabref.gui.JabRefFrame;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.search.DatabaseSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.entry.BibEntry;
 
@@ -41,9 +41,7 @@ class GlobalSearchWorker extends SwingWorker<Map<BasePanel, List<BibEntry>>, Voi
     protected Map<BasePanel, List<BibEntry>> doInBackground() throws Exception {
         Map<BasePanel, List<BibEntry>> matches = new HashMap<>();
         for (BasePanel basePanel : frame.getBasePanelList()) {
-            matches.put(basePanel, basePanel.getDatabase().getEntries().parallelStream()
-                    .filter(searchQuery::isMatch)
-                    .collect(Collectors.toList()));
+            matches.put(basePanel, new DatabaseSearcher(searchQuery, basePanel.getDatabase()).getMatchingEntries());
         }
         return matches;
     }
@@ -3,7 +3,6 @@ package org.jabref.gui.search;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
 
 import javax.swing.SwingWorker;
 
@@ -11,6 +10,7 @@ import org.jabref.JabRefGUI;
 import org.jabref.gui.BasePanel;
 import org.jabref.gui.BasePanelMode;
 import org.jabref.gui.maintable.MainTableDataModel;
+import org.jabref.logic.search.DatabaseSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
@@ -42,9 +42,7 @@ class SearchWorker extends SwingWorker<List<BibEntry>, Void> {
 
     @Override
     protected List<BibEntry> doInBackground() throws Exception {
-        return database.getEntries().parallelStream()
-                .filter(searchQuery::isMatch)
-                .collect(Collectors.toList());
+        return new DatabaseSearcher(searchQuery, database).getMatchingEntries();
     }
 
     @Override
@@ -109,6 +109,8 @@ public class SharedDatabaseUIManager {
                 Globals.prefs.getKeywordDelimiter(), Globals.prefs.getKeyPattern());
 
         dbmsSynchronizer = bibDatabaseContext.getDBMSSynchronizer();
+        // the synchronizer works in background, the local database is changed on the event dispatch thread only
+        dbmsSynchronizer.setLocalExecutor(SwingUtilities::invokeLater);
         dbmsSynchronizer.openSharedDatabase(dbmsConnectionProperties);
         dbmsSynchronizer.registerListener(this);
         frame.output(Localization.lang("Connection_to_%0_server_established.", dbmsConnectionProperties.getType().toString()));
@@ -137,6 +139,8 @@ public class SharedDatabaseUIManager {
         bibDatabaseContext.setDatabaseFile(parserResult.getDatabaseContext().getDatabaseFile().orElse(null));
 
         dbmsSynchronizer = bibDatabaseContext.getDBMSSynchronizer();
+        // the synchronizer works in background, the local database is changed on the event dispatch thread only
+        dbmsSynchronizer.setLocalExecutor(SwingUtilities::invokeLater);
         dbmsSynchronizer.openSharedDatabase(dbmsConnectionProperties);
         dbmsSynchronizer.registerListener(this);
         parserResult.setDatabaseContext(bibDatabaseContext);
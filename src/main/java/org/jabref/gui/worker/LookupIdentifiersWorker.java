@@ -8,8 +8,8 @@ import org.jabref.gui.BasePanel;
 import org.jabref.gui.JabRefFrame;
 import org.jabref.gui.undo.NamedCompound;
 import org.jabref.gui.undo.UndoableFieldChange;
-import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.IdFetcher;
+import org.jabref.logic.importer.IdLookupService;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.FieldChange;
 import org.jabref.model.entry.BibEntry;
@@ -26,6 +26,11 @@ public class LookupIdentifiersWorker<T extends Identifier> extends AbstractWorke
 
     private String message;
 
+    private String totalCount;
+    private NamedCompound namedCompound;
+    private int count;
+    private int foundCount;
+
     public LookupIdentifiersWorker(JabRefFrame frame, IdFetcher<T> fetcher) {
         this.frame = Objects.requireNonNull(frame);
         this.fetcher = Objects.requireNonNull(fetcher);
@@ -36,30 +41,15 @@ public class LookupIdentifiersWorker<T extends Identifier> extends AbstractWorke
         BasePanel basePanel = Objects.requireNonNull(frame.getCurrentBasePanel());
         List<BibEntry> bibEntries = basePanel.getSelectedEntries();
         if (!bibEntries.isEmpty()) {
-            String totalCount = Integer.toString(bibEntries.size());
-            NamedCompound namedCompound = new NamedCompound(Localization.lang("Look up %0", fetcher.getIdentifierName()));
-            int count = 0;
-            int foundCount = 0;
-            for (BibEntry bibEntry : bibEntries) {
-                count++;
-                frame.output(Localization.lang("Looking up %0... - entry %1 out of %2 - found %3",
-                        fetcher.getIdentifierName(), Integer.toString(count), totalCount, Integer.toString(foundCount)));
-                Optional<T> identifier = Optional.empty();
-                try {
-                    identifier = fetcher.findIdentifier(bibEntry);
-                } catch (FetcherException e) {
-                    LOGGER.error("Could not fetch " + fetcher.getIdentifierName(), e);
-                }
-                if (identifier.isPresent() && !bibEntry.hasField(identifier.get().getDefaultField())) {
-                    Optional<FieldChange> fieldChange = bibEntry.setField(identifier.get().getDefaultField(), identifier.get().getNormalized());
-                    if (fieldChange.isPresent()) {
-                        namedCompound.addEdit(new UndoableFieldChange(fieldChange.get()));
-                        foundCount++;
-                        frame.output(Localization.lang("Looking up %0... - entry %1 out of %2 - found %3",
-                                Integer.toString(count), totalCount, Integer.toString(foundCount)));
-                    }
-                }
-            }
+            totalCount = Integer.toString(bibEntries.size());
+            namedCompound = new NamedCompound(Localization.lang("Look up %0", fetcher.getIdentifierName()));
+            count = 0;
+            foundCount = 0;
+            frame.output(Localization.lang("Looking up %0... - entry %1 out of %2 - found %3",
+                    fetcher.getIdentifierName(), Integer.toString(count), totalCount, Integer.toString(foundCount)));
+
+            new IdLookupService<>(fetcher).lookup(bibEntries, this::lookedUp);
+
             namedCompound.end();
             if (foundCount > 0) {
                 basePanel.getUndoManager().addEdit(namedCompound);
@@ -69,6 +59,23 @@ public class LookupIdentifiersWorker<T extends Identifier> extends AbstractWorke
         }
     }
 
+    private synchronized void lookedUp(IdLookupService.Result<T> result) {
+        count++;
+        result.getError().ifPresent(e -> LOGGER.error("Could not fetch " + fetcher.getIdentifierName(), e));
+
+        BibEntry bibEntry = result.getEntry();
+        Optional<T> identifier = result.getIdentifier();
+        if (identifier.isPresent() && !bibEntry.hasField(identifier.get().getDefaultField())) {
+            Optional<FieldChange> fieldChange = bibEntry.setField(identifier.get().getDefaultField(), identifier.get().getNormalized());
+            if (fieldChange.isPresent()) {
+                namedCompound.addEdit(new UndoableFieldChange(fieldChange.get()));
+                foundCount++;
+            }
+        }
+        frame.output(Localization.lang("Looking up %0... - entry %1 out of %2 - found %3",
+                fetcher.getIdentifierName(), Integer.toString(count), totalCount, Integer.toString(foundCount)));
+    }
+
     @Override
     public void update() {
         frame.output(message);
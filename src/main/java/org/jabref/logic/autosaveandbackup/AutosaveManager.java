@@ -1,13 +1,9 @@
 package org.jabref.logic.autosaveandbackup;
 
+import java.time.Duration;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.AutosaveEvent;
@@ -19,43 +15,47 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 /**
- * Saves the given {@link BibDatabaseContext} on every {@link BibDatabaseContextChangedEvent} by posting a new {@link AutosaveEvent}.
- * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while saving and rejects all redundant save tasks.
+ * Saves the given {@link BibDatabaseContext} on {@link BibDatabaseContextChangedEvent}s by posting a new {@link AutosaveEvent}.
+ * The changes are coalesced by a {@link CoalescingTask}, which prevents a high load while saving: the save starts as
+ * soon as there were no changes for {@link #IDLE_DELAY}, but at the latest after {@link #MAXIMUM_LATENCY}.
  */
 public class AutosaveManager {
 
     private static final Log LOGGER = LogFactory.getLog(AutosaveManager.class);
 
+    private static final Duration IDLE_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAXIMUM_LATENCY = Duration.ofSeconds(10);
+
     private static Set<AutosaveManager> runningInstances = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
-    private final BlockingQueue<Runnable> workerQueue;
-    private final ExecutorService executor;
+    private final CoalescingTask saveTask;
     private final EventBus eventBus;
 
 
     private AutosaveManager(BibDatabaseContext bibDatabaseContext) {
         this.bibDatabaseContext = bibDatabaseContext;
-        this.workerQueue = new ArrayBlockingQueue<>(1);
-        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, workerQueue);
         this.eventBus = new EventBus();
+        this.saveTask = new CoalescingTask(bibDatabaseContext, () -> eventBus.post(new AutosaveEvent()), IDLE_DELAY,
+                MAXIMUM_LATENCY);
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
-        try {
-            executor.submit(() -> {
-                eventBus.post(new AutosaveEvent());
-            });
-        } catch (RejectedExecutionException e) {
-            LOGGER.debug("Rejecting autosave while another save process is already running.");
-        }
+    public void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+        saveTask.request();
     }
 
     private void shutdown() {
         bibDatabaseContext.getDatabase().unregisterListener(this);
         bibDatabaseContext.getMetaData().unregisterListener(this);
-        executor.shutdown();
+        saveTask.shutdown();
+    }
+
+    /**
+     * Returns the time between the first change saved by the last autosave and the end of this autosave.
+     */
+    public Optional<Duration> getLastSaveLatency() {
+        return saveTask.getLastLatency();
     }
 
     /**
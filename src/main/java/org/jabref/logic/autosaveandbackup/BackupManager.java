@@ -5,15 +5,10 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.FileSaveSession;
@@ -30,9 +25,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 /**
- * Backups the given bib database file from {@link BibDatabaseContext} on every {@link BibDatabaseContextChangedEvent}.
- * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
- * rejects all redundant backup tasks.
+ * Backups the given bib database file from {@link BibDatabaseContext} on {@link BibDatabaseContextChangedEvent}s.
+ * The changes are coalesced by a {@link CoalescingTask}, which prevents a high load while making backups: the backup
+ * starts as soon as there were no changes for {@link #IDLE_DELAY}, but at the latest after {@link #MAXIMUM_LATENCY}.
  * This class does not manage the .bak file which is created when opening a database.
  */
 public class BackupManager {
@@ -43,20 +38,22 @@ public class BackupManager {
 
     private static final int MINOR_CHANGES_LIMIT = 5;
 
+    private static final Duration IDLE_DELAY = Duration.ofSeconds(2);
+    private static final Duration MAXIMUM_LATENCY = Duration.ofSeconds(30);
+
     private static Set<BackupManager> runningInstances = new HashSet<>();
 
     private int minorChangesCount = 0;
 
     private final BibDatabaseContext bibDatabaseContext;
     private final JabRefPreferences preferences;
-    private final ExecutorService executor;
-    private final Runnable backupTask = () -> determineBackupPath().ifPresent(this::performBackup);
+    private final CoalescingTask backupTask;
 
     private BackupManager(BibDatabaseContext bibDatabaseContext) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.preferences = JabRefPreferences.getInstance();
-        BlockingQueue<Runnable> workerQueue = new ArrayBlockingQueue<>(1);
-        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, workerQueue);
+        this.backupTask = new CoalescingTask(bibDatabaseContext,
+                () -> determineBackupPath().ifPresent(this::performBackup), IDLE_DELAY, MAXIMUM_LATENCY);
 
         // Listen for change events
         bibDatabaseContext.getDatabase().registerListener(this);
@@ -148,11 +145,14 @@ public class BackupManager {
     }
 
     private void startBackupTask() {
-        try {
-            executor.submit(backupTask);
-        } catch (RejectedExecutionException e) {
-            LOGGER.debug("Rejecting while another backup process is already running.");
-        }
+        backupTask.request();
+    }
+
+    /**
+     * Returns the time between the first change contained in the last backup and the end of this backup.
+     */
+    public Optional<Duration> getLastBackupLatency() {
+        return backupTask.getLastLatency();
     }
 
     /**
@@ -162,7 +162,8 @@ public class BackupManager {
     private void shutdown() {
         bibDatabaseContext.getDatabase().unregisterListener(this);
         bibDatabaseContext.getMetaData().unregisterListener(this);
-        executor.shutdown();
+        // the backup file is deleted anyways, thus a pending backup is not made anymore
+        backupTask.shutdownNow();
         determineBackupPath().ifPresent(this::deleteBackupFile);
     }
 
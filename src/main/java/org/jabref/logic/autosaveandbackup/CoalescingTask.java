@@ -0,0 +1,223 @@
+package org.jabref.logic.autosaveandbackup;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.database.BibDatabaseContext;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * A task (e.g., an autosave or a backup) of a {@link BibDatabaseContext} which runs in the background once it was
+ * requested.
+ * <p>
+ * Requests are coalesced: the task runs after no further request arrived within the idle delay (trailing edge), but at
+ * the latest after the maximum latency since the first request it handles. Thus, a burst of changes results in a
+ * single run and continuous changes result in at most one run per maximum latency.
+ * <p>
+ * All tasks share a small pool of threads. Tasks of the same {@link BibDatabaseContext} never run concurrently, so
+ * that, e.g., a save and a backup of the same file do not interfere: they are queued per context and run one after
+ * another, thus a waiting task does not occupy a thread of the pool.
+ */
+class CoalescingTask {
+
+    private static final Log LOGGER = LogFactory.getLog(CoalescingTask.class);
+
+    private static final int NUMBER_OF_THREADS = 2;
+
+    private static final ScheduledExecutorService EXECUTOR = Executors.newScheduledThreadPool(NUMBER_OF_THREADS,
+            runnable -> {
+                Thread thread = new Thread(runnable, "Autosave and backup");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * One queue per database context serializing all its tasks. Contexts are tracked by identity.
+     */
+    private static final LoadingCache<BibDatabaseContext, SerialQueue> QUEUES = CacheBuilder.newBuilder().weakKeys()
+            .build(CacheLoader.from(SerialQueue::new));
+
+    private final Runnable task;
+    private final SerialQueue queue;
+    private final long idleDelayNanos;
+    private final long maximumLatencyNanos;
+
+    // guarded by this
+    private ScheduledFuture<?> scheduledRun;
+    private long firstRequestNanos;
+    private long lastRequestNanos;
+    private boolean pending;
+    private boolean shutdown;
+
+    private volatile Duration lastLatency;
+    private volatile Duration lastDuration;
+
+    /**
+     * @param bibDatabaseContext the context the task belongs to
+     * @param task               the task to run
+     * @param idleDelay          the time without further requests after which the task runs
+     * @param maximumLatency     the maximum time between a request and the start of the run handling it
+     */
+    CoalescingTask(BibDatabaseContext bibDatabaseContext, Runnable task, Duration idleDelay, Duration maximumLatency) {
+        if (idleDelay.isNegative() || (maximumLatency.compareTo(idleDelay) < 0)) {
+            throw new IllegalArgumentException("The maximum latency must not be shorter than the idle delay");
+        }
+        this.task = Objects.requireNonNull(task);
+        this.queue = QUEUES.getUnchecked(Objects.requireNonNull(bibDatabaseContext));
+        this.idleDelayNanos = idleDelay.toNanos();
+        this.maximumLatencyNanos = maximumLatency.toNanos();
+    }
+
+    /**
+     * Requests a run of the task. Does nothing after {@link #shutdown()}.
+     */
+    synchronized void request() {
+        if (shutdown) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (!pending) {
+            pending = true;
+            firstRequestNanos = now;
+        }
+        lastRequestNanos = now;
+
+        // the scheduled run checks whether it has to wait longer, thus it is not rescheduled on every request
+        if (scheduledRun == null) {
+            scheduledRun = EXECUTOR.schedule(this::runWhenDue, idleDelayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Stops accepting requests. A pending run is started immediately instead of waiting for the delays, so that no
+     * requested run (e.g., a save) is lost. A run which is already in progress is finished.
+     */
+    synchronized void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        boolean runPending = pending;
+        shutdownNow();
+        if (runPending) {
+            long firstRequest = firstRequestNanos;
+            queue.execute(() -> run(firstRequest));
+        }
+    }
+
+    /**
+     * Stops accepting requests and cancels a pending run. A run which is already in progress is finished.
+     */
+    synchronized void shutdownNow() {
+        shutdown = true;
+        pending = false;
+        if (scheduledRun != null) {
+            scheduledRun.cancel(false);
+            scheduledRun = null;
+        }
+    }
+
+    synchronized boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * Returns the time between the first request handled by the last run and the end of this run.
+     */
+    Optional<Duration> getLastLatency() {
+        return Optional.ofNullable(lastLatency);
+    }
+
+    /**
+     * Returns the time the last run took.
+     */
+    Optional<Duration> getLastDuration() {
+        return Optional.ofNullable(lastDuration);
+    }
+
+    private void runWhenDue() {
+        long firstRequest;
+        synchronized (this) {
+            if (shutdown || !pending) {
+                scheduledRun = null;
+                return;
+            }
+
+            long now = System.nanoTime();
+            long due = Math.min(lastRequestNanos + idleDelayNanos, firstRequestNanos + maximumLatencyNanos);
+            if (now < due) {
+                scheduledRun = EXECUTOR.schedule(this::runWhenDue, due - now, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            // requests arriving from now on are handled by the next run
+            firstRequest = firstRequestNanos;
+            pending = false;
+            scheduledRun = null;
+        }
+
+        queue.execute(() -> run(firstRequest));
+    }
+
+    private void run(long firstRequest) {
+        try {
+            long start = System.nanoTime();
+            task.run();
+            long end = System.nanoTime();
+
+            lastDuration = Duration.ofNanos(end - start);
+            lastLatency = Duration.ofNanos(end - firstRequest);
+        } catch (RuntimeException e) {
+            LOGGER.error("Problem occurred while running background task", e);
+        }
+    }
+
+    /**
+     * Runs the given tasks one after another on the shared threads. The next task is submitted only after the previous
+     * one finished, thus no thread waits for a task of the same context.
+     */
+    private static class SerialQueue {
+
+        // guarded by this
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean running;
+
+        synchronized void execute(Runnable task) {
+            tasks.add(task);
+            if (!running) {
+                running = true;
+                EXECUTOR.execute(this::runNext);
+            }
+        }
+
+        private void runNext() {
+            Runnable next;
+            synchronized (this) {
+                next = tasks.poll();
+                if (next == null) {
+                    running = false;
+                    return;
+                }
+            }
+
+            try {
+                next.run();
+            } finally {
+                // give the tasks of other contexts a chance to run in between
+                EXECUTOR.execute(this::runNext);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
+import org.jabref.model.entry.identifier.DOI;
+
+/**
+ * Generates the pairs of entries which have to be checked by {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}
+ * without comparing all pairs of entries ("blocking").
+ * <p>
+ * Two entries become a candidate pair if
+ * <ul>
+ * <li>they share a normalized identifier (DOI, eprint, PMID or ISBN), or</li>
+ * <li>they share an identifier with more entries than the window size (e.g., the ISBN of all papers of a proceedings
+ * volume) and are close to each other when sorting these entries by normalized title, or</li>
+ * <li>they are close to each other (within the window size) when sorting all entries by entry type and normalized
+ * title, or by entry type, normalized last name of the first author and year ("sorted neighbourhood").</li>
+ * </ul>
+ * Entries without identifiers, title and author (or editor) are thus never part of a candidate pair.
+ */
+public class DuplicateCandidateGenerator {
+
+    public static final int DEFAULT_WINDOW_SIZE = 20;
+
+    private static final List<String> IDENTIFIER_FIELDS = Arrays.asList(FieldName.DOI, FieldName.EPRINT, FieldName.PMID,
+            FieldName.ISBN);
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final int windowSize;
+
+    public DuplicateCandidateGenerator() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param windowSize the number of neighbouring entries (including the entry itself) each entry is compared with
+     *                   in the sorted orders
+     */
+    public DuplicateCandidateGenerator(int windowSize) {
+        if (windowSize < 2) {
+            throw new IllegalArgumentException("The window size must be at least 2");
+        }
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Returns all pairs of the given entries that might be duplicates. Each pair is contained once and the pairs are
+     * ordered in the same way as when iterating over all pairs (i, j) with i &lt; j.
+     */
+    public List<DuplicatePair> generateCandidates(List<BibEntry> entries) {
+        Objects.requireNonNull(entries);
+
+        Set<Long> candidates = new HashSet<>();
+        addIdentifierBuckets(entries, candidates);
+        List<Integer> allIndices = IntStream.range(0, entries.size()).boxed().collect(Collectors.toList());
+        addSortedNeighbourhood(entries, allIndices, DuplicateCandidateGenerator::getTitleKey, candidates);
+        addSortedNeighbourhood(entries, allIndices, DuplicateCandidateGenerator::getAuthorKey, candidates);
+
+        long size = entries.size();
+        return candidates.stream()
+                .sorted()
+                .map(pair -> new DuplicatePair(entries.get((int) (pair / size)), entries.get((int) (pair % size))))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns all pairs of the given entries that are duplicates according to
+     * {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}.
+     * Only the pairs produced by {@link #generateCandidates(List)} are checked.
+     */
+    public List<DuplicatePair> findDuplicates(List<BibEntry> entries, BibDatabaseMode bibDatabaseMode) {
+        return generateCandidates(entries).stream()
+                .filter(pair -> DuplicateCheck.isDuplicate(pair.getFirst(), pair.getSecond(), bibDatabaseMode))
+                .collect(Collectors.toList());
+    }
+
+    private static long encode(int first, int second, int size) {
+        if (first < second) {
+            return ((long) first * size) + second;
+        } else {
+            return ((long) second * size) + first;
+        }
+    }
+
+    private void addIdentifierBuckets(List<BibEntry> entries, Set<Long> candidates) {
+        Map<String, List<Integer>> buckets = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            for (String field : IDENTIFIER_FIELDS) {
+                final int index = i;
+                getIdentifierKey(entry, field).ifPresent(
+                        key -> buckets.computeIfAbsent(field + ':' + key, k -> new ArrayList<>()).add(index));
+            }
+        }
+
+        for (List<Integer> bucket : buckets.values()) {
+            if (bucket.size() <= windowSize) {
+                for (int i = 0; i < (bucket.size() - 1); i++) {
+                    for (int j = i + 1; j < bucket.size(); j++) {
+                        candidates.add(encode(bucket.get(i), bucket.get(j), entries.size()));
+                    }
+                }
+            } else {
+                // comparing all pairs of large buckets is quadratic, thus only their sorted neighbourhood is added
+                addSortedNeighbourhood(entries, bucket, entry -> Optional.of(getTitleKey(entry).orElse("")),
+                        candidates);
+            }
+        }
+    }
+
+    /**
+     * Adds the pairs of neighbouring entries when sorting the entries at the given indices by the given key. Entries
+     * without key are skipped.
+     */
+    private void addSortedNeighbourhood(List<BibEntry> entries, List<Integer> entryIndices,
+            Function<BibEntry, Optional<String>> keyFunction, Set<Long> candidates) {
+        Map<Integer, String> keys = new HashMap<>();
+        List<Integer> indices = new ArrayList<>(entryIndices.size());
+        for (int i : entryIndices) {
+            Optional<String> key = keyFunction.apply(entries.get(i));
+            if (key.isPresent()) {
+                keys.put(i, key.get());
+                indices.add(i);
+            }
+        }
+        indices.sort((first, second) -> keys.get(first).compareTo(keys.get(second)));
+
+        for (int i = 0; i < indices.size(); i++) {
+            for (int j = i + 1; (j < (i + windowSize)) && (j < indices.size()); j++) {
+                candidates.add(encode(indices.get(i), indices.get(j), entries.size()));
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return NON_ALPHANUMERIC.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static Optional<String> getIdentifierKey(BibEntry entry, String field) {
+        Optional<String> value = entry.getField(field);
+        if (FieldName.DOI.equals(field)) {
+            value = value.map(doi -> DOI.parse(doi).map(DOI::getDOI).orElse(doi));
+        } else if (FieldName.ISBN.equals(field)) {
+            value = value.map(isbn -> isbn.replace("-", ""));
+        }
+        return value.map(DuplicateCandidateGenerator::normalize).filter(key -> !key.isEmpty());
+    }
+
+    private static Optional<String> getTitleKey(BibEntry entry) {
+        return entry.getField(FieldName.TITLE)
+                .map(DuplicateCandidateGenerator::normalize)
+                .filter(title -> !title.isEmpty())
+                .map(title -> entry.getType() + '\u0000' + title);
+    }
+
+    private static Optional<String> getAuthorKey(BibEntry entry) {
+        Optional<String> persons = entry.getField(FieldName.AUTHOR);
+        if (!persons.isPresent()) {
+            persons = entry.getField(FieldName.EDITOR);
+        }
+
+        return persons.map(AuthorList::parse)
+                .filter(authors -> !authors.isEmpty())
+                .map(authors -> normalize(authors.getAuthor(0).getLastOnly()))
+                .filter(lastName -> !lastName.isEmpty())
+                .map(lastName -> entry.getType() + '\u0000' + lastName + '\u0000'
+                        + entry.getField(FieldName.YEAR).orElse(""));
+    }
+}
@@ -12,13 +12,13 @@ import org.jabref.logic.util.strings.StringSimilarity;
 import org.jabref.model.EntryTypes;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseMode;
-import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.EntryType;
 import org.jabref.model.entry.FieldName;
-import org.jabref.model.entry.FieldProperty;
-import org.jabref.model.entry.InternalBibtexFields;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -54,17 +54,40 @@ public class DuplicateCheck {
         DuplicateCheck.FIELD_WEIGHTS.put(FieldName.JOURNAL, 2.);
     }
 
+    private static final List<String> IDENTIFIER_FIELDS = FieldName.getIdentifierFieldNames();
+
+    private static final DuplicateFingerprintCache FINGERPRINT_CACHE = new DuplicateFingerprintCache();
+
+    // getRequiredFieldsFlat() computes the list on each call, thus it is cached per (identical) entry type
+    private static final LoadingCache<EntryType, List<String>> REQUIRED_FIELDS = CacheBuilder.newBuilder().weakKeys()
+            .build(new CacheLoader<EntryType, List<String>>() {
+                @Override
+                public List<String> load(EntryType type) {
+                    return type.getRequiredFieldsFlat();
+                }
+            });
+
+    private static final ThreadLocal<int[][]> EDIT_DISTANCE_BUFFERS = ThreadLocal.withInitial(() -> new int[][]{new int[64], new int[64]});
+
     private DuplicateCheck() {
     }
 
     /**
      * Checks if the two entries represent the same publication.
+     * The comparison is based on the cached {@link DuplicateFingerprint}s of the entries.
      *
      * @param one BibEntry
      * @param two BibEntry
      * @return boolean
      */
     public static boolean isDuplicate(BibEntry one, BibEntry two, BibDatabaseMode bibDatabaseMode) {
+        return isDuplicate(FINGERPRINT_CACHE.getFingerprint(one), FINGERPRINT_CACHE.getFingerprint(two), bibDatabaseMode);
+    }
+
+    /**
+     * Checks if the two fingerprints represent the same publication.
+     */
+    public static boolean isDuplicate(DuplicateFingerprint one, DuplicateFingerprint two, BibDatabaseMode bibDatabaseMode) {
         if (haveSameIdentifier(one, two)) {
             return true;
         }
@@ -80,7 +103,7 @@ public class DuplicateCheck {
 
         EntryType type = EntryTypes.getTypeOrDefault(one.getType(), bibDatabaseMode);
         // The check if they have the same required fields:
-        List<String> var = type.getRequiredFieldsFlat();
+        List<String> var = REQUIRED_FIELDS.getUnchecked(type);
         double[] req;
         if (var == null) {
             req = new double[]{0., 0.};
@@ -102,25 +125,22 @@ public class DuplicateCheck {
         return req[0] >= DuplicateCheck.DUPLICATE_THRESHOLD;
     }
 
-    private static boolean haveDifferentEditions(BibEntry one, BibEntry two) {
-        if (one.getField(FieldName.EDITION).isPresent() && two.getField(FieldName.EDITION).isPresent()) {
-            if (!one.getField(FieldName.EDITION).get().equals(two.getField(FieldName.EDITION).get())) {
-                return true;
-            }
-        }
-        return false;
+    private static boolean haveDifferentEditions(DuplicateFingerprint one, DuplicateFingerprint two) {
+        Optional<String> editionOne = one.getField(FieldName.EDITION);
+        Optional<String> editionTwo = two.getField(FieldName.EDITION);
+        return editionOne.isPresent() && editionTwo.isPresent() && !editionOne.get().equals(editionTwo.get());
     }
 
-    private static boolean haveSameIdentifier(BibEntry one, BibEntry two) {
-        for (String name : FieldName.getIdentifierFieldNames()) {
-            if (one.getField(name).isPresent() && one.getField(name).equals(two.getField(name))) {
+    private static boolean haveSameIdentifier(DuplicateFingerprint one, DuplicateFingerprint two) {
+        for (String name : IDENTIFIER_FIELDS) {
+            if (one.hasField(name) && one.getField(name).equals(two.getField(name))) {
                 return true;
             }
         }
         return false;
     }
 
-    private static double[] compareFieldSet(List<String> fields, BibEntry one, BibEntry two) {
+    private static double[] compareFieldSet(List<String> fields, DuplicateFingerprint one, DuplicateFingerprint two) {
         double res = 0;
         double totWeights = 0.;
         for (String field : fields) {
@@ -140,57 +160,24 @@ public class DuplicateCheck {
         return new double[]{0.5, 0.0};
     }
 
-    private static int compareSingleField(String field, BibEntry one, BibEntry two) {
-        Optional<String> optionalStringOne = one.getField(field);
-        Optional<String> optionalStringTwo = two.getField(field);
-        if (!optionalStringOne.isPresent()) {
-            if (!optionalStringTwo.isPresent()) {
+    private static int compareSingleField(String field, DuplicateFingerprint one, DuplicateFingerprint two) {
+        if (!one.hasField(field)) {
+            if (!two.hasField(field)) {
                 return EMPTY_IN_BOTH;
             }
             return EMPTY_IN_ONE;
-        } else if (!optionalStringTwo.isPresent()) {
+        } else if (!two.hasField(field)) {
             return EMPTY_IN_TWO;
         }
 
-        // Both strings present
-        String stringOne = optionalStringOne.get();
-        String stringTwo = optionalStringTwo.get();
-
-        if (InternalBibtexFields.getFieldProperties(field).contains(FieldProperty.PERSON_NAMES)) {
-            // Specific for name fields.
-            // Harmonise case:
-            String authorOne = AuthorList.fixAuthorLastNameOnlyCommas(stringOne, false).replace(" and ", " ").toLowerCase(Locale.ROOT);
-            String authorTwo = AuthorList.fixAuthorLastNameOnlyCommas(stringTwo, false).replace(" and ", " ").toLowerCase(Locale.ROOT);
-            double similarity = DuplicateCheck.correlateByWords(authorOne, authorTwo);
-            if (similarity > 0.8) {
-                return EQUAL;
-            }
-            return NOT_EQUAL;
-        } else if (FieldName.PAGES.equals(field)) {
-            // Pages can be given with a variety of delimiters, "-", "--", " - ", " -- ".
-            // We do a replace to harmonize these to a simple "-":
-            // After this, a simple test for equality should be enough:
-            stringOne = stringOne.replaceAll("[- ]+", "-");
-            stringTwo = stringTwo.replaceAll("[- ]+", "-");
-            if (stringOne.equals(stringTwo)) {
-                return EQUAL;
-            }
-            return NOT_EQUAL;
-        } else if (FieldName.JOURNAL.equals(field)) {
-            // We do not attempt to harmonize abbreviation state of the journal names,
-            // but we remove periods from the names in case they are abbreviated with
-            // and without dots:
-            stringOne = stringOne.replace(".", "").toLowerCase(Locale.ROOT);
-            stringTwo = stringTwo.replace(".", "").toLowerCase(Locale.ROOT);
-            double similarity = DuplicateCheck.correlateByWords(stringOne, stringTwo);
-            if (similarity > 0.8) {
+        // Both fields present, the normalization was already done when creating the fingerprints
+        if (FieldName.PAGES.equals(field)) {
+            if (one.getPages(field).equals(two.getPages(field))) {
                 return EQUAL;
             }
             return NOT_EQUAL;
         } else {
-            stringOne = stringOne.toLowerCase(Locale.ROOT);
-            stringTwo = stringTwo.toLowerCase(Locale.ROOT);
-            double similarity = DuplicateCheck.correlateByWords(stringOne, stringTwo);
+            double similarity = DuplicateCheck.correlateByWords(one.getWords(field), two.getWords(field));
             if (similarity > 0.8) {
                 return EQUAL;
             }
@@ -246,8 +233,10 @@ public class DuplicateCheck {
      * @return a value in the interval [0, 1] indicating the degree of match.
      */
     public static double correlateByWords(String s1, String s2) {
-        String[] w1 = s1.split("\\s");
-        String[] w2 = s2.split("\\s");
+        return correlateByWords(s1.split("\\s"), s2.split("\\s"));
+    }
+
+    private static double correlateByWords(String[] w1, String[] w2) {
         int n = Math.min(w1.length, w2.length);
         int misses = 0;
         for (int i = 0; i < n; i++) {
@@ -279,8 +268,52 @@ public class DuplicateCheck {
         if (longerLength == 0) {
             return 1.0;
         }
-        double sim = (longerLength - new StringSimilarity().editDistanceIgnoreCase(longer, shorter)) / (double) longerLength;
-        LOGGER.debug("Longer string: " + longer + " Shorter string: " + shorter + " Similarity: " + sim);
+        double sim = (longerLength - editDistanceIgnoreCase(longer, shorter)) / (double) longerLength;
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Longer string: " + longer + " Shorter string: " + shorter + " Similarity: " + sim);
+        }
         return sim;
     }
+
+    /**
+     * Levenshtein distance of the two strings, ignoring case in the same way as
+     * {@link StringSimilarity#editDistanceIgnoreCase(String, String)}.
+     * Reuses per-thread buffers and does not allocate if the strings are already in lower case.
+     */
+    private static int editDistanceIgnoreCase(String first, String second) {
+        String a = first.toLowerCase(Locale.ENGLISH);
+        String b = second.toLowerCase(Locale.ENGLISH);
+        if (a.equals(b)) {
+            return 0;
+        }
+        if (a.isEmpty()) {
+            return b.length();
+        }
+        if (b.isEmpty()) {
+            return a.length();
+        }
+
+        int[][] buffers = EDIT_DISTANCE_BUFFERS.get();
+        if (buffers[0].length <= b.length()) {
+            buffers[0] = new int[b.length() + 1];
+            buffers[1] = new int[b.length() + 1];
+        }
+        int[] previous = buffers[0];
+        int[] current = buffers[1];
+
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 0; i < a.length(); i++) {
+            current[0] = i + 1;
+            for (int j = 0; j < b.length(); j++) {
+                int cost = (a.charAt(i) == b.charAt(j)) ? 0 : 1;
+                current[j + 1] = Math.min(Math.min(current[j] + 1, previous[j + 1] + 1), previous[j] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
 }
@@ -0,0 +1,293 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Checks pairs of entries for duplicates using {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}
+ * on all available cores.
+ * <p>
+ * The comparison space (either all pairs of a list of entries or a list of candidate pairs, see
+ * {@link DuplicateCandidateGenerator}) is recursively split and processed on a fork/join pool. Found duplicates are
+ * handed to the consumer through a bounded queue, which is read using {@link #pollDuplicate(long, TimeUnit)} while
+ * {@link #hasMoreDuplicates()} holds. The detection can be cancelled at any time using {@link #cancel()}.
+ * <p>
+ * An engine can only be started once.
+ */
+public class DuplicateDetectionEngine {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private static final Log LOGGER = LogFactory.getLog(DuplicateDetectionEngine.class);
+
+    /**
+     * Number of comparisons which are done by a single task without further splitting
+     */
+    private static final long COMPARISONS_PER_TASK = 2000;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final BibDatabaseMode bibDatabaseMode;
+    private final BlockingQueue<DuplicatePair> duplicates;
+    private final LongAdder processedPairs = new LongAdder();
+    private final AtomicInteger foundDuplicates = new AtomicInteger();
+
+    private ForkJoinPool pool;
+    private volatile boolean started;
+    private volatile boolean cancelled;
+    private volatile boolean finished;
+    private volatile long totalPairs;
+    private volatile long startTime;
+    private volatile long endTime;
+
+    public DuplicateDetectionEngine(BibDatabaseMode bibDatabaseMode) {
+        this(bibDatabaseMode, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public DuplicateDetectionEngine(BibDatabaseMode bibDatabaseMode, int queueCapacity) {
+        this.bibDatabaseMode = Objects.requireNonNull(bibDatabaseMode);
+        this.duplicates = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Starts checking all pairs of the given entries in the background.
+     */
+    public synchronized void start(List<BibEntry> entries) {
+        List<BibEntry> entriesToCheck = new ArrayList<>(entries);
+        long size = entriesToCheck.size();
+        start((size * (size - 1)) / 2, new AllPairsTask(entriesToCheck, 0, entriesToCheck.size()));
+    }
+
+    /**
+     * Starts checking the given candidate pairs in the background.
+     */
+    public synchronized void startWithCandidates(List<DuplicatePair> candidates) {
+        List<DuplicatePair> pairsToCheck = new ArrayList<>(candidates);
+        start(pairsToCheck.size(), new CandidatesTask(pairsToCheck, 0, pairsToCheck.size()));
+    }
+
+    private void start(long numberOfPairs, RecursiveAction task) {
+        if (started) {
+            throw new IllegalStateException("The duplicate detection was already started");
+        }
+        started = true;
+        totalPairs = numberOfPairs;
+        startTime = System.nanoTime();
+
+        pool = new ForkJoinPool();
+        pool.execute(new RecursiveAction() {
+
+            @Override
+            protected void compute() {
+                try {
+                    task.invoke();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Duplicate detection failed", e);
+                } finally {
+                    endTime = System.nanoTime();
+                    finished = true;
+                }
+            }
+        });
+        pool.shutdown();
+    }
+
+    /**
+     * Stops the detection as soon as possible. Duplicates which were already found can still be retrieved.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Returns whether the detection terminated, i.e., all pairs were checked or the detection was cancelled.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Blocks until the detection terminated.
+     */
+    public void awaitTermination() throws InterruptedException {
+        if (pool != null) {
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns true as long as the detection is running or there are found duplicates which were not retrieved yet.
+     */
+    public boolean hasMoreDuplicates() {
+        return !finished || !duplicates.isEmpty();
+    }
+
+    /**
+     * Retrieves the next found duplicate, waiting up to the given time if none is available yet.
+     *
+     * @return the next duplicate or an empty Optional if none was found within the given time
+     */
+    public Optional<DuplicatePair> pollDuplicate(long timeout, TimeUnit unit) throws InterruptedException {
+        return Optional.ofNullable(duplicates.poll(timeout, unit));
+    }
+
+    public int getNumberOfDuplicates() {
+        return foundDuplicates.get();
+    }
+
+    public long getProcessedPairs() {
+        return processedPairs.sum();
+    }
+
+    public long getTotalPairs() {
+        return totalPairs;
+    }
+
+    /**
+     * Returns the number of checked pairs per second since the start of the detection.
+     */
+    public double getPairsPerSecond() {
+        if (!started) {
+            return 0;
+        }
+        long now = finished ? endTime : System.nanoTime();
+        double elapsedSeconds = (now - startTime) / 1e9;
+        if (elapsedSeconds <= 0) {
+            return 0;
+        }
+        return getProcessedPairs() / elapsedSeconds;
+    }
+
+    /**
+     * Estimates the remaining time of the detection in seconds based on the current throughput.
+     *
+     * @return the estimated number of seconds or an empty Optional if no estimation is possible yet
+     */
+    public Optional<Long> getEstimatedSecondsRemaining() {
+        if (finished) {
+            return Optional.of(0L);
+        }
+        double pairsPerSecond = getPairsPerSecond();
+        if (pairsPerSecond <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of((long) Math.ceil((totalPairs - getProcessedPairs()) / pairsPerSecond));
+    }
+
+    private void check(BibEntry first, BibEntry second) {
+        if (DuplicateCheck.isDuplicate(first, second, bibDatabaseMode)) {
+            foundDuplicates.incrementAndGet();
+            publish(new DuplicatePair(first, second));
+        }
+    }
+
+    private void publish(DuplicatePair pair) {
+        try {
+            // wait for the consumer, but do not block forever if the detection is cancelled in the meantime
+            while (!cancelled && !duplicates.offer(pair, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                LOGGER.debug("Waiting for consumer of found duplicates");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+        }
+    }
+
+    /**
+     * Checks all pairs (i, j) with i in [fromRow, toRow) and i &lt; j.
+     */
+    private class AllPairsTask extends RecursiveAction {
+
+        private final List<BibEntry> entries;
+        private final int fromRow;
+        private final int toRow;
+
+        AllPairsTask(List<BibEntry> entries, int fromRow, int toRow) {
+            this.entries = entries;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        private long getNumberOfComparisons() {
+            // row i is compared with the (size - 1 - i) following entries
+            long size = entries.size();
+            long rows = toRow - fromRow;
+            return (rows * (2 * size - fromRow - toRow - 1)) / 2;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled) {
+                return;
+            }
+
+            if (((toRow - fromRow) > 1) && (getNumberOfComparisons() > COMPARISONS_PER_TASK)) {
+                int middle = (fromRow + toRow) >>> 1;
+                invokeAll(new AllPairsTask(entries, fromRow, middle), new AllPairsTask(entries, middle, toRow));
+                return;
+            }
+
+            for (int i = fromRow; (i < toRow) && !cancelled; i++) {
+                BibEntry first = entries.get(i);
+                int j = i + 1;
+                for (; (j < entries.size()) && !cancelled; j++) {
+                    check(first, entries.get(j));
+                }
+                processedPairs.add(j - i - 1);
+            }
+        }
+    }
+
+    /**
+     * Checks the candidate pairs in [from, to).
+     */
+    private class CandidatesTask extends RecursiveAction {
+
+        private final List<DuplicatePair> candidates;
+        private final int from;
+        private final int to;
+
+        CandidatesTask(List<DuplicatePair> candidates, int from, int to) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled) {
+                return;
+            }
+
+            if ((to - from) > COMPARISONS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CandidatesTask(candidates, from, middle), new CandidatesTask(candidates, middle, to));
+                return;
+            }
+
+            for (int i = from; (i < to) && !cancelled; i++) {
+                DuplicatePair candidate = candidates.get(i);
+                check(candidate.getFirst(), candidate.getSecond());
+                processedPairs.increment();
+            }
+        }
+    }
+}
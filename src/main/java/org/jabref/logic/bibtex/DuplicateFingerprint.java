@@ -0,0 +1,111 @@
+package org.jabref.logic.bibtex;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
+import org.jabref.model.entry.FieldProperty;
+import org.jabref.model.entry.InternalBibtexFields;
+
+/**
+ * Immutable snapshot of all information of an entry which is used by
+ * {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, org.jabref.model.database.BibDatabaseMode)}.
+ * <p>
+ * All fields are normalized once when the fingerprint is created: person names are reduced to their last names,
+ * page ranges are harmonized, and all other fields are lower-cased and split into words. Comparing two fingerprints
+ * thus does not need to parse or allocate any strings.
+ * <p>
+ * Use {@link DuplicateFingerprintCache} to get the (cached) fingerprint of an entry.
+ */
+public final class DuplicateFingerprint {
+
+    private final String type;
+    private final Map<String, String> rawFields;
+    private final Map<String, String> pages;
+    private final Map<String, String[]> words;
+
+    private DuplicateFingerprint(String type, Map<String, String> rawFields, Map<String, String> pages,
+            Map<String, String[]> words) {
+        this.type = type;
+        this.rawFields = Collections.unmodifiableMap(rawFields);
+        this.pages = Collections.unmodifiableMap(pages);
+        this.words = Collections.unmodifiableMap(words);
+    }
+
+    /**
+     * Computes the fingerprint of the current state of the given entry.
+     */
+    public static DuplicateFingerprint of(BibEntry entry) {
+        Objects.requireNonNull(entry);
+
+        Map<String, String> rawFields = new HashMap<>(entry.getFieldMap());
+        Map<String, String> pages = new HashMap<>();
+        Map<String, String[]> words = new HashMap<>();
+        for (Map.Entry<String, String> field : rawFields.entrySet()) {
+            String name = field.getKey();
+            String value = field.getValue();
+            if (InternalBibtexFields.getFieldProperties(name).contains(FieldProperty.PERSON_NAMES)) {
+                // Specific for name fields.
+                // Harmonise case:
+                words.put(name, splitIntoWords(AuthorList.fixAuthorLastNameOnlyCommas(value, false).replace(" and ", " ")));
+            } else if (FieldName.PAGES.equals(name)) {
+                // Pages can be given with a variety of delimiters, "-", "--", " - ", " -- ".
+                // We do a replace to harmonize these to a simple "-":
+                // After this, a simple test for equality should be enough:
+                pages.put(name, value.replaceAll("[- ]+", "-"));
+            } else if (FieldName.JOURNAL.equals(name)) {
+                // We do not attempt to harmonize abbreviation state of the journal names,
+                // but we remove periods from the names in case they are abbreviated with
+                // and without dots:
+                words.put(name, splitIntoWords(value.replace(".", "")));
+            } else {
+                words.put(name, splitIntoWords(value));
+            }
+        }
+        return new DuplicateFingerprint(entry.getType(), rawFields, pages, words);
+    }
+
+    private static String[] splitIntoWords(String text) {
+        String[] result = text.toLowerCase(Locale.ROOT).split("\\s");
+        for (int i = 0; i < result.length; i++) {
+            // the word similarity ignores case based on the English locale
+            result[i] = result[i].toLowerCase(Locale.ENGLISH);
+        }
+        return result;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Returns the unmodified content of the given field.
+     */
+    public Optional<String> getField(String name) {
+        return Optional.ofNullable(rawFields.get(name));
+    }
+
+    public boolean hasField(String name) {
+        return rawFields.containsKey(name);
+    }
+
+    /**
+     * Returns the page range of the given field with harmonized delimiters.
+     */
+    String getPages(String name) {
+        return pages.get(name);
+    }
+
+    /**
+     * Returns the normalized words of the given field, or null if the field is not set or a page field.
+     */
+    String[] getWords(String name) {
+        return words.get(name);
+    }
+}
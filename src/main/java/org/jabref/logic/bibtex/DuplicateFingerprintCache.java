@@ -0,0 +1,46 @@
+package org.jabref.logic.bibtex;
+
+import org.jabref.model.entry.BibEntry;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the {@link DuplicateFingerprint} of entries.
+ * <p>
+ * Entries are held weakly and compared by identity. A fingerprint is stored together with the
+ * {@link BibEntry#getModificationCount() modification count} of its entry and recomputed as soon as the count differs.
+ * Thus, the cache does not need to listen to the entries.
+ */
+public class DuplicateFingerprintCache {
+
+    private final Cache<BibEntry, CachedFingerprint> fingerprints = CacheBuilder.newBuilder().weakKeys().build();
+
+    public DuplicateFingerprint getFingerprint(BibEntry entry) {
+        // read before computing the fingerprint to not miss changes done in the meantime
+        int modificationCount = entry.getModificationCount();
+        CachedFingerprint cached = fingerprints.getIfPresent(entry);
+        if ((cached != null) && (cached.modificationCount == modificationCount)) {
+            return cached.fingerprint;
+        }
+
+        DuplicateFingerprint fingerprint = DuplicateFingerprint.of(entry);
+        fingerprints.put(entry, new CachedFingerprint(modificationCount, fingerprint));
+        return fingerprint;
+    }
+
+    public void invalidate(BibEntry entry) {
+        fingerprints.invalidate(entry);
+    }
+
+    private static class CachedFingerprint {
+
+        private final int modificationCount;
+        private final DuplicateFingerprint fingerprint;
+
+        private CachedFingerprint(int modificationCount, DuplicateFingerprint fingerprint) {
+            this.modificationCount = modificationCount;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.jabref.logic.bibtex;
+
+import java.util.Objects;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Two entries which are (possibly) duplicates of each other.
+ * The first entry is the one which appears first in the list the pair was generated from.
+ */
+public class DuplicatePair {
+
+    private final BibEntry first;
+    private final BibEntry second;
+
+    public DuplicatePair(BibEntry first, BibEntry second) {
+        this.first = Objects.requireNonNull(first);
+        this.second = Objects.requireNonNull(second);
+    }
+
+    public BibEntry getFirst() {
+        return first;
+    }
+
+    public BibEntry getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if ((o == null) || (getClass() != o.getClass())) {
+            return false;
+        }
+        DuplicatePair that = (DuplicatePair) o;
+        return (first == that.first) && (second == that.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(first), System.identityHashCode(second));
+    }
+
+    @Override
+    public String toString() {
+        return "DuplicatePair{" + first.getId() + ", " + second.getId() + '}';
+    }
+}
@@ -0,0 +1,147 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.bibtex.DuplicateCheck;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Determines the entries which have been added, removed, or changed between two versions of a library.
+ * <p>
+ * First, entries with identical fields (including the cite key) are matched by looking up their fields in a hash
+ * table, which takes linear time in the number of entries. Only the remaining entries are compared with each other
+ * using {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)}, where entries having the same cite key are
+ * preferred. As usually only a few entries are changed, the costly comparison is restricted to a small number of
+ * entries.
+ */
+public class BibDatabaseDiff {
+
+    /**
+     * Two entries which are not identical are considered to be versions of the same entry if more than this fraction
+     * of their fields are equal.
+     */
+    public static final double MATCH_THRESHOLD = 0.4;
+
+    private final List<BibEntryDiff> changedEntries = new ArrayList<>();
+    private final List<BibEntry> removedEntries = new ArrayList<>();
+    private final List<BibEntry> addedEntries = new ArrayList<>();
+
+    private BibDatabaseDiff() {
+    }
+
+    /**
+     * Compares the given versions of the entries of a library. The changed and removed entries are reported in the
+     * order of the original entries, the added entries in the order of the new entries.
+     */
+    public static BibDatabaseDiff compare(List<BibEntry> originalEntries, List<BibEntry> newEntries) {
+        BibDatabaseDiff diff = new BibDatabaseDiff();
+
+        // Match identical entries
+        Map<Map<String, String>, Deque<BibEntry>> newEntriesByContent = new HashMap<>();
+        for (BibEntry entry : newEntries) {
+            newEntriesByContent.computeIfAbsent(entry.getFieldMap(), content -> new ArrayDeque<>()).add(entry);
+        }
+        Set<BibEntry> matchedNewEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> unmatchedOriginalEntries = new ArrayList<>();
+        for (BibEntry entry : originalEntries) {
+            Deque<BibEntry> identicalEntries = newEntriesByContent.get(entry.getFieldMap());
+            if ((identicalEntries == null) || identicalEntries.isEmpty()) {
+                unmatchedOriginalEntries.add(entry);
+            } else {
+                matchedNewEntries.add(identicalEntries.poll());
+            }
+        }
+
+        List<BibEntry> unmatchedNewEntries = new ArrayList<>();
+        Map<String, List<BibEntry>> unmatchedNewEntriesByKey = new HashMap<>();
+        for (BibEntry entry : newEntries) {
+            if (!matchedNewEntries.contains(entry)) {
+                unmatchedNewEntries.add(entry);
+                entry.getCiteKeyOptional().ifPresent(key -> unmatchedNewEntriesByKey
+                        .computeIfAbsent(key, k -> new ArrayList<>()).add(entry));
+            }
+        }
+
+        // Match the remaining entries to the most similar ones
+        for (BibEntry entry : unmatchedOriginalEntries) {
+            List<BibEntry> entriesWithSameKey = entry.getCiteKeyOptional().map(unmatchedNewEntriesByKey::get)
+                    .orElse(Collections.emptyList());
+            Optional<BibEntry> match = findBestMatch(entry, entriesWithSameKey, matchedNewEntries);
+            if (!match.isPresent()) {
+                match = findBestMatch(entry, unmatchedNewEntries, matchedNewEntries);
+            }
+
+            if (match.isPresent()) {
+                matchedNewEntries.add(match.get());
+                diff.changedEntries.add(new BibEntryDiff(entry, match.get()));
+            } else {
+                diff.removedEntries.add(entry);
+            }
+        }
+
+        for (BibEntry entry : unmatchedNewEntries) {
+            if (!matchedNewEntries.contains(entry)) {
+                diff.addedEntries.add(entry);
+            }
+        }
+        return diff;
+    }
+
+    private static Optional<BibEntry> findBestMatch(BibEntry entry, List<BibEntry> candidates,
+            Set<BibEntry> matchedEntries) {
+        BibEntry bestMatch = null;
+        double bestScore = MATCH_THRESHOLD;
+        for (BibEntry candidate : candidates) {
+            if (!matchedEntries.contains(candidate)) {
+                double score = DuplicateCheck.compareEntriesStrictly(entry, candidate);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMatch = candidate;
+                }
+            }
+        }
+        return Optional.ofNullable(bestMatch);
+    }
+
+    /**
+     * Pairs of an original entry and the (not identical) new entry it has been changed to.
+     */
+    public List<BibEntryDiff> getChangedEntries() {
+        return Collections.unmodifiableList(changedEntries);
+    }
+
+    /**
+     * Original entries without a corresponding new entry.
+     */
+    public List<BibEntry> getRemovedEntries() {
+        return Collections.unmodifiableList(removedEntries);
+    }
+
+    /**
+     * New entries without a corresponding original entry.
+     */
+    public List<BibEntry> getAddedEntries() {
+        return Collections.unmodifiableList(addedEntries);
+    }
+
+    /**
+     * Creates an index of the given entries by their fields, so that identical entries can be found in constant time.
+     * If several entries are identical, the first one is kept.
+     */
+    public static Map<Map<String, String>, BibEntry> indexByContent(List<BibEntry> entries) {
+        Map<Map<String, String>, BibEntry> index = new HashMap<>(entries.size());
+        for (BibEntry entry : entries) {
+            index.putIfAbsent(entry.getFieldMap(), entry);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,25 @@
+package org.jabref.logic.bibtex.comparator;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * An entry of the original version of a library together with the entry of the new version it has been changed to.
+ */
+public class BibEntryDiff {
+
+    private final BibEntry originalEntry;
+    private final BibEntry newEntry;
+
+    public BibEntryDiff(BibEntry originalEntry, BibEntry newEntry) {
+        this.originalEntry = originalEntry;
+        this.newEntry = newEntry;
+    }
+
+    public BibEntry getOriginalEntry() {
+        return originalEntry;
+    }
+
+    public BibEntry getNewEntry() {
+        return newEntry;
+    }
+}
@@ -3,18 +3,25 @@ package org.jabref.logic.bibtexkeypattern;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Scanner;
+import java.util.Set;
 import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.formatter.Formatters;
 import org.jabref.logic.formatter.casechanger.Word;
 import org.jabref.logic.layout.format.RemoveLatexCommandsFormatter;
+import org.jabref.model.FieldChange;
 import org.jabref.model.bibtexkeypattern.AbstractBibtexKeyPattern;
 import org.jabref.model.cleanup.Formatter;
 import org.jabref.model.database.BibDatabase;
@@ -379,7 +386,129 @@ public class BibtexKeyPatternUtil {
         entry.setCiteKey(newKey);
     }
 
+    /**
+     * Generates BibTeX labels for all given entries and saves the unique labels in the entries. The result is the same
+     * as calling {@link #makeAndSetLabel(AbstractBibtexKeyPattern, BibDatabase, BibEntry, BibtexKeyPatternPreferences)}
+     * for each entry, except that keys which are going to be replaced do not cause collisions.
+     * <p>
+     * The keys are generated in parallel. Collisions are resolved in one pass over a table of all keys, so that the
+     * database is not searched again for every suffix tried.
+     *
+     * @param entries the entries to generate labels for
+     * @return the changes of the keys (entries which keep their key are not contained), in the order of the entries
+     */
+    public static List<FieldChange> makeAndSetLabels(AbstractBibtexKeyPattern citeKeyPattern, BibDatabase database,
+            List<BibEntry> entries, BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
+        List<String> newKeys = makeLabels(citeKeyPattern, database, entries, bibtexKeyPatternPreferences);
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).setCiteKey(newKeys.get(i)).ifPresent(changes::add);
+        }
+        return changes;
+    }
+
+    /**
+     * Generates unique BibTeX labels for all given entries without changing the entries.
+     *
+     * @see #makeAndSetLabels(AbstractBibtexKeyPattern, BibDatabase, List, BibtexKeyPatternPreferences)
+     * @return the new keys in the order of the entries
+     */
+    public static List<String> makeLabels(AbstractBibtexKeyPattern citeKeyPattern, BibDatabase database,
+            List<BibEntry> entries, BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
+        List<String> baseKeys = entries.parallelStream()
+                .map(entry -> makeBaseLabel(citeKeyPattern, database, entry, bibtexKeyPatternPreferences))
+                .collect(Collectors.toList());
+
+        // the keys of the entries for which new keys are generated are free
+        Set<BibEntry> regeneratedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        regeneratedEntries.addAll(entries);
+        Set<String> usedKeys = database.getEntries().stream()
+                .filter(entry -> !regeneratedEntries.contains(entry))
+                .map(BibEntry::getCiteKeyOptional)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toSet());
+
+        // collision table: base key -> positions of the entries having this base key, in the order of the entries
+        Map<String, List<Integer>> entriesByBaseKey = new TreeMap<>();
+        for (int i = 0; i < baseKeys.size(); i++) {
+            entriesByBaseKey.computeIfAbsent(baseKeys.get(i), key -> new ArrayList<>()).add(i);
+        }
+
+        boolean alwaysAddLetter = bibtexKeyPatternPreferences.isAlwaysAddLetter();
+        boolean firstLetterA = bibtexKeyPatternPreferences.isFirstLetterA();
+        int firstNumber = !alwaysAddLetter && !firstLetterA ? 1 : 0;
+
+        Map<Integer, String> newKeys = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> baseKeyAndEntries : entriesByBaseKey.entrySet()) {
+            String key = baseKeyAndEntries.getKey();
+            // suffixes are tried in ascending order, thus the next entry can continue where the previous one stopped
+            int number = firstNumber;
+            for (Integer position : baseKeyAndEntries.getValue()) {
+                String newKey;
+                if (!alwaysAddLetter && !usedKeys.contains(key)) {
+                    newKey = key;
+                } else {
+                    do {
+                        newKey = key + getAddition(number);
+                        number++;
+                    } while (usedKeys.contains(newKey));
+                }
+                usedKeys.add(newKey);
+                newKeys.put(position, newKey);
+            }
+        }
+
+        List<String> result = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            result.add(newKeys.get(i));
+        }
+        return result;
+    }
+
     private static String makeLabel(AbstractBibtexKeyPattern citeKeyPattern, BibDatabase database, BibEntry entry, BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
+        String key = makeBaseLabel(citeKeyPattern, database, entry, bibtexKeyPatternPreferences);
+
+        String oldKey = entry.getCiteKeyOptional().orElse(null);
+        int occurrences = database.getDuplicationChecker().getNumberOfKeyOccurrences(key);
+
+        if (Objects.equals(oldKey, key)) {
+            occurrences--; // No change, so we can accept one dupe.
+        }
+
+        boolean alwaysAddLetter = bibtexKeyPatternPreferences.isAlwaysAddLetter();
+        boolean firstLetterA = bibtexKeyPatternPreferences.isFirstLetterA();
+
+        String newKey;
+        if (!alwaysAddLetter && (occurrences == 0)) {
+            newKey = key;
+        } else {
+            // The key is already in use, so we must modify it.
+            int number = !alwaysAddLetter && !firstLetterA ? 1 : 0;
+            String moddedKey;
+
+            do {
+                moddedKey = key + getAddition(number);
+                number++;
+
+                occurrences = database.getDuplicationChecker().getNumberOfKeyOccurrences(moddedKey);
+                // only happens if #getAddition() is buggy
+                if (Objects.equals(oldKey, moddedKey)) {
+                    occurrences--;
+                }
+            } while (occurrences > 0);
+
+            newKey = moddedKey;
+        }
+        return newKey;
+    }
+
+    /**
+     * Generates the key of the given entry according to the pattern without considering collisions with other keys.
+     */
+    private static String makeBaseLabel(AbstractBibtexKeyPattern citeKeyPattern, BibDatabase database, BibEntry entry,
+            BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
         String key;
         StringBuilder stringBuilder = new StringBuilder();
         try {
@@ -426,39 +555,7 @@ public class BibtexKeyPatternUtil {
             String replacement = bibtexKeyPatternPreferences.getKeyPatternReplacement();
             key = key.replaceAll(regex, replacement);
         }
-
-        String oldKey = entry.getCiteKeyOptional().orElse(null);
-        int occurrences = database.getDuplicationChecker().getNumberOfKeyOccurrences(key);
-
-        if (Objects.equals(oldKey, key)) {
-            occurrences--; // No change, so we can accept one dupe.
-        }
-
-        boolean alwaysAddLetter = bibtexKeyPatternPreferences.isAlwaysAddLetter();
-        boolean firstLetterA = bibtexKeyPatternPreferences.isFirstLetterA();
-
-        String newKey;
-        if (!alwaysAddLetter && (occurrences == 0)) {
-            newKey = key;
-        } else {
-            // The key is already in use, so we must modify it.
-            int number = !alwaysAddLetter && !firstLetterA ? 1 : 0;
-            String moddedKey;
-
-            do {
-                moddedKey = key + getAddition(number);
-                number++;
-
-                occurrences = database.getDuplicationChecker().getNumberOfKeyOccurrences(moddedKey);
-                // only happens if #getAddition() is buggy
-                if (Objects.equals(oldKey, moddedKey)) {
-                    occurrences--;
-                }
-            } while (occurrences > 0);
-
-            newKey = moddedKey;
-        }
-        return newKey;
+        return key;
     }
 
     /**
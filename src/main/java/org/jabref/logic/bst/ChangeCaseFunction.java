@@ -1,7 +1,6 @@
 package org.jabref.logic.bst;
 
 import java.util.Locale;
-import java.util.Stack;
 
 import org.jabref.logic.bst.BibtexCaseChanger.FORMAT_MODE;
 import org.jabref.logic.bst.VM.BstEntry;
@@ -42,7 +41,7 @@ public class ChangeCaseFunction implements BstFunction {
 
     @Override
     public void execute(BstEntry context) {
-        Stack<Object> stack = vm.getStack();
+        OperandStack stack = vm.getStack();
 
         if (stack.size() < 2) {
             throw new VMException("Not enough operands on stack for operation change.case$");
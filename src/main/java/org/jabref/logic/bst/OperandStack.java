@@ -0,0 +1,46 @@
+package org.jabref.logic.bst;
+
+import java.util.Arrays;
+
+/**
+ * The literal stack of the {@link VM}.
+ *
+ * A plain array without any synchronization, as a VM is only ever used by a single thread.
+ */
+public class OperandStack {
+
+    private Object[] elements = new Object[16];
+
+    private int size;
+
+    public void push(Object element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, 2 * size);
+        }
+        elements[size++] = element;
+    }
+
+    public Object pop() {
+        if (size == 0) {
+            throw new VMException("Not enough operands on stack");
+        }
+        Object element = elements[--size];
+        elements[size] = null;
+        return element;
+    }
+
+    public Object peek() {
+        if (size == 0) {
+            throw new VMException("Not enough operands on stack");
+        }
+        return elements[size - 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -1,7 +1,5 @@
 package org.jabref.logic.bst;
 
-import java.util.Stack;
-
 import org.jabref.logic.bst.VM.BstEntry;
 import org.jabref.logic.bst.VM.BstFunction;
 
@@ -31,7 +29,7 @@ public class TextPrefixFunction implements BstFunction {
 
     @Override
     public void execute(BstEntry context) {
-        Stack<Object> stack = vm.getStack();
+        OperandStack stack = vm.getStack();
 
         if (stack.size() < 2) {
             throw new VMException("Not enough operands on stack for operation text.prefix$");
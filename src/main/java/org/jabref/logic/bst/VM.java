@@ -6,10 +6,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
-import java.util.Stack;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -56,10 +56,20 @@ public class VM implements Warn {
 
     private Map<String, BstFunction> functions = new HashMap<>();
 
-    private Stack<Object> stack = new Stack<>();
+    private OperandStack stack = new OperandStack();
 
     private final Map<String, BstFunction> buildInFunctions;
 
+    /**
+     * The compiled FUNCTION bodies, kept across runs as the tree does not change
+     */
+    private final Map<Tree, StackFunction> compiledFunctions = new IdentityHashMap<>();
+
+    /**
+     * Incremented whenever a name is declared, so that compiled functions resolve their names again
+     */
+    private int declarations;
+
     private File file;
 
     private final CommonTree tree;
@@ -354,8 +364,8 @@ public class VM implements Warn {
             Object f2 = stack.pop();
             Object i = stack.pop();
 
-            if (!((f1 instanceof Identifier) || (f1 instanceof Tree))
-                    && ((f2 instanceof Identifier) || (f2 instanceof Tree)) && (i instanceof Integer)) {
+            if (!((f1 instanceof Identifier) || (f1 instanceof StackFunction))
+                    && ((f2 instanceof Identifier) || (f2 instanceof StackFunction)) && (i instanceof Integer)) {
                 throw new VMException("Expecting two functions and an integer for if$.");
             }
 
@@ -499,7 +509,7 @@ public class VM implements Warn {
          * designers while debugging.
          */
         buildInFunctions.put("stack$", context -> {
-            while (!stack.empty()) {
+            while (!stack.isEmpty()) {
                 LOGGER.debug(stack.pop());
             }
         });
@@ -701,8 +711,8 @@ public class VM implements Warn {
         Object f2 = stack.pop();
         Object f1 = stack.pop();
 
-        if (!((f1 instanceof Identifier) || (f1 instanceof Tree))
-                && ((f2 instanceof Identifier) || (f2 instanceof Tree))) {
+        if (!((f1 instanceof Identifier) || (f1 instanceof StackFunction))
+                && ((f2 instanceof Identifier) || (f2 instanceof StackFunction))) {
             throw new VMException("Expecting two functions for while$.");
         }
 
@@ -848,7 +858,8 @@ public class VM implements Warn {
         functions = new HashMap<>();
         functions.putAll(buildInFunctions);
 
-        stack = new Stack<>();
+        stack = new OperandStack();
+        declarations++;
 
         // Create entries
         entries = new ArrayList<>(bibtex.size());
@@ -924,6 +935,7 @@ public class VM implements Warn {
                 e.getFields().put(FieldName.CROSSREF, null);
             }
         }
+        declarations++;
     }
 
     /**
@@ -942,6 +954,7 @@ public class VM implements Warn {
         String name = child.getChild(0).getText();
         String replacement = child.getChild(1).getText();
         functions.put(name, new MacroFunction(replacement));
+        declarations++;
     }
 
     public class MacroFunction implements BstFunction {
@@ -1003,6 +1016,7 @@ public class VM implements Warn {
         for (BstEntry entry : entries) {
             entry.localStrings.put("sort.key$", null);
         }
+        declarations++;
     }
 
     private void reverse(Tree child) {
@@ -1032,9 +1046,8 @@ public class VM implements Warn {
     }
 
     private void executeInContext(Object o, BstEntry context) {
-        if (o instanceof Tree) {
-            Tree t = (Tree) o;
-            new StackFunction(t).execute(context);
+        if (o instanceof StackFunction) {
+            ((StackFunction) o).execute(context);
         } else if (o instanceof Identifier) {
             execute(((Identifier) o).getName(), context);
         }
@@ -1044,13 +1057,25 @@ public class VM implements Warn {
         execute(child.getChild(0).getText(), null);
     }
 
+    /**
+     * A function body compiled to a flat list of instructions.
+     *
+     * The literals are decoded once when compiling, and calls remember what their name refers to, so that executing
+     * the function neither walks the tree nor looks up the name in all variable and function maps again.
+     */
     public class StackFunction implements BstFunction {
 
         private final Tree localTree;
 
+        private final Instruction[] instructions;
+
 
         public StackFunction(Tree stack) {
             localTree = stack;
+            instructions = new Instruction[stack.getChildCount()];
+            for (int i = 0; i < instructions.length; i++) {
+                instructions[i] = compile(stack.getChild(i));
+            }
         }
 
         public Tree getTree() {
@@ -1060,35 +1085,19 @@ public class VM implements Warn {
         @Override
         public void execute(BstEntry context) {
 
-            for (int i = 0; i < localTree.getChildCount(); i++) {
-
-                Tree c = localTree.getChild(i);
+            for (Instruction instruction : instructions) {
                 try {
-
-                    switch (c.getType()) {
-                    case BstParser.STRING:
-                        String s = c.getText();
-                        push(s.substring(1, s.length() - 1));
-                        break;
-                    case BstParser.INTEGER:
-                        push(Integer.parseInt(c.getText().substring(1)));
-                        break;
-                    case BstParser.QUOTED:
-                        push(new Identifier(c.getText().substring(1)));
-                        break;
-                    case BstParser.STACK:
-                        push(c);
-                        break;
-                    default:
-                        VM.this.execute(c.getText(), context);
-                        break;
+                    if (instruction.opcode == Instruction.PUSH) {
+                        stack.push(instruction.operand);
+                    } else {
+                        call(instruction, context);
                     }
                 } catch (VMException e) {
                     if (file == null) {
-                        LOGGER.error("ERROR " + e.getMessage() + " (" + c.getLine() + ")");
+                        LOGGER.error("ERROR " + e.getMessage() + " (" + instruction.line + ")");
                     } else {
                         LOGGER.error("ERROR " + e.getMessage() + " (" + file.getPath() + ":"
-                                + c.getLine() + ")");
+                                + instruction.line + ")");
                     }
                     throw e;
                 }
@@ -1097,8 +1106,135 @@ public class VM implements Warn {
         }
     }
 
-    private void push(Tree t) {
-        stack.push(t);
+    /**
+     * What a name in a compiled function refers to
+     */
+    private enum Binding {
+        FIELD,
+        LOCAL_STRING,
+        LOCAL_INTEGER,
+        GLOBAL_STRING,
+        GLOBAL_INTEGER,
+        FUNCTION,
+        UNKNOWN
+    }
+
+    private static class Instruction {
+
+        private static final int PUSH = 0;
+
+        private static final int CALL = 1;
+
+        private final int opcode;
+
+        /**
+         * The literal to push or the name to call
+         */
+        private final Object operand;
+
+        private final int line;
+
+        /**
+         * The value of {@link VM#declarations} the binding was resolved for
+         */
+        private int resolvedAt = -1;
+
+        private Binding binding;
+
+        private BstFunction function;
+
+
+        private Instruction(int opcode, Object operand, int line) {
+            this.opcode = opcode;
+            this.operand = operand;
+            this.line = line;
+        }
+    }
+
+    private Instruction compile(Tree c) {
+        switch (c.getType()) {
+        case BstParser.STRING:
+            String s = c.getText();
+            return new Instruction(Instruction.PUSH, s.substring(1, s.length() - 1), c.getLine());
+        case BstParser.INTEGER:
+            return new Instruction(Instruction.PUSH, Integer.valueOf(c.getText().substring(1)), c.getLine());
+        case BstParser.QUOTED:
+            return new Instruction(Instruction.PUSH, new Identifier(c.getText().substring(1)), c.getLine());
+        case BstParser.STACK:
+            return new Instruction(Instruction.PUSH, new StackFunction(c), c.getLine());
+        default:
+            return new Instruction(Instruction.CALL, c.getText(), c.getLine());
+        }
+    }
+
+    private void call(Instruction instruction, BstEntry context) {
+        if (instruction.resolvedAt != declarations) {
+            resolve(instruction);
+        }
+
+        String name = (String) instruction.operand;
+        switch (instruction.binding) {
+        case FIELD:
+            if (context != null) {
+                stack.push(context.getFields().get(name));
+                return;
+            }
+            break;
+        case LOCAL_STRING:
+            if (context != null) {
+                stack.push(context.localStrings.get(name));
+                return;
+            }
+            break;
+        case LOCAL_INTEGER:
+            if (context != null) {
+                stack.push(context.localIntegers.get(name));
+                return;
+            }
+            break;
+        case GLOBAL_STRING:
+            stack.push(strings.get(name));
+            return;
+        case GLOBAL_INTEGER:
+            stack.push(integers.get(name));
+            return;
+        case FUNCTION:
+            instruction.function.execute(context);
+            return;
+        default:
+            break;
+        }
+
+        // Entry variables outside of an entry and unknown names
+        execute(name, context);
+    }
+
+    /**
+     * Resolves the name of the given call in the same order as {@link #execute(String, BstEntry)}. All entries declare
+     * the same fields and entry variables, so the first one stands for all of them.
+     */
+    private void resolve(Instruction instruction) {
+        String name = (String) instruction.operand;
+        BstEntry prototype = entries.isEmpty() ? null : entries.get(0);
+
+        instruction.function = null;
+        if ((prototype != null) && prototype.getFields().containsKey(name)) {
+            instruction.binding = Binding.FIELD;
+        } else if ((prototype != null) && prototype.localStrings.containsKey(name)) {
+            instruction.binding = Binding.LOCAL_STRING;
+        } else if ((prototype != null) && prototype.localIntegers.containsKey(name)) {
+            instruction.binding = Binding.LOCAL_INTEGER;
+        } else if (strings.containsKey(name)) {
+            instruction.binding = Binding.GLOBAL_STRING;
+        } else if (integers.containsKey(name)) {
+            instruction.binding = Binding.GLOBAL_INTEGER;
+        } else if (functions.containsKey(name)) {
+            instruction.binding = Binding.FUNCTION;
+            instruction.function = functions.get(name);
+        } else {
+            instruction.binding = Binding.UNKNOWN;
+        }
+        instruction.resolvedAt = declarations;
     }
 
     private void execute(String name, BstEntry context) {
@@ -1139,8 +1275,8 @@ public class VM implements Warn {
     private void function(Tree child) {
         String name = child.getChild(0).getText();
         Tree localStack = child.getChild(1);
-        functions.put(name, new StackFunction(localStack));
-
+        functions.put(name, compiledFunctions.computeIfAbsent(localStack, StackFunction::new));
+        declarations++;
     }
 
     /**
@@ -1159,6 +1295,7 @@ public class VM implements Warn {
             String name = t.getChild(i).getText();
             integers.put(name, 0);
         }
+        declarations++;
     }
 
     /**
@@ -1175,6 +1312,7 @@ public class VM implements Warn {
             String name = t.getChild(i).getText();
             strings.put(name, null);
         }
+        declarations++;
     }
 
     public static class BstEntry {
@@ -1229,7 +1367,7 @@ public class VM implements Warn {
         return functions;
     }
 
-    public Stack<Object> getStack() {
+    public OperandStack getStack() {
         return stack;
     }
 
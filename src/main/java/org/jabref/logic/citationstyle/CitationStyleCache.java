@@ -1,7 +1,5 @@
 package org.jabref.logic.citationstyle;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 import org.jabref.model.database.BibDatabaseContext;
@@ -9,17 +7,29 @@ import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.eventbus.Subscribe;
 
 
 /**
  * Caches the generated Citations for quicker access
  * {@link CitationStyleGenerator} generates the citaiton with JavaScript which may take some time
+ * <p>
+ * Only the most recently used citations are kept. The cache may be used from several threads.
  */
 public class CitationStyleCache {
 
-    private CitationStyle citationStyle = CitationStyle.getDefault();
-    private Map<BibEntry, String> citationStylesCache = new HashMap<>();
+    private static final int CACHE_SIZE = 1000;
+
+    private volatile CitationStyle citationStyle = CitationStyle.getDefault();
+    /**
+     * The entries are compared by identity, as the cached citation has to be removed if the entry changes.
+     */
+    private final Cache<BibEntry, String> citationStylesCache = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(CACHE_SIZE)
+            .build();
 
 
     public CitationStyleCache(BibDatabaseContext bibDatabaseContext) {
@@ -35,19 +45,29 @@ public class CitationStyleCache {
      * returns the citation for the given BibEntry and the set CitationStyle
      */
     public String getCitationFor(BibEntry entry) {
-        String citation = citationStylesCache.get(entry);
+        String citation = citationStylesCache.getIfPresent(entry);
         if (citation == null) {
-            citation = CitationStyleGenerator.generateCitation(entry, this.citationStyle.getSource(), CitationStyleOutputFormat.HTML);
-            citationStylesCache.put(entry, citation);
+            CitationStyle style = this.citationStyle;
+            citation = CitationStyleGenerator.generateCitation(entry, style.getSource(), CitationStyleOutputFormat.HTML);
+            put(style, entry, citation);
         }
         return citation;
     }
 
-    public void setCitationStyle(CitationStyle citationStyle) {
+    /**
+     * Caches the citation unless the style has been changed while it was generated.
+     */
+    private synchronized void put(CitationStyle style, BibEntry entry, String citation) {
+        if (style == this.citationStyle) {
+            citationStylesCache.put(entry, citation);
+        }
+    }
+
+    public synchronized void setCitationStyle(CitationStyle citationStyle) {
         Objects.requireNonNull(citationStyle);
         if (!this.citationStyle.equals(citationStyle)) {
             this.citationStyle = citationStyle;
-            this.citationStylesCache.clear();
+            this.citationStylesCache.invalidateAll();
         }
     }
 
@@ -61,7 +81,7 @@ public class CitationStyleCache {
          */
         @Subscribe
         public void listen(EntryChangedEvent entryChangedEvent) {
-            citationStylesCache.remove(entryChangedEvent.getBibEntry());
+            citationStylesCache.invalidate(entryChangedEvent.getBibEntry());
         }
 
         /**
@@ -69,7 +89,7 @@ public class CitationStyleCache {
          */
         @Subscribe
         public void listen(EntryRemovedEvent entryRemovedEvent) {
-            citationStylesCache.remove(entryRemovedEvent.getBibEntry());
+            citationStylesCache.invalidate(entryRemovedEvent.getBibEntry());
         }
     }
 
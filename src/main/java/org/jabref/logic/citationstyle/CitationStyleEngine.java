@@ -0,0 +1,52 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.undercouch.citeproc.CSL;
+import de.undercouch.citeproc.ItemDataProvider;
+import de.undercouch.citeproc.csl.CSLItemData;
+import de.undercouch.citeproc.output.Bibliography;
+
+/**
+ * A citeproc engine for one citation style and output format which can generate any number of bibliographies.
+ * <p>
+ * Creating an engine loads the JavaScript implementation of citeproc and the style, which takes much longer than
+ * generating a bibliography. Thus, engines are reused by {@link CitationStyleGenerator}. An engine must only be used by
+ * one thread at a time.
+ */
+class CitationStyleEngine {
+
+    private final Map<String, CSLItemData> items = new LinkedHashMap<>();
+    private final CSL csl;
+
+    CitationStyleEngine(String style, CitationStyleOutputFormat outputFormat) throws IOException {
+        csl = new CSL(new ItemDataProvider() {
+
+            @Override
+            public CSLItemData retrieveItem(String id) {
+                return items.get(id);
+            }
+
+            @Override
+            public String[] getIds() {
+                return items.keySet().toArray(new String[items.size()]);
+            }
+        }, style);
+        csl.setOutputFormat(outputFormat.getFormat());
+    }
+
+    /**
+     * Generates the bibliography of the given items. The items of previous bibliographies are discarded beforehand.
+     */
+    Bibliography makeBibliography(CSLItemData... itemData) {
+        csl.reset();
+        items.clear();
+        for (CSLItemData item : itemData) {
+            items.put(item.getId(), item);
+        }
+        csl.registerCitationItems(items.keySet().toArray(new String[items.size()]));
+        return csl.makeBibliography();
+    }
+}
@@ -4,15 +4,20 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
 
-import de.undercouch.citeproc.CSL;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import de.undercouch.citeproc.bibtex.BibTeXConverter;
 import de.undercouch.citeproc.csl.CSLItemData;
-import de.undercouch.citeproc.output.Bibliography;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jbibtex.BibTeXEntry;
@@ -29,6 +34,15 @@ public class CitationStyleGenerator {
     private static final Log LOGGER = LogFactory.getLog(CitationStyleGenerator.class);
     private static final BibTeXConverter BIBTEX_CONVERTER = new BibTeXConverter();
 
+    private static final int MAX_IDLE_ENGINES_PER_STYLE = Runtime.getRuntime().availableProcessors();
+    /**
+     * Idle engines per style and output format. Only the most recently used styles are kept, as every engine holds a
+     * JavaScript runtime.
+     */
+    private static final LoadingCache<EngineKey, Queue<CitationStyleEngine>> IDLE_ENGINES = CacheBuilder.newBuilder()
+            .maximumSize(8)
+            .build(CacheLoader.from(key -> new ConcurrentLinkedQueue<>()));
+
     private CitationStyleGenerator() {
     }
 
@@ -66,23 +80,47 @@ public class CitationStyleGenerator {
             for (int i = 0; i < bibEntries.size(); i++) {
                 cslItemData[i] = bibEntryToCSLItemData(bibEntries.get(i));
             }
-            Bibliography bibliography = CSL.makeAdhocBibliography(style, outputFormat.getFormat(), cslItemData);
-            return Arrays.asList(bibliography.getEntries());
+            return withEngine(style, outputFormat,
+                    engine -> Arrays.asList(engine.makeBibliography(cslItemData).getEntries()));
 
         } catch (IOException | ArrayIndexOutOfBoundsException e) {
             LOGGER.error("Could not generate BibEntry citation", e);
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
         } catch (TokenMgrException e) {
             LOGGER.error("Bad character inside BibEntry", e);
-            // sadly one cannot easily retrieve the bad char from the TokenMgrError
-            return Collections.singletonList(new StringBuilder()
-                    .append(Localization.lang("Cannot generate preview based on selected citation style."))
-                    .append(outputFormat.getLineSeparator())
-                    .append(Localization.lang("Bad character inside entry"))
-                    .append(outputFormat.getLineSeparator())
-                    .append(e.getLocalizedMessage())
-                    .toString());
+            return Collections.singletonList(getBadCharacterMessage(e, outputFormat));
+        }
+    }
+
+    private static String getBadCharacterMessage(TokenMgrException e, CitationStyleOutputFormat outputFormat) {
+        // sadly one cannot easily retrieve the bad char from the TokenMgrError
+        return new StringBuilder()
+                .append(Localization.lang("Cannot generate preview based on selected citation style."))
+                .append(outputFormat.getLineSeparator())
+                .append(Localization.lang("Bad character inside entry"))
+                .append(outputFormat.getLineSeparator())
+                .append(e.getLocalizedMessage())
+                .toString();
+    }
+
+    /**
+     * Applies the given function to an idle engine for the given style and output format. A new engine is created if
+     * there is none. Engines are only returned to the pool if the function completed normally, as the state of the
+     * engine is unknown otherwise.
+     */
+    private static <T> T withEngine(String style, CitationStyleOutputFormat outputFormat,
+            Function<CitationStyleEngine, T> function) throws IOException {
+        Queue<CitationStyleEngine> idleEngines = IDLE_ENGINES.getUnchecked(new EngineKey(style, outputFormat));
+        CitationStyleEngine engine = idleEngines.poll();
+        if (engine == null) {
+            engine = new CitationStyleEngine(style, outputFormat);
+        }
+
+        T result = function.apply(engine);
+        if (idleEngines.size() < MAX_IDLE_ENGINES_PER_STYLE) {
+            idleEngines.offer(engine);
         }
+        return result;
     }
 
     /**
@@ -100,4 +138,31 @@ public class CitationStyleGenerator {
         return BIBTEX_CONVERTER.toItemData(bibTeXEntry);
     }
 
+    private static class EngineKey {
+
+        private final String style;
+        private final CitationStyleOutputFormat outputFormat;
+
+        EngineKey(String style, CitationStyleOutputFormat outputFormat) {
+            this.style = Objects.requireNonNull(style);
+            this.outputFormat = Objects.requireNonNull(outputFormat);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            EngineKey other = (EngineKey) o;
+            return style.equals(other.style) && (outputFormat == other.outputFormat);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(style, outputFormat);
+        }
+    }
 }
@@ -40,6 +40,7 @@ import org.jabref.model.metadata.SaveOrderConfig;
 public abstract class BibDatabaseWriter<E extends SaveSession> {
 
     private static final Pattern REFERENCE_PATTERN = Pattern.compile("(#[A-Za-z]+#)"); // Used to detect string references in strings
+    private static final SaveActionsCache SAVE_ACTIONS_CACHE = new SaveActionsCache();
     private final SaveSessionFactory<E> saveSessionFactory;
 
     private E session;
@@ -57,10 +58,8 @@ public abstract class BibDatabaseWriter<E extends SaveSession> {
 
         Optional<FieldFormatterCleanups> saveActions = metaData.getSaveActions();
         saveActions.ifPresent(actions -> {
-            // save actions defined -> apply for every entry
-            for (BibEntry entry : toChange) {
-                changes.addAll(actions.applySaveActions(entry));
-            }
+            // save actions defined -> apply for every entry they may still change
+            changes.addAll(SAVE_ACTIONS_CACHE.applySaveActions(toChange, actions));
         });
 
         return changes;
@@ -152,6 +151,11 @@ public abstract class BibDatabaseWriter<E extends SaveSession> {
 
     /**
      * Saves the database, including only the specified entries.
+     * <p>
+     * The effort for entries which were not changed since they were parsed is kept low: their parsed serialization is
+     * written as it is (unless the file should be reformatted) and the save actions are only applied to entries which
+     * were changed since the save actions were applied to them the last time. The result is written directly to the
+     * writer of the save session.
      */
     public E savePartOfDatabase(BibDatabaseContext bibDatabaseContext,
             List<BibEntry> entries, SavePreferences preferences) throws SaveException {
@@ -25,6 +25,9 @@ public class BibtexDatabaseWriter<E extends SaveSession> extends BibDatabaseWrit
     private static final String COMMENT_PREFIX = "@Comment";
     private static final String PREAMBLE_PREFIX = "@Preamble";
 
+    private BibEntryWriter bibEntryWriter;
+    private LatexFieldFormatterPreferences bibEntryWriterPreferences;
+
     public BibtexDatabaseWriter(SaveSessionFactory<E> saveSessionFactory) {
         super(saveSessionFactory);
     }
@@ -161,10 +164,14 @@ public class BibtexDatabaseWriter<E extends SaveSession> extends BibDatabaseWrit
     @Override
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode, Boolean isReformatFile,
             LatexFieldFormatterPreferences latexFieldFormatterPreferences) throws SaveException {
-        BibEntryWriter bibtexEntryWriter = new BibEntryWriter(
-                new LatexFieldFormatter(latexFieldFormatterPreferences), true);
+        // create the entry writer once per save instead of once per entry
+        if ((bibEntryWriter == null) || (bibEntryWriterPreferences != latexFieldFormatterPreferences)) {
+            bibEntryWriter = new BibEntryWriter(new LatexFieldFormatter(latexFieldFormatterPreferences), true);
+            bibEntryWriterPreferences = latexFieldFormatterPreferences;
+        }
+
         try {
-            bibtexEntryWriter.write(entry, getWriter(), mode, isReformatFile);
+            bibEntryWriter.write(entry, getWriter(), mode, isReformatFile);
         } catch (IOException e) {
             throw new SaveException(e, entry);
         }
@@ -15,14 +15,19 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import org.jabref.JabRefMain;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.logic.layout.LayoutRenderContext;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -33,7 +38,21 @@ public class ExportFormat implements IExportFormat {
 
     private static final String LAYOUT_PREFIX = "/resource/layout/";
 
+    /**
+     * Number of entries which are rendered in parallel before they are written
+     */
+    private static final int CHUNK_SIZE = 1000;
+
     private static final Log LOGGER = LogFactory.getLog(ExportFormat.class);
+
+    /**
+     * Parsed layouts of all export formats. The export formats are created anew whenever the preferences might have
+     * changed, thus the layouts are shared between them and keyed by the layout preferences they were parsed with.
+     */
+    private static final Cache<LayoutKey, CachedLayout> LAYOUT_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(64)
+            .build();
+
     private String displayName;
     private String consoleName;
     private String lfFileName;
@@ -143,23 +162,14 @@ public class ExportFormat implements IExportFormat {
      * Subclasses of ExportFormat are free to override and provide their own
      * implementation.
      *
-     * @param filename the filename
+     * @param name the path of the layout file as returned by {@link #getLayoutPath(String)}
      * @return a newly created reader
      * @throws IOException if the reader could not be created
      */
-    private Reader getReader(String filename) throws IOException {
-        // If this is a custom export, just use the given filename:
-        String dir;
-        if (customExport) {
-            dir = "";
-        } else {
-            dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
-        }
-
+    private Reader getReader(String name) throws IOException {
         // Attempt to get a Reader for the file path given, either by
         // loading it as a resource (from within JAR), or as a normal file. If
         // unsuccessful (e.g. file not found), an IOException is thrown.
-        String name = dir + filename;
         Reader reader;
         // Try loading as a resource first. This works for files inside the JAR:
         URL reso = JabRefMain.class.getResource(name);
@@ -204,8 +214,6 @@ public class ExportFormat implements IExportFormat {
 
         try (VerifyingWriter ps = ss.getWriter()) {
 
-            Layout beginLayout = null;
-
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
             readFormatterFile();
@@ -213,17 +221,12 @@ public class ExportFormat implements IExportFormat {
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + ".begin.layout")) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                beginLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
-            }
+            // If there is no layout, export filter doesn't have a begin file.
+            Optional<Layout> beginLayout = getLayout(lfFileName + ".begin.layout");
             // Write the header
-            if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encoding));
-                missingFormatters.addAll(beginLayout.getMissingFormatters());
+            if (beginLayout.isPresent()) {
+                ps.write(beginLayout.get().doLayout(databaseContext, encoding));
+                missingFormatters.addAll(beginLayout.get().getMissingFormatters());
             }
 
             /*
@@ -236,68 +239,60 @@ public class ExportFormat implements IExportFormat {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(databaseContext, entries, savePreferences);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + ".layout")) {
-                layoutHelper = new LayoutHelper(reader,layoutPreferences);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn(missingFormatters);
-                }
+            Layout defLayout = getLayout(lfFileName + ".layout").orElseThrow(
+                    () -> new IOException("Cannot find layout file: '" + lfFileName + ".layout'."));
+            missingFormatters.addAll(defLayout.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn(missingFormatters);
             }
-            Map<String, Layout> layouts = new HashMap<>();
-            Layout layout;
 
-            ExportFormats.entryNumber = 0;
+            // Get the layouts of all entry types. If there is no type-specific layout, we go with the default one.
+            Map<String, Layout> layouts = new HashMap<>();
             for (BibEntry entry : sorted) {
-                ExportFormats.entryNumber++; // Increment entry counter.
-                // Get the layout
                 String type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type + ".layout")) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
+                if (!layouts.containsKey(type)) {
+                    Optional<Layout> layout = getLayout(lfFileName + '.' + type + ".layout");
+                    layout.ifPresent(typeLayout -> missingFormatters.addAll(typeLayout.getMissingFormatters()));
+                    layouts.put(type, layout.orElse(defLayout));
                 }
+            }
 
-                // Write the entry
-                if (layout != null) {
-                    ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
+            // Write the entries
+            if (layouts.values().stream().anyMatch(Layout::containsGroups)) {
+                // The output of groups depends on the previous entry, thus the entries are rendered in order
+                LayoutRenderContext context = new LayoutRenderContext(0);
+                for (int i = 0; i < sorted.size(); i++) {
+                    context.setEntryNumber(i + 1);
+                    BibEntry entry = sorted.get(i);
+                    ps.write(layouts.get(entry.getType()).doLayout(entry, databaseContext.getDatabase(), context));
+                }
+            } else {
+                // The entries are rendered in parallel, chunk by chunk, and written in order
+                for (int chunkStart = 0; chunkStart < sorted.size(); chunkStart += CHUNK_SIZE) {
+                    String[] chunk = IntStream.range(chunkStart, Math.min(chunkStart + CHUNK_SIZE, sorted.size()))
+                            .parallel()
+                            .mapToObj(i -> {
+                                BibEntry entry = sorted.get(i);
+                                return layouts.get(entry.getType()).doLayout(entry, databaseContext.getDatabase(),
+                                        new LayoutRenderContext(i + 1));
+                            })
+                            .toArray(String[]::new);
+                    for (String renderedEntry : chunk) {
+                        ps.write(renderedEntry);
+                    }
                 }
             }
 
             // Print footer
 
             // changed section - begin (arudert)
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + ".end.layout")) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
-            }
+            // If there is no layout, export filter doesn't have an end file.
+            Optional<Layout> endLayout = getLayout(lfFileName + ".end.layout");
 
             // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, this.encoding));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
+            if (endLayout.isPresent()) {
+                ps.write(endLayout.get().doLayout(databaseContext, this.encoding));
+                missingFormatters.addAll(endLayout.get().getMissingFormatters());
             }
 
             // Clear custom name formatters:
@@ -313,6 +308,43 @@ public class ExportFormat implements IExportFormat {
 
     }
 
+    /**
+     * Returns the path of the given layout file. Layout files of custom exports are given by their path, the ones of
+     * built-in exports are looked up in the layout directory of this format.
+     */
+    private String getLayoutPath(String filename) {
+        if (customExport) {
+            return filename;
+        } else {
+            return LAYOUT_PREFIX + (directory == null ? "" : directory + '/') + filename;
+        }
+    }
+
+    /**
+     * Returns the parsed layout of the given layout file, or an empty Optional if the file does not exist.
+     * <p>
+     * Layouts are parsed only once for the same layout preferences, which include the name formatters read by
+     * {@link #readFormatterFile()}. Only layout files of custom exports are parsed again if they have been modified.
+     */
+    private Optional<Layout> getLayout(String filename) {
+        String path = getLayoutPath(filename);
+        long lastModified = customExport ? new File(path).lastModified() : 0;
+        LayoutKey key = new LayoutKey(path, layoutPreferences.getLayoutCacheKey());
+        CachedLayout cachedLayout = LAYOUT_CACHE.getIfPresent(key);
+        if ((cachedLayout != null) && (cachedLayout.lastModified == lastModified)) {
+            return cachedLayout.layout;
+        }
+
+        Optional<Layout> layout;
+        try (Reader reader = getReader(path)) {
+            layout = Optional.ofNullable(new LayoutHelper(reader, layoutPreferences).getLayoutFromText());
+        } catch (IOException ex) {
+            layout = Optional.empty();
+        }
+        LAYOUT_CACHE.put(key, new CachedLayout(layout, lastModified));
+        return layout;
+    }
+
     @Override
     public void performExport(final BibDatabaseContext databaseContext, Path file, final Charset encoding,
             List<BibEntry> entries) throws Exception {
@@ -366,4 +398,43 @@ public class ExportFormat implements IExportFormat {
         }
         ss.commit(file);
     }
+
+    private static class LayoutKey {
+
+        private final String path;
+        private final Object preferencesKey;
+
+        LayoutKey(String path, Object preferencesKey) {
+            this.path = Objects.requireNonNull(path);
+            this.preferencesKey = preferencesKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            LayoutKey other = (LayoutKey) o;
+            return path.equals(other.path) && Objects.equals(preferencesKey, other.preferencesKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, preferencesKey);
+        }
+    }
+
+    private static class CachedLayout {
+
+        private final Optional<Layout> layout;
+        private final long lastModified;
+
+        CachedLayout(Optional<Layout> layout, long lastModified) {
+            this.layout = layout;
+            this.lastModified = lastModified;
+        }
+    }
 }
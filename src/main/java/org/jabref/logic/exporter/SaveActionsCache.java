@@ -0,0 +1,107 @@
+package org.jabref.logic.exporter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.logic.formatter.casechanger.ProtectTermsFormatter;
+import org.jabref.model.FieldChange;
+import org.jabref.model.cleanup.FieldFormatterCleanup;
+import org.jabref.model.cleanup.FieldFormatterCleanups;
+import org.jabref.model.entry.BibEntry;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Remembers the entries which are not changed by the save actions, as long as the entries are not changed otherwise.
+ * <p>
+ * Save actions are not required to be idempotent. Hence, an entry is only remembered if applying the save actions did
+ * not change it, i.e., if it is a fixed point of the save actions. Applying the same save actions to such an entry
+ * again cannot change it, thus on each save the save actions only have to be applied to the entries which were changed
+ * since. Entries changed by a save action are checked again on the next save. Entries whose save actions change them
+ * on every pass are never remembered, and the save actions are applied to them on every save.
+ * <p>
+ * Entries are held weakly and compared by identity. Instead of listening to the entries, the
+ * {@link BibEntry#getModificationCount() modification count} of an entry is remembered, too.
+ * <p>
+ * The result of the {@link ProtectTermsFormatter} also depends on the protected terms, which are not part of the save
+ * actions. Thus, all entries are forgotten as soon as these terms change.
+ */
+class SaveActionsCache {
+
+    private final Cache<BibEntry, FixedPoint> fixedPoints = CacheBuilder.newBuilder().weakKeys().build();
+    private Set<String> protectedTerms = Collections.emptySet();
+
+    /**
+     * Applies the save actions to the entry unless the entry is known to be unchanged by them.
+     *
+     * @return the changes done to the entry
+     */
+    public List<FieldChange> applySaveActions(BibEntry entry, FieldFormatterCleanups saveActions) {
+        return applySaveActions(Collections.singletonList(entry), saveActions);
+    }
+
+    /**
+     * Applies the save actions to all entries which are not known to be unchanged by them.
+     *
+     * @return the changes done to the entries
+     */
+    public List<FieldChange> applySaveActions(Collection<BibEntry> entries, FieldFormatterCleanups saveActions) {
+        Objects.requireNonNull(saveActions);
+        invalidateIfProtectedTermsChanged(saveActions);
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            changes.addAll(applyToEntry(entry, saveActions));
+        }
+        return changes;
+    }
+
+    private synchronized void invalidateIfProtectedTermsChanged(FieldFormatterCleanups saveActions) {
+        for (FieldFormatterCleanup action : saveActions.getConfiguredActions()) {
+            if (action.getFormatter() instanceof ProtectTermsFormatter) {
+                Set<String> currentTerms = new HashSet<>(
+                        ((ProtectTermsFormatter) action.getFormatter()).getProtectedTerms());
+                if (!currentTerms.equals(protectedTerms)) {
+                    fixedPoints.invalidateAll();
+                    protectedTerms = currentTerms;
+                }
+                return;
+            }
+        }
+    }
+
+    private List<FieldChange> applyToEntry(BibEntry entry, FieldFormatterCleanups saveActions) {
+        // read before applying the actions to not miss changes done in the meantime
+        int modificationCount = entry.getModificationCount();
+        FixedPoint fixedPoint = fixedPoints.getIfPresent(entry);
+        if ((fixedPoint != null) && (fixedPoint.modificationCount == modificationCount)
+                && saveActions.equals(fixedPoint.saveActions)) {
+            return Collections.emptyList();
+        }
+
+        List<FieldChange> changes = saveActions.applySaveActions(entry);
+        if (changes.isEmpty()) {
+            fixedPoints.put(entry, new FixedPoint(modificationCount, saveActions));
+        } else {
+            fixedPoints.invalidate(entry);
+        }
+        return changes;
+    }
+
+    private static class FixedPoint {
+
+        private final int modificationCount;
+        private final FieldFormatterCleanups saveActions;
+
+        private FixedPoint(int modificationCount, FieldFormatterCleanups saveActions) {
+            this.modificationCount = modificationCount;
+            this.saveActions = saveActions;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.formatter.casechanger;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -54,6 +55,16 @@ public class ProtectTermsFormatter implements Formatter {
         return this.format(text, ProtectTermsFormatter.protectedTermsLoader.getProtectedTerms());
     }
 
+    /**
+     * Returns the terms which are currently protected. Unlike the formatter itself, they can change at any time.
+     */
+    public List<String> getProtectedTerms() {
+        if (ProtectTermsFormatter.protectedTermsLoader == null) {
+            return Collections.emptyList();
+        }
+        return ProtectTermsFormatter.protectedTermsLoader.getProtectedTerms();
+    }
+
     @Override
     public String getDescription() {
         return Localization.lang(
@@ -2,9 +2,22 @@ package org.jabref.logic.importer;
 
 import java.io.IOException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 import org.jabref.logic.importer.fetcher.ACS;
 import org.jabref.logic.importer.fetcher.ArXiv;
@@ -23,11 +36,37 @@ import org.apache.commons.logging.LogFactory;
 
 /**
  * Utility class for trying to resolve URLs to full-text PDF for articles.
+ * <p>
+ * The finders are split into publishers and meta searches. Meta searches like Google Scholar are only asked if no
+ * publisher finds a PDF, as they tend to block clients sending many requests.
  */
 public class FulltextFetchers {
     private static final Log LOGGER = LogFactory.getLog(FulltextFetchers.class);
 
+    private static final int MAX_REQUESTS_PER_HOST = 4;
+    private static final int MAX_REQUESTS_PER_META_SEARCH = 1;
+    private static final int MAX_CONCURRENT_ENTRIES = 8;
+    private static final int MAX_CONCURRENT_REQUESTS = 16;
+    private static final Duration PDF_CHECK_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * Shared by all instances, so that the limits also hold if several lookups run at the same time
+     */
+    private static final Map<String, Semaphore> HOST_PERMITS = new ConcurrentHashMap<>();
+
+    /**
+     * Canceling a finder does not abort its running request, thus the number of threads is bounded and the PDF checks
+     * time out.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(MAX_CONCURRENT_REQUESTS, runnable -> {
+        Thread thread = new Thread(runnable, "Fulltext fetcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final List<FulltextFetcher> finders = new ArrayList<>();
+    private final List<FulltextFetcher> metaSearchFinders = new ArrayList<>();
+    private final Executor executor;
 
     public FulltextFetchers(ImportFormatPreferences importFormatPreferences) {
         // Ordering is important, authorities first!
@@ -39,39 +78,216 @@ public class FulltextFetchers {
         finders.add(new ArXiv(importFormatPreferences));
         finders.add(new IEEE());
         // Meta search
-        finders.add(new GoogleScholar(importFormatPreferences));
+        metaSearchFinders.add(new GoogleScholar(importFormatPreferences));
+        executor = EXECUTOR;
     }
 
     public FulltextFetchers(List<FulltextFetcher> fetcher) {
-        finders.addAll(fetcher);
+        this(fetcher, Collections.emptyList());
+    }
+
+    public FulltextFetchers(List<FulltextFetcher> publisherFinders, List<FulltextFetcher> metaSearchFinders) {
+        this(publisherFinders, metaSearchFinders, EXECUTOR);
     }
 
+    FulltextFetchers(List<FulltextFetcher> publisherFinders, List<FulltextFetcher> metaSearchFinders,
+            Executor executor) {
+        finders.addAll(publisherFinders);
+        this.metaSearchFinders.addAll(metaSearchFinders);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Tries the finders one after another in the order of their priority and returns the first URL confirmed to point
+     * to a PDF.
+     */
     public Optional<URL> findFullTextPDF(BibEntry entry) {
-        // for accuracy, fetch DOI first but do not modify entry
+        BibEntry clonedEntry = cloneWithDOI(entry);
+
+        List<FulltextFetcher> allFinders = new ArrayList<>(finders);
+        allFinders.addAll(metaSearchFinders);
+        for (FulltextFetcher finder : allFinders) {
+            try {
+                Optional<URL> result = finder.findFullText(clonedEntry);
+
+                if (result.isPresent() && new URLDownload(result.get().toString()).isPdf()) {
+                    return result;
+                }
+            } catch (IOException | FetcherException e) {
+                LOGGER.debug("Failed to find fulltext PDF at given URL", e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Queries all publisher finders at the same time and returns the first URL confirmed to point to a PDF. The
+     * remaining finders are canceled. The priority of the finders only breaks ties among the finders which have
+     * already finished when a URL is confirmed, so a finder of lower priority finishing first wins.
+     * <p>
+     * If no publisher finds a PDF, the meta search finders are asked one after another.
+     */
+    public Optional<URL> findFullTextPDFConcurrently(BibEntry entry) {
+        BibEntry clonedEntry = cloneWithDOI(entry);
+
+        try {
+            Optional<URL> publisherResult = findConfirmedPDFConcurrently(clonedEntry);
+            if (publisherResult.isPresent()) {
+                return publisherResult;
+            }
+
+            for (FulltextFetcher finder : metaSearchFinders) {
+                Optional<URL> result = findConfirmedPDF(finder, MAX_REQUESTS_PER_META_SEARCH, clonedEntry);
+                if (result.isPresent()) {
+                    return result;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Optional.empty();
+    }
+
+    private Optional<URL> findConfirmedPDFConcurrently(BibEntry entry) throws InterruptedException {
+        CompletionService<Optional<URL>> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<Optional<URL>>> results = new ArrayList<>(finders.size());
+        for (FulltextFetcher finder : finders) {
+            results.add(completionService.submit(() -> findConfirmedPDF(finder, MAX_REQUESTS_PER_HOST, entry)));
+        }
+
+        try {
+            for (int i = 0; i < results.size(); i++) {
+                completionService.take();
+
+                // in the order of priority
+                for (Future<Optional<URL>> result : results) {
+                    Optional<URL> url = getCompletedResult(result);
+                    if (url.isPresent()) {
+                        return url;
+                    }
+                }
+            }
+        } finally {
+            results.forEach(result -> result.cancel(true));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the full text PDFs of all given entries, looking at several entries at the same time.
+     *
+     * @return the URLs in the order of the entries
+     * @see #findFullTextPDFConcurrently(BibEntry)
+     */
+    public List<Optional<URL>> findFullTextPDFs(List<BibEntry> entries) {
+        ExecutorService entryExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_ENTRIES, runnable -> {
+            Thread thread = new Thread(runnable, "Fulltext lookup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Optional<URL>>> futures = new ArrayList<>(entries.size());
+            for (BibEntry entry : entries) {
+                futures.add(entryExecutor.submit(() -> findFullTextPDFConcurrently(entry)));
+            }
+
+            List<Optional<URL>> results = new ArrayList<>(entries.size());
+            for (Future<Optional<URL>> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    LOGGER.debug("Failed to find fulltext PDF", e);
+                    results.add(Optional.empty());
+                }
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.nCopies(entries.size(), Optional.empty());
+        } finally {
+            entryExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns a copy of the entry with its DOI looked up if it has none, as a DOI lets most finders work more
+     * accurately.
+     */
+    private static BibEntry cloneWithDOI(BibEntry entry) {
         BibEntry clonedEntry = (BibEntry) entry.clone();
         Optional<DOI> doi = clonedEntry.getField(FieldName.DOI).flatMap(DOI::parse);
 
         if (!doi.isPresent()) {
+            IdFetcher<DOI> doiFetcher = WebFetchers.getIdFetcherForIdentifier(DOI.class);
             try {
-                WebFetchers.getIdFetcherForIdentifier(DOI.class)
-                        .findIdentifier(clonedEntry)
+                withHostLimit(doiFetcher.getName(), MAX_REQUESTS_PER_HOST, () -> doiFetcher.findIdentifier(clonedEntry))
                         .ifPresent(e -> clonedEntry.setField(FieldName.DOI, e.getDOI()));
-            } catch (FetcherException e) {
+            } catch (IOException | FetcherException e) {
                 LOGGER.debug("Failed to find DOI", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
         }
+        return clonedEntry;
+    }
 
-        for (FulltextFetcher finder : finders) {
-            try {
-                Optional<URL> result = finder.findFullText(clonedEntry);
-
-                if (result.isPresent() && new URLDownload(result.get().toString()).isPdf()) {
+    /**
+     * Asks the finder for the URL of the full text and checks whether it points to a PDF. The finder stands for the site
+     * it queries, so the check of its URL, which mostly goes to the same site, counts against the same limit.
+     */
+    private static Optional<URL> findConfirmedPDF(FulltextFetcher finder, int maxRequests, BibEntry entry)
+            throws InterruptedException {
+        try {
+            return withHostLimit(finder.getClass().getName(), maxRequests, () -> {
+                Optional<URL> result = finder.findFullText(entry);
+                if (result.isPresent() && isPdf(result.get())) {
                     return result;
                 }
-            } catch (IOException | FetcherException e) {
-                LOGGER.debug("Failed to find fulltext PDF at given URL", e);
-            }
+                return Optional.empty();
+            });
+        } catch (IOException | FetcherException e) {
+            LOGGER.debug("Failed to find fulltext PDF at given URL", e);
         }
         return Optional.empty();
     }
+
+    private static boolean isPdf(URL url) throws IOException {
+        URLDownload download = new URLDownload(url);
+        download.setConnectTimeout(PDF_CHECK_TIMEOUT);
+        download.setReadTimeout(PDF_CHECK_TIMEOUT);
+        return download.isPdf();
+    }
+
+    private static Optional<URL> getCompletedResult(Future<Optional<URL>> result) throws InterruptedException {
+        if (!result.isDone() || result.isCancelled()) {
+            return Optional.empty();
+        }
+
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            LOGGER.debug("Failed to find fulltext PDF", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Sends the given request as soon as less than the given number of requests to the given host are running. The
+     * number given first for a host applies.
+     */
+    private static <V> V withHostLimit(String host, int maxRequests, Request<V> request)
+            throws IOException, FetcherException, InterruptedException {
+        Semaphore permits = HOST_PERMITS.computeIfAbsent(host, key -> new Semaphore(maxRequests));
+        permits.acquire();
+        try {
+            return request.send();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request<V> {
+        V send() throws IOException, FetcherException;
+    }
 }
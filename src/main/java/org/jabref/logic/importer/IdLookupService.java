@@ -0,0 +1,214 @@
+package org.jabref.logic.importer;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.identifier.Identifier;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Looks up the identifiers of many entries with an {@link IdFetcher}.
+ * <p>
+ * The lookups run concurrently on a fixed number of threads, but the requests to a single host are limited to a given
+ * rate, which holds for all lookups together. Requests failing with an I/O error (for example, because the server is overloaded) are retried after an
+ * exponentially growing delay. Entries leading to the same query are looked up only once.
+ */
+public class IdLookupService<T extends Identifier> {
+
+    /**
+     * Is called as soon as the identifier of an entry was looked up. As the lookups run concurrently, implementations
+     * have to be thread-safe.
+     */
+    @FunctionalInterface
+    public interface ResultListener<T extends Identifier> {
+        void lookedUp(Result<T> result);
+    }
+
+    public static class Result<T extends Identifier> {
+
+        private final BibEntry entry;
+        private final Optional<T> identifier;
+        private final Optional<FetcherException> error;
+
+        private Result(BibEntry entry, Optional<T> identifier, Optional<FetcherException> error) {
+            this.entry = entry;
+            this.identifier = identifier;
+            this.error = error;
+        }
+
+        public BibEntry getEntry() {
+            return entry;
+        }
+
+        public Optional<T> getIdentifier() {
+            return identifier;
+        }
+
+        public Optional<FetcherException> getError() {
+            return error;
+        }
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(IdLookupService.class);
+
+    private static final int DEFAULT_NUMBER_OF_THREADS = 8;
+    private static final double DEFAULT_REQUESTS_PER_SECOND = 10;
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 1000;
+
+    private final IdFetcher<T> fetcher;
+    private final int numberOfThreads;
+    private final double requestsPerSecond;
+    private final int maxRetries;
+    private final long initialBackoffMillis;
+
+    /**
+     * The rate limiters of all hosts. They are shared by all lookups, so that consecutive or concurrent lookups together
+     * do not exceed the rate of a host. The rate of the first lookup sending requests to a host applies.
+     */
+    private static final Map<String, RateLimiter> RATE_LIMITERS = new ConcurrentHashMap<>();
+
+    public IdLookupService(IdFetcher<T> fetcher) {
+        this(fetcher, DEFAULT_NUMBER_OF_THREADS, DEFAULT_REQUESTS_PER_SECOND, DEFAULT_MAX_RETRIES,
+                DEFAULT_INITIAL_BACKOFF_MILLIS);
+    }
+
+    /**
+     * @param requestsPerSecond    the maximal number of requests per second to a single host, unless another lookup has
+     *                             already sent requests to that host
+     * @param maxRetries           the number of retries after an I/O error
+     * @param initialBackoffMillis the delay before the first retry, which is doubled for every further retry
+     */
+    public IdLookupService(IdFetcher<T> fetcher, int numberOfThreads, double requestsPerSecond, int maxRetries,
+                           long initialBackoffMillis) {
+        this.fetcher = Objects.requireNonNull(fetcher);
+        this.numberOfThreads = Math.max(1, numberOfThreads);
+        this.requestsPerSecond = requestsPerSecond;
+        this.maxRetries = maxRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+    }
+
+    /**
+     * Looks up the identifiers of the given entries and reports every result to the given listener as soon as it is
+     * available. Returns after all entries have been looked up.
+     */
+    public void lookup(Collection<BibEntry> entries, ResultListener<T> listener) {
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "IdLookupService");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Map<String, CompletableFuture<Optional<T>>> queries = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> reports = new ArrayList<>(entries.size());
+        try {
+            for (BibEntry entry : entries) {
+                Query query;
+                try {
+                    query = getQuery(entry);
+                } catch (FetcherException e) {
+                    listener.lookedUp(new Result<>(entry, Optional.empty(), Optional.of(e)));
+                    continue;
+                }
+
+                CompletableFuture<Optional<T>> identifier = queries.computeIfAbsent(query.key,
+                        key -> CompletableFuture.supplyAsync(() -> findIdentifier(entry, query.host), executor));
+                reports.add(identifier.handle((result, throwable) -> {
+                    report(entry, result, throwable, listener);
+                    return null;
+                }));
+            }
+            CompletableFuture.allOf(reports.toArray(new CompletableFuture[reports.size()])).join();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void report(BibEntry entry, Optional<T> identifier, Throwable throwable, ResultListener<T> listener) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        if (cause == null) {
+            listener.lookedUp(new Result<>(entry, identifier, Optional.empty()));
+        } else if (cause instanceof FetcherException) {
+            listener.lookedUp(new Result<>(entry, Optional.empty(), Optional.of((FetcherException) cause)));
+        } else if (!(cause instanceof CancellationException)) {
+            listener.lookedUp(new Result<>(entry, Optional.empty(),
+                    Optional.of(new FetcherException("Could not look up " + fetcher.getIdentifierName(), cause))));
+        }
+    }
+
+    private Optional<T> findIdentifier(BibEntry entry, String host) {
+        for (int attempt = 0; ; attempt++) {
+            RATE_LIMITERS.computeIfAbsent(host, key -> RateLimiter.create(requestsPerSecond)).acquire();
+            try {
+                return fetcher.findIdentifier(entry);
+            } catch (FetcherException e) {
+                if (!(e.getCause() instanceof IOException) || (attempt >= maxRetries)) {
+                    throw new CompletionException(e);
+                }
+
+                long backoff = initialBackoffMillis << attempt;
+                LOGGER.debug("Retrying lookup of " + fetcher.getIdentifierName() + " at " + host + " in " + backoff
+                        + " ms", e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException();
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines which entries lead to the same request. For fetchers building a URL, this is the URL itself.
+     * Otherwise, it is the content of the entry except for its key.
+     */
+    private Query getQuery(BibEntry entry) throws FetcherException {
+        if (fetcher instanceof IdParserFetcher) {
+            try {
+                URL url = ((IdParserFetcher<T>) fetcher).getURLForEntry(entry);
+                return new Query(url.toString(), url.getAuthority());
+            } catch (URISyntaxException | MalformedURLException e) {
+                throw new FetcherException("Search URI is malformed", e);
+            }
+        }
+
+        Map<String, String> fields = new TreeMap<>(entry.getFieldMap());
+        fields.remove(BibEntry.KEY_FIELD);
+        return new Query(entry.getType() + fields, fetcher.getName());
+    }
+
+    private static class Query {
+
+        private final String key;
+
+        /**
+         * The host (and port, if given) the request is sent to, or the name of the fetcher if it is unknown
+         */
+        private final String host;
+
+        private Query(String key, String host) {
+            this.key = key;
+            this.host = host;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.jabref.logic.importer;
 
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Set;
 
 import org.jabref.logic.bibtex.FieldContentParserPreferences;
@@ -15,16 +17,26 @@ public class ImportFormatPreferences {
     private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
     private final FieldContentParserPreferences fieldContentParserPreferences;
     private final boolean keywordSyncEnabled;
+    private final Optional<Path> parsedLibraryCacheDirectory;
 
     public ImportFormatPreferences(Set<CustomImporter> customImportList, Charset encoding, Character keywordSeparator,
             BibtexKeyPatternPreferences bibtexKeyPatternPreferences,
             FieldContentParserPreferences fieldContentParserPreferences, boolean keywordSyncEnabled) {
+        this(customImportList, encoding, keywordSeparator, bibtexKeyPatternPreferences, fieldContentParserPreferences,
+                keywordSyncEnabled, Optional.empty());
+    }
+
+    private ImportFormatPreferences(Set<CustomImporter> customImportList, Charset encoding,
+            Character keywordSeparator, BibtexKeyPatternPreferences bibtexKeyPatternPreferences,
+            FieldContentParserPreferences fieldContentParserPreferences, boolean keywordSyncEnabled,
+            Optional<Path> parsedLibraryCacheDirectory) {
         this.customImportList = customImportList;
         this.encoding = encoding;
         this.keywordSeparator = keywordSeparator;
         this.bibtexKeyPatternPreferences = bibtexKeyPatternPreferences;
         this.fieldContentParserPreferences = fieldContentParserPreferences;
         this.keywordSyncEnabled = keywordSyncEnabled;
+        this.parsedLibraryCacheDirectory = parsedLibraryCacheDirectory;
     }
 
     /**
@@ -51,9 +63,23 @@ public class ImportFormatPreferences {
         return fieldContentParserPreferences;
     }
 
+    /**
+     * Returns the directory in which parsed libraries are cached, if caching is enabled.
+     *
+     * @see ParsedLibraryCache
+     */
+    public Optional<Path> getParsedLibraryCacheDirectory() {
+        return parsedLibraryCacheDirectory;
+    }
+
     public ImportFormatPreferences withEncoding(Charset newEncoding) {
         return new ImportFormatPreferences(customImportList, newEncoding, keywordSeparator, bibtexKeyPatternPreferences,
-                fieldContentParserPreferences, keywordSyncEnabled);
+                fieldContentParserPreferences, keywordSyncEnabled, parsedLibraryCacheDirectory);
+    }
+
+    public ImportFormatPreferences withParsedLibraryCacheDirectory(Path cacheDirectory) {
+        return new ImportFormatPreferences(customImportList, encoding, keywordSeparator, bibtexKeyPatternPreferences,
+                fieldContentParserPreferences, keywordSyncEnabled, Optional.of(cacheDirectory));
     }
 
     /**
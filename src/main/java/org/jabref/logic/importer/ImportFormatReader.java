@@ -1,12 +1,23 @@
 package org.jabref.logic.importer;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.importer.fileformat.BibTeXMLImporter;
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
@@ -28,15 +39,28 @@ import org.jabref.logic.importer.fileformat.RepecNepImporter;
 import org.jabref.logic.importer.fileformat.RisImporter;
 import org.jabref.logic.importer.fileformat.SilverPlatterImporter;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.FileExtensions;
 import org.jabref.logic.xmp.XMPPreferences;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
+import org.jabref.model.util.FileHelper;
 
 public class ImportFormatReader {
 
     public static final String BIBTEX_FORMAT = "BibTeX";
 
+    /**
+     * Runs the importers trying to recognize a file of unknown format. The pool is bounded, so that importers which are
+     * cancelled before they were started never run.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "Import format detection");
+                thread.setDaemon(true);
+                return thread;
+            });
+
     /**
      * All import formats.
      * Sorted accordingly to {@link Importer#compareTo}, which defaults to alphabetically by the name
@@ -161,58 +185,121 @@ public class ImportFormatReader {
      * and keeping the import that seems most promising.
      * <p/>
      * If all fails this method attempts to read this file as bibtex.
+     * <p/>
+     * The file is read only once and shared by all importers working on the decoded content. All importers are tried
+     * concurrently to loading the file as BibTeX. If the latter succeeds, the other imports are cancelled. Otherwise,
+     * the import with the most entries is kept. Ties are resolved in favor of importers supporting the extension of the
+     * file. The attempt to load the file as BibTeX bypasses the parsed library cache, as most files given here are not
+     * libraries which are opened again.
      *
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
     public UnknownFormatImport importUnknownFormat(Path filePath) throws ImportException {
         Objects.requireNonNull(filePath);
 
-        // First, see if it is a BibTeX file:
+        String content;
         try {
-            ParserResult parserResult = OpenDatabase.loadDatabase(filePath.toFile(), importFormatPreferences);
-            if (parserResult.getDatabase().hasEntries() || !parserResult.getDatabase().hasNoStrings()) {
-                parserResult.setFile(filePath.toFile());
-                return new UnknownFormatImport(ImportFormatReader.BIBTEX_FORMAT, parserResult);
-            }
-        } catch (IOException ignore) {
-            // Ignored
+            content = new String(Files.readAllBytes(filePath), importFormatPreferences.getEncoding());
+        } catch (IOException e) {
+            throw new ImportException(Localization.lang("Could not find a suitable import format."), e);
         }
 
-        // stores ref to best result, gets updated at the next loop
-        List<BibEntry> bestResult = null;
-        int bestResultCount = 0;
-        String bestFormatName = null;
+        Future<ParserResult> bibtexImport = EXECUTOR
+                .submit(() -> OpenDatabase.loadDatabase(filePath.toFile(), importFormatPreferences, false));
+        List<Importer> importers = rankImporters(filePath);
+        List<Future<List<BibEntry>>> imports = new ArrayList<>(importers.size());
+        for (Importer importer : importers) {
+            imports.add(EXECUTOR.submit(() -> importEntries(importer, filePath, content)));
+        }
 
-        // Cycle through all importers:
-        for (Importer imFo : getImportFormats()) {
+        try {
+            // First, see if it is a BibTeX file:
             try {
-                if (!imFo.isRecognizedFormat(filePath, importFormatPreferences.getEncoding())) {
-                    continue;
+                ParserResult parserResult = bibtexImport.get();
+                if (parserResult.getDatabase().hasEntries() || !parserResult.getDatabase().hasNoStrings()) {
+                    parserResult.setFile(filePath.toFile());
+                    return new UnknownFormatImport(ImportFormatReader.BIBTEX_FORMAT, parserResult);
                 }
+            } catch (ExecutionException ignore) {
+                // Ignored
+            }
 
-                ParserResult parserResult = imFo.importDatabase(filePath, importFormatPreferences.getEncoding());
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
-
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
-
-                if (entryCount > bestResultCount) {
-                    bestResult = entries;
-                    bestResultCount = bestResult.size();
-                    bestFormatName = imFo.getName();
+            // stores ref to best result, gets updated at the next loop
+            List<BibEntry> bestResult = null;
+            int bestResultCount = 0;
+            String bestFormatName = null;
+
+            for (int i = 0; i < importers.size(); i++) {
+                try {
+                    List<BibEntry> entries = imports.get(i).get();
+                    if (entries.size() > bestResultCount) {
+                        bestResult = entries;
+                        bestResultCount = bestResult.size();
+                        bestFormatName = importers.get(i).getName();
+                    }
+                } catch (ExecutionException ex) {
+                    // The import did not succeed. Go on.
                 }
-            } catch (IOException ex) {
-                // The import did not succeed. Go on.
             }
-        }
 
-        if (bestResult != null) {
-            // we found something
-            ParserResult parserResult = new ParserResult(bestResult);
-            parserResult.setFile(filePath.toFile());
-            return new UnknownFormatImport(bestFormatName, parserResult);
+            if (bestResult != null) {
+                // we found something
+                ParserResult parserResult = new ParserResult(bestResult);
+                parserResult.setFile(filePath.toFile());
+                return new UnknownFormatImport(bestFormatName, parserResult);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImportException(e);
+        } finally {
+            for (Future<List<BibEntry>> remainingImport : imports) {
+                remainingImport.cancel(true);
+            }
         }
 
         throw new ImportException(Localization.lang("Could not find a suitable import format."));
     }
+
+    /**
+     * Returns all importers, where the ones supporting the extension of the given file come first.
+     */
+    private List<Importer> rankImporters(Path filePath) {
+        Optional<String> extension = FileHelper.getFileExtension(filePath);
+        List<Importer> importers = new ArrayList<>(formats);
+        importers.sort(Comparator.comparing(importer -> !supportsExtension(importer, extension)));
+        return importers;
+    }
+
+    private static boolean supportsExtension(Importer importer, Optional<String> extension) {
+        FileExtensions extensions = importer.getExtensions();
+        return extension.isPresent() && (extensions != null)
+                && extensions.getExtensionsAsList().contains(extension.get());
+    }
+
+    /**
+     * Imports the entries of the file if the importer recognizes its format.
+     *
+     * @param content the decoded content of the file, passed to importers not reading the file themselves
+     * @return the non-empty entries, or an empty list if the format is not recognized or the import has been cancelled
+     */
+    private List<BibEntry> importEntries(Importer importer, Path filePath, String content) throws IOException {
+        Charset encoding = importFormatPreferences.getEncoding();
+        ParserResult parserResult;
+        if (importer.readsFileItself()) {
+            if (!importer.isRecognizedFormat(filePath, encoding) || Thread.currentThread().isInterrupted()) {
+                return Collections.emptyList();
+            }
+            parserResult = importer.importDatabase(filePath, encoding);
+        } else {
+            if (!importer.isRecognizedFormat(new BufferedReader(new StringReader(content)))
+                    || Thread.currentThread().isInterrupted()) {
+                return Collections.emptyList();
+            }
+            parserResult = importer.importDatabase(new BufferedReader(new StringReader(content)));
+        }
+
+        List<BibEntry> entries = parserResult.getDatabase().getEntries();
+        BibDatabases.purgeEmptyEntries(entries);
+        return entries;
+    }
 }
@@ -34,6 +34,15 @@ public abstract class Importer implements Comparable<Importer> {
         }
     }
 
+    /**
+     * Returns whether this importer has to read the file itself, for example because the format is binary or because the
+     * importer determines the encoding on its own. Otherwise, the decoded content of the file may be passed to
+     * {@link #isRecognizedFormat(BufferedReader)} and {@link #importDatabase(BufferedReader)} directly.
+     */
+    public boolean readsFileItself() {
+        return false;
+    }
+
     /**
      * Parse the database in the source.
      *
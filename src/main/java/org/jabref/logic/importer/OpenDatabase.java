@@ -2,8 +2,10 @@ package org.jabref.logic.importer;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.importer.util.ConvertLegacyExplicitGroups;
@@ -69,8 +71,25 @@ public class OpenDatabase {
      */
     public static ParserResult loadDatabase(File fileToOpen, ImportFormatPreferences importFormatPreferences)
             throws IOException {
-        ParserResult result = new BibtexImporter(importFormatPreferences).importDatabase(fileToOpen.toPath(),
-                importFormatPreferences.getEncoding());
+        return loadDatabase(fileToOpen, importFormatPreferences, true);
+    }
+
+    /**
+     * Opens a new database.
+     *
+     * @param useParsedLibraryCache whether the parsed library cache may be used if it is enabled in the preferences
+     */
+    static ParserResult loadDatabase(File fileToOpen, ImportFormatPreferences importFormatPreferences,
+            boolean useParsedLibraryCache) throws IOException {
+        BibtexImporter importer = new BibtexImporter(importFormatPreferences);
+        ParserResult result;
+        Optional<Path> cacheDirectory = importFormatPreferences.getParsedLibraryCacheDirectory();
+        if (useParsedLibraryCache && cacheDirectory.isPresent()) {
+            result = new ParsedLibraryCache(cacheDirectory.get(), importFormatPreferences).loadOrParse(
+                    fileToOpen.toPath(), file -> importer.importDatabase(file, importFormatPreferences.getEncoding()));
+        } else {
+            result = importer.importDatabase(fileToOpen.toPath(), importFormatPreferences.getEncoding());
+        }
 
         if (importFormatPreferences.isKeywordSyncEnabled()) {
             for (BibEntry entry : result.getDatabase().getEntries()) {
@@ -0,0 +1,367 @@
+package org.jabref.logic.importer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.logic.exporter.MetaDataSerializer;
+import org.jabref.logic.importer.util.MetaDataParser;
+import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.CustomEntryType;
+import org.jabref.model.entry.EntryType;
+import org.jabref.model.metadata.MetaData;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Caches the result of parsing a bib file in a binary snapshot, so that reopening an unchanged library does not need
+ * to parse it again.
+ * <p>
+ * A snapshot is only used if the path, the size, the modification time and the content hash of the file as well as the
+ * preferences affecting the parser are the same as when it was written. Otherwise, the file is parsed and a new
+ * snapshot is written. Results with warnings are not cached, so that the warnings are shown on every open.
+ * <p>
+ * The snapshot contains the entries, strings, preamble, epilog and meta data. Meta data is stored in its serialized
+ * form (as in the bib file) and parsed again when the snapshot is read.
+ */
+public class ParsedLibraryCache {
+
+    private static final Log LOGGER = LogFactory.getLog(ParsedLibraryCache.class);
+
+    /**
+     * Has to be increased whenever the format of the snapshot changes.
+     */
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAGIC_NUMBER = 0x4A524C43;
+    private static final String FILE_EXTENSION = ".snapshot";
+
+    private final Path cacheDirectory;
+    private final ImportFormatPreferences importFormatPreferences;
+
+    public ParsedLibraryCache(Path cacheDirectory, ImportFormatPreferences importFormatPreferences) {
+        this.cacheDirectory = Objects.requireNonNull(cacheDirectory);
+        this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+    }
+
+    /**
+     * Returns the cached parser result of the given file if the snapshot is still valid. Otherwise, the file is parsed
+     * with the given parser and the result is cached.
+     */
+    public ParserResult loadOrParse(Path file, LibraryParser parser) throws IOException {
+        Path snapshot = getSnapshotPath(file);
+        // the key is determined before parsing, thus a change during parsing invalidates the snapshot
+        FileKey key = FileKey.of(file, getPreferencesFingerprint());
+
+        if (Files.exists(snapshot)) {
+            try {
+                Optional<ParserResult> cachedResult = read(snapshot, key);
+                if (cachedResult.isPresent()) {
+                    LOGGER.debug("Loaded " + file + " from " + snapshot);
+                    cachedResult.get().setFile(file.toFile());
+                    return cachedResult.get();
+                }
+            } catch (IOException | ParseException | RuntimeException e) {
+                LOGGER.info("Could not read cached library " + snapshot + ", parsing " + file, e);
+            }
+        }
+
+        ParserResult result = parser.parse(file);
+        if (isCacheable(result)) {
+            try {
+                write(snapshot, key, result);
+            } catch (IOException e) {
+                LOGGER.warn("Could not cache library " + file + " in " + snapshot, e);
+            }
+        } else {
+            Files.deleteIfExists(snapshot);
+        }
+        return result;
+    }
+
+    Path getSnapshotPath(Path file) {
+        String pathHash = Hashing.sha256()
+                .hashString(file.toAbsolutePath().normalize().toString(), StandardCharsets.UTF_8).toString();
+        return cacheDirectory.resolve(pathHash + FILE_EXTENSION);
+    }
+
+    private static boolean isCacheable(ParserResult result) {
+        return !result.isInvalid() && !result.hasWarnings()
+                && result.getEntryTypes().values().stream().allMatch(type -> type instanceof CustomEntryType);
+    }
+
+    /**
+     * The parsed entries depend on these preferences, thus a snapshot is only valid for the preferences used when it
+     * was written.
+     */
+    private String getPreferencesFingerprint() {
+        return String.join("\u0000", importFormatPreferences.getEncoding().name(),
+                String.valueOf(importFormatPreferences.getKeywordSeparator()),
+                String.join(";", importFormatPreferences.getFieldContentParserPreferences().getNonWrappableFields()));
+    }
+
+    private void write(Path snapshot, FileKey key, ParserResult result) throws IOException {
+        Files.createDirectories(cacheDirectory);
+        // write to a temporary file first, so that a concurrent reader never sees a partially written snapshot
+        Path temporarySnapshot = Files.createTempFile(cacheDirectory, "library", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporarySnapshot)))) {
+                out.writeInt(MAGIC_NUMBER);
+                out.writeInt(FORMAT_VERSION);
+                key.write(out);
+                writeResult(out, result);
+            }
+            Files.move(temporarySnapshot, snapshot, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporarySnapshot);
+        }
+    }
+
+    private void writeResult(DataOutputStream out, ParserResult result) throws IOException {
+        BibDatabase database = result.getDatabase();
+        MetaData metaData = result.getMetaData();
+
+        writeNullableString(out, metaData.getEncoding().map(Charset::name).orElse(null));
+        writeNullableString(out, database.getSharedDatabaseID().orElse(null));
+        writeNullableString(out, database.getPreamble().orElse(null));
+        writeNullableString(out, database.getEpilog());
+
+        Map<String, String> serializedMetaData = MetaDataSerializer.getSerializedStringMap(metaData,
+                new GlobalBibtexKeyPattern(Collections.emptyList()));
+        writeStringMap(out, serializedMetaData);
+
+        List<String> customEntryTypes = new ArrayList<>();
+        for (EntryType type : result.getEntryTypes().values()) {
+            customEntryTypes.add(((CustomEntryType) type).getAsString());
+        }
+        writeStringList(out, customEntryTypes);
+        writeStringList(out, result.getDuplicateKeys());
+
+        out.writeInt(database.getStringCount());
+        for (BibtexString string : database.getStringValues()) {
+            writeString(out, string.getName());
+            writeString(out, string.getContent());
+            writeNullableString(out, string.getParsedSerialization());
+            out.writeBoolean(string.hasChanged());
+        }
+
+        List<BibEntry> entries = database.getEntries();
+        out.writeInt(entries.size());
+        for (BibEntry entry : entries) {
+            writeString(out, entry.getType());
+            writeStringMap(out, entry.getFieldMap());
+            writeString(out, entry.getUserComments());
+            writeNullableString(out, entry.getParsedSerialization());
+            out.writeBoolean(entry.hasChanged());
+        }
+    }
+
+    private Optional<ParserResult> read(Path snapshot, FileKey key) throws IOException, ParseException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+            if ((in.readInt() != MAGIC_NUMBER) || (in.readInt() != FORMAT_VERSION) || !key.equals(FileKey.read(in))) {
+                return Optional.empty();
+            }
+            return Optional.of(readResult(in));
+        }
+    }
+
+    private ParserResult readResult(DataInputStream in) throws IOException, ParseException {
+        BibDatabase database = new BibDatabase();
+
+        Optional<Charset> encoding = Optional.ofNullable(readNullableString(in)).map(Charset::forName);
+        Optional.ofNullable(readNullableString(in)).ifPresent(database::setSharedDatabaseID);
+        Optional.ofNullable(readNullableString(in)).ifPresent(database::setPreamble);
+        database.setEpilog(readNullableString(in));
+
+        MetaData metaData = MetaDataParser.parse(readStringMap(in), importFormatPreferences.getKeywordSeparator());
+        encoding.ifPresent(metaData::setEncoding);
+
+        Map<String, EntryType> entryTypes = new HashMap<>();
+        for (String customEntryType : readStringList(in)) {
+            CustomEntryType.parse(customEntryType).ifPresent(type -> entryTypes.put(type.getName(), type));
+        }
+        List<String> duplicateKeys = readStringList(in);
+
+        int numberOfStrings = in.readInt();
+        for (int i = 0; i < numberOfStrings; i++) {
+            BibtexString string = new BibtexString(readString(in), readString(in));
+            String parsedSerialization = readNullableString(in);
+            boolean changed = in.readBoolean();
+            if ((parsedSerialization != null) && !changed) {
+                string.setParsedSerialization(parsedSerialization);
+            }
+            database.addString(string);
+        }
+
+        int numberOfEntries = in.readInt();
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry(readString(in));
+            entry.setField(readStringMap(in));
+            entry.setCommentsBeforeEntry(readString(in));
+            String parsedSerialization = readNullableString(in);
+            boolean changed = in.readBoolean();
+            if (parsedSerialization != null) {
+                entry.setParsedSerialization(parsedSerialization);
+            }
+            entry.setChanged(changed);
+            entries.add(entry);
+        }
+        database.insertEntries(entries);
+
+        ParserResult result = new ParserResult(database, metaData, entryTypes);
+        duplicateKeys.forEach(result::addDuplicateKey);
+        return result;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        // writeUTF is limited to 64 KB, which is too small for some fields
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+
+    private static void writeStringList(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStringList(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeStringMap(DataOutputStream out, Map<String, String> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, String> readStringMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readString(in));
+        }
+        return map;
+    }
+
+    @FunctionalInterface
+    public interface LibraryParser {
+
+        ParserResult parse(Path file) throws IOException;
+    }
+
+    /**
+     * Identifies the state of a bib file together with the parser preferences.
+     */
+    private static class FileKey {
+
+        private final String path;
+        private final long size;
+        private final long lastModified;
+        private final byte[] contentHash;
+        private final String preferencesFingerprint;
+
+        private FileKey(String path, long size, long lastModified, byte[] contentHash,
+                String preferencesFingerprint) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+            this.preferencesFingerprint = preferencesFingerprint;
+        }
+
+        static FileKey of(Path file, String preferencesFingerprint) throws IOException {
+            long size = Files.size(file);
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            HashCode contentHash = com.google.common.io.Files.asByteSource(file.toFile()).hash(Hashing.sha256());
+            return new FileKey(file.toAbsolutePath().normalize().toString(), size, lastModified,
+                    contentHash.asBytes(), preferencesFingerprint);
+        }
+
+        static FileKey read(DataInputStream in) throws IOException {
+            String path = readString(in);
+            long size = in.readLong();
+            long lastModified = in.readLong();
+            byte[] contentHash = new byte[in.readInt()];
+            in.readFully(contentHash);
+            return new FileKey(path, size, lastModified, contentHash, readString(in));
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            writeString(out, path);
+            out.writeLong(size);
+            out.writeLong(lastModified);
+            out.writeInt(contentHash.length);
+            out.write(contentHash);
+            writeString(out, preferencesFingerprint);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            FileKey other = (FileKey) o;
+            return (size == other.size) && (lastModified == other.lastModified) && path.equals(other.path)
+                    && Arrays.equals(contentHash, other.contentHash)
+                    && preferencesFingerprint.equals(other.preferencesFingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, size, lastModified, Arrays.hashCode(contentHash), preferencesFingerprint);
+        }
+    }
+}
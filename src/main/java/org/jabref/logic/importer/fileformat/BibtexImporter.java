@@ -40,6 +40,11 @@ public class BibtexImporter extends Importer {
         return true;
     }
 
+    @Override
+    public boolean readsFileItself() {
+        return true;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath, Charset defaultEncoding) throws IOException {
         // We want to check if there is a JabRef signature in the file, because that would tell us
@@ -67,7 +72,7 @@ public class BibtexImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences).parse(reader);
+        return new BibtexParser(importFormatPreferences).parseInParallel(reader);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package org.jabref.logic.importer.fileformat;
 
 import java.io.BufferedReader;
+import java.io.CharArrayReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -8,15 +9,18 @@ import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.FieldContentParser;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
@@ -60,8 +64,9 @@ public class BibtexParser implements Parser {
 
     private static final Log LOGGER = LogFactory.getLog(BibtexParser.class);
     private static final Integer LOOKAHEAD = 64;
+    private static final int INITIAL_BUFFER_SIZE = 8192;
     private final FieldContentParser fieldContentParser;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private final StringBuilder pureTextFromFile = new StringBuilder();
     private final ImportFormatPreferences importFormatPreferences;
     private PushbackReader pushbackReader;
     private BibDatabase database;
@@ -69,6 +74,20 @@ public class BibtexParser implements Parser {
     private boolean eof;
     private int line = 1;
     private ParserResult parserResult;
+    /**
+     * The complete input, only set when parsing the entries in parallel. Only the first {@link #inputLength}
+     * characters are used.
+     */
+    private char[] input;
+    private int inputLength;
+    /**
+     * Number of characters read from the input so far
+     */
+    private int position;
+    /**
+     * Entries in the order of the input, only used when parsing the entries in parallel
+     */
+    private final List<Supplier<Optional<ParsedEntry>>> deferredEntries = new ArrayList<>();
 
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences) {
@@ -138,6 +157,7 @@ public class BibtexParser implements Parser {
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
         pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        position = 0;
 
         // Bibtex related contents.
         initializeParserResult();
@@ -153,6 +173,68 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /**
+     * Parses the BibTeX data read from the reader the same way as {@link #parse(Reader)}, but parses the entries in
+     * parallel.
+     * <p>
+     * The reader is consumed completely before parsing. The structure of the file (preamble, strings, comments and
+     * the extent of each entry) is determined sequentially. The entries themselves are parsed by separate parsers on
+     * all available cores and added to the database in the order of the input afterwards. Entries with warnings (e.g.,
+     * a corrupted key) are fine as long as their extent is the one determined before. Only if an entry cannot be
+     * parsed this way (e.g., because of a missing brace), the complete input is parsed sequentially again to get
+     * exactly the same result (including all warnings) as {@link #parse(Reader)}.
+     *
+     * @return ParserResult
+     * @throws IOException
+     */
+    public ParserResult parseInParallel(Reader in) throws IOException {
+        Objects.requireNonNull(in);
+        char[] content = new char[INITIAL_BUFFER_SIZE];
+        int length = 0;
+        int read;
+        while ((read = in.read(content, length, content.length - length)) != -1) {
+            length += read;
+            if (length == content.length) {
+                content = Arrays.copyOf(content, 2 * content.length);
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (isEOFCharacter(content[i])) {
+                // the sequential parser stops at this character, but it would shift the positions of the entries
+                return parse(new CharArrayReader(content, 0, length));
+            }
+        }
+
+        input = content;
+        inputLength = length;
+        deferredEntries.clear();
+        try {
+            ParserResult result = parse(new CharArrayReader(content, 0, length));
+
+            List<Optional<ParsedEntry>> entries = deferredEntries.parallelStream()
+                    .map(Supplier::get)
+                    .collect(Collectors.toList());
+            boolean entriesHaveWarnings = entries.stream()
+                    .anyMatch(entry -> entry.isPresent() && !entry.get().warnings.isEmpty());
+            if (entries.stream().anyMatch(entry -> !entry.isPresent()) || (entriesHaveWarnings && result.hasWarnings())) {
+                // in the latter case, the warnings could only be ordered as in the sequential parser by parsing again
+                LOGGER.debug("Could not parse all entries in parallel, falling back to sequential parsing");
+                return new BibtexParser(importFormatPreferences).parse(new CharArrayReader(content, 0, length));
+            }
+
+            for (Optional<ParsedEntry> entry : entries) {
+                entry.get().warnings.forEach(result::addWarning);
+                insertEntry(entry.get().entry);
+            }
+            return result;
+        } finally {
+            input = null;
+            inputLength = 0;
+            deferredEntries.clear();
+        }
+    }
+
     private void initializeParserResult() {
         database = new BibDatabase();
         entryTypes = new HashMap<>(); // To store custom entry types parsed.
@@ -240,16 +322,29 @@ public class BibtexParser implements Parser {
             // this is at least `@Type`
             String commentsAndEntryTypeDefinition = dumpTextReadSoFarToString();
 
+            if (input != null) {
+                char[] content = input;
+                int start = position;
+                int end = findEndOfEntry(start);
+                int contentLength = inputLength;
+                int startLine = line;
+                if (end >= 0) {
+                    // the entry is parsed later on, possibly in parallel with the other entries
+                    deferredEntries.add(() -> new BibtexParser(importFormatPreferences).parseEntryExactly(type,
+                            commentsAndEntryTypeDefinition, content, contentLength, start, end, startLine));
+                    skip(end - start);
+                    return;
+                }
+            }
+
             BibEntry entry = parseEntry(type);
-            // store comments collected without type definition
-            entry.setCommentsBeforeEntry(
-                    commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@')));
-            // store complete parsed serialization (comments, type definition + type contents)
-            entry.setParsedSerialization(commentsAndEntryTypeDefinition + dumpTextReadSoFarToString());
+            setCommentsAndParsedSerialization(entry, commentsAndEntryTypeDefinition);
 
-            boolean duplicateKey = database.insertEntry(entry);
-            if (duplicateKey) {
-                parserResult.addDuplicateKey(entry.getCiteKey());
+            if (input == null) {
+                insertEntry(entry);
+            } else {
+                // keep the order of the input
+                deferredEntries.add(() -> Optional.of(new ParsedEntry(entry, Collections.emptyList())));
             }
         } catch (IOException ex) {
             LOGGER.debug("Could not parse entry", ex);
@@ -259,6 +354,147 @@ public class BibtexParser implements Parser {
         }
     }
 
+    private void setCommentsAndParsedSerialization(BibEntry entry, String commentsAndEntryTypeDefinition) {
+        // store comments collected without type definition
+        entry.setCommentsBeforeEntry(
+                commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@')));
+        // store complete parsed serialization (comments, type definition + type contents)
+        entry.setParsedSerialization(commentsAndEntryTypeDefinition + dumpTextReadSoFarToString());
+    }
+
+    private void insertEntry(BibEntry entry) {
+        boolean duplicateKey = database.insertEntry(entry);
+        if (duplicateKey) {
+            parserResult.addDuplicateKey(entry.getCiteKey());
+        }
+    }
+
+    /**
+     * Parses the single entry found in content[start, end), which starts in the given line. The entry is only returned
+     * if exactly the given characters were consumed, which means that the sequential parser had produced the same
+     * entry and the same warnings. The characters following the entry are available as lookahead.
+     */
+    private Optional<ParsedEntry> parseEntryExactly(String type, String commentsAndEntryTypeDefinition, char[] content,
+            int contentLength, int start, int end, int startLine) {
+        int length = Math.min(contentLength - start, (end - start) + LOOKAHEAD);
+        pushbackReader = new PushbackReader(new CharArrayReader(content, start, length), LOOKAHEAD);
+        position = 0;
+        line = startLine;
+        initializeParserResult();
+
+        try {
+            BibEntry entry = parseEntry(type);
+            if (position != (end - start)) {
+                return Optional.empty();
+            }
+
+            setCommentsAndParsedSerialization(entry, commentsAndEntryTypeDefinition);
+            return Optional.of(new ParsedEntry(entry, parserResult.warnings()));
+        } catch (IOException ex) {
+            LOGGER.debug("Could not parse entry", ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Determines the end of the entry starting at the given position of the input by matching the braces the same way
+     * {@link #parseEntry(String)} does. The end includes the newline following the entry.
+     *
+     * @return the position after the entry or -1 if the end could not be determined
+     */
+    private int findEndOfEntry(int start) {
+        int index = start;
+        while ((index < inputLength) && Character.isWhitespace(input[index])) {
+            index++;
+        }
+        if ((index >= inputLength) || ((input[index] != '{') && (input[index] != '('))) {
+            return -1;
+        }
+        index++;
+
+        while ((index >= 0) && (index < inputLength)) {
+            char character = input[index];
+            if ((character == '}') || (character == ')')) {
+                // see skipOneNewline
+                index++;
+                while ((index < inputLength) && (input[index] == ' ')) {
+                    index++;
+                }
+                if ((index < inputLength) && (input[index] == '\r')) {
+                    index++;
+                }
+                if ((index < inputLength) && (input[index] == '\n')) {
+                    index++;
+                }
+                return index;
+            } else if (character == '{') {
+                index = findEndOfBracketedText(index);
+            } else if (character == '"') {
+                index = findEndOfQuotedText(index);
+            } else {
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @see #parseBracketedTextExactly()
+     */
+    private int findEndOfBracketedText(int start) {
+        int brackets = 0;
+        char lastCharacter = '\0';
+        for (int index = start + 1; index < inputLength; index++) {
+            char character = input[index];
+            boolean isClosingBracket = (character == '}') && (lastCharacter != '\\');
+            if (isClosingBracket && (brackets == 0)) {
+                return index + 1;
+            } else if ((character == '{') && (!isEscapeSymbol(lastCharacter))) {
+                brackets++;
+            } else if (isClosingBracket) {
+                brackets--;
+            }
+            lastCharacter = character;
+        }
+        return -1;
+    }
+
+    /**
+     * @see #parseQuotedFieldExactly()
+     */
+    private int findEndOfQuotedText(int start) {
+        int brackets = 0;
+        for (int index = start + 1; index < inputLength; index++) {
+            char character = input[index];
+            if ((character == '"') && (brackets == 0)) {
+                return index + 1;
+            } else if (character == '{') {
+                brackets++;
+            } else if (character == '}') {
+                brackets--;
+            }
+        }
+        return -1;
+    }
+
+    private void skip(int count) throws IOException {
+        for (int index = position; index < (position + count); index++) {
+            if (input[index] == '\n') {
+                line++;
+            }
+        }
+
+        long remaining = count;
+        while (remaining > 0) {
+            long skipped = pushbackReader.skip(remaining);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of input");
+            }
+            remaining -= skipped;
+        }
+        position += count;
+    }
+
     private void parseJabRefComment(Map<String, String> meta) {
         StringBuilder buffer = null;
         try {
@@ -359,12 +595,9 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String text = pureTextFromFile.toString();
+        pureTextFromFile.setLength(0);
+        return text;
     }
 
     /**
@@ -372,10 +605,10 @@ public class BibtexParser implements Parser {
      *
      * @return a String without eof characters
      */
-    private String purgeEOFCharacters(String input) {
+    private String purgeEOFCharacters(String text) {
 
         StringBuilder remainingText = new StringBuilder();
-        for (Character character : input.toCharArray()) {
+        for (char character : text.toCharArray()) {
             if (!(isEOFCharacter(character))) {
                 remainingText.append(character);
             }
@@ -470,7 +703,8 @@ public class BibtexParser implements Parser {
         int character = pushbackReader.read();
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            pureTextFromFile.append((char) character);
+            position++;
         }
         if (character == '\n') {
             line++;
@@ -483,8 +717,12 @@ public class BibtexParser implements Parser {
             line--;
         }
         pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        if (!isEOFCharacter(character)) {
+            position--;
+        }
+        int last = pureTextFromFile.length() - 1;
+        if ((last >= 0) && (pureTextFromFile.charAt(last) == character)) {
+            pureTextFromFile.setLength(last);
         }
     }
 
@@ -802,8 +1040,8 @@ public class BibtexParser implements Parser {
 
     }
 
-    private StringBuffer parseBracketedText() throws IOException {
-        StringBuffer value = new StringBuffer();
+    private StringBuilder parseBracketedText() throws IOException {
+        StringBuilder value = new StringBuilder();
 
         consume('{', '(');
 
@@ -947,4 +1185,18 @@ public class BibtexParser implements Parser {
                     + " but received " + (char) character);
         }
     }
+
+    /**
+     * An entry parsed in parallel together with the warnings the sequential parser had reported for it
+     */
+    private static class ParsedEntry {
+
+        private final BibEntry entry;
+        private final List<String> warnings;
+
+        private ParsedEntry(BibEntry entry, List<String> warnings) {
+            this.entry = entry;
+            this.warnings = warnings;
+        }
+    }
 }
@@ -195,6 +195,11 @@ public class PdfContentImporter extends Importer {
                         + "Instead use importDatabase(Path filePath, Charset defaultEncoding).");
     }
 
+    @Override
+    public boolean readsFileItself() {
+        return true;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath, Charset defaultEncoding) {
         final ArrayList<BibEntry> result = new ArrayList<>(1);
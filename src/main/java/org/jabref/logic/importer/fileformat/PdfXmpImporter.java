@@ -43,6 +43,11 @@ public class PdfXmpImporter extends Importer {
                         + "Instead use importDatabase(Path filePath, Charset defaultEncoding).");
     }
 
+    @Override
+    public boolean readsFileItself() {
+        return true;
+    }
+
     @Override
     public ParserResult importDatabase(Path filePath, Charset defaultEncoding) {
         Objects.requireNonNull(filePath);
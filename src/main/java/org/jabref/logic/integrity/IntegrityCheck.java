@@ -2,7 +2,9 @@ package org.jabref.logic.integrity;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -11,6 +13,18 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.FieldName;
 import org.jabref.model.metadata.FileDirectoryPreferences;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Checks the entries of a library for common problems.
+ * <p>
+ * The entries are checked in parallel. The results of the checks which only depend on the entry itself are cached, so
+ * that later runs of {@link #checkBibtexDatabase()} on the same instance only check entries which have been changed in
+ * the meantime again. Checks which depend on other entries or on the file system are always run. Use
+ * {@link #withPreferences(FileDirectoryPreferences, BibtexKeyPatternPreferences, JournalAbbreviationRepository)} to
+ * keep these results when the preferences change.
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -18,56 +32,128 @@ public class IntegrityCheck {
     private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
     private final JournalAbbreviationRepository journalAbbreviationRepository;
 
+    /**
+     * The keys are compared by identity and only weakly referenced, so that removed entries do not stay in the cache.
+     */
+    private final Cache<BibEntry, CachedResult> cachedResults;
+
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FileDirectoryPreferences fileDirectoryPreferences,
                           BibtexKeyPatternPreferences bibtexKeyPatternPreferences,
                           JournalAbbreviationRepository journalAbbreviationRepository
+    ) {
+        this(bibDatabaseContext, fileDirectoryPreferences, bibtexKeyPatternPreferences, journalAbbreviationRepository,
+                CacheBuilder.newBuilder().weakKeys().build());
+    }
+
+    private IntegrityCheck(BibDatabaseContext bibDatabaseContext,
+                           FileDirectoryPreferences fileDirectoryPreferences,
+                           BibtexKeyPatternPreferences bibtexKeyPatternPreferences,
+                           JournalAbbreviationRepository journalAbbreviationRepository,
+                           Cache<BibEntry, CachedResult> cachedResults
     ) {
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
         this.fileDirectoryPreferences = Objects.requireNonNull(fileDirectoryPreferences);
         this.bibtexKeyPatternPreferences = Objects.requireNonNull(bibtexKeyPatternPreferences);
         this.journalAbbreviationRepository = Objects.requireNonNull(journalAbbreviationRepository);
+        this.cachedResults = cachedResults;
+    }
+
+    /**
+     * Returns an integrity check of the same library using the given preferences. The cached results are kept unless
+     * the journal abbreviations differ, as these are the only preferences the cached checks depend on.
+     */
+    public IntegrityCheck withPreferences(FileDirectoryPreferences fileDirectoryPreferences,
+                                          BibtexKeyPatternPreferences bibtexKeyPatternPreferences,
+                                          JournalAbbreviationRepository journalAbbreviationRepository) {
+        if (journalAbbreviationRepository != this.journalAbbreviationRepository) {
+            return new IntegrityCheck(bibDatabaseContext, fileDirectoryPreferences, bibtexKeyPatternPreferences,
+                    journalAbbreviationRepository);
+        }
+        return new IntegrityCheck(bibDatabaseContext, fileDirectoryPreferences, bibtexKeyPatternPreferences,
+                journalAbbreviationRepository, cachedResults);
     }
 
     public List<IntegrityMessage> checkBibtexDatabase() {
-        List<IntegrityMessage> result = new ArrayList<>();
+        // The checkers are stateless, thus they are created once per run and shared by all threads
+        boolean biblatexMode = bibDatabaseContext.isBiblatexMode();
+        List<Checker> entryCheckers = new ArrayList<>();
+        List<Checker> databaseCheckers = new ArrayList<>();
 
-        for (BibEntry entry : bibDatabaseContext.getDatabase().getEntries()) {
-            result.addAll(checkBibtexEntry(entry));
+        for (FieldChecker checker : FieldCheckers.getAll(bibDatabaseContext, fileDirectoryPreferences)) {
+            // Linked files may be created or removed without changing the entry
+            if (FieldName.FILE.equals(checker.field)) {
+                databaseCheckers.add(checker);
+            } else {
+                entryCheckers.add(checker);
+            }
         }
 
-        return result;
+        if (!biblatexMode) {
+            // BibTeX only checkers
+            entryCheckers.add(new ASCIICharacterChecker());
+            entryCheckers.add(new NoBibtexFieldChecker());
+            entryCheckers.add(new BibTeXEntryTypeChecker());
+            entryCheckers.add(new JournalInAbbreviationListChecker(FieldName.JOURNAL, journalAbbreviationRepository));
+        } else {
+            entryCheckers.add(new JournalInAbbreviationListChecker(FieldName.JOURNALTITLE, journalAbbreviationRepository));
+        }
+
+        entryCheckers.add(new BibtexKeyChecker());
+        entryCheckers.add(new TypeChecker());
+        entryCheckers.add(new BibStringChecker());
+        entryCheckers.add(new HTMLCharacterChecker());
+        databaseCheckers.add(new EntryLinkChecker(bibDatabaseContext.getDatabase()));
+        databaseCheckers.add(new BibtexkeyDeviationChecker(bibDatabaseContext, bibtexKeyPatternPreferences));
+
+        return bibDatabaseContext.getDatabase().getEntries().parallelStream()
+                .filter(Objects::nonNull)
+                .flatMap(entry -> checkBibtexEntry(entry, biblatexMode, entryCheckers, databaseCheckers).stream())
+                .collect(Collectors.toList());
     }
 
-    private List<IntegrityMessage> checkBibtexEntry(BibEntry entry) {
+    private List<IntegrityMessage> checkBibtexEntry(BibEntry entry, boolean biblatexMode, List<Checker> entryCheckers,
+            List<Checker> databaseCheckers) {
         List<IntegrityMessage> result = new ArrayList<>();
 
-        if (entry == null) {
-            return result;
+        CachedResult cachedResult = cachedResults.getIfPresent(entry);
+        if ((cachedResult == null) || !cachedResult.isValidFor(entry, biblatexMode)) {
+            // Take the snapshot first, so that changes during the checks invalidate the result
+            cachedResult = new CachedResult(entry, biblatexMode);
+            for (Checker checker : entryCheckers) {
+                cachedResult.messages.addAll(checker.check(entry));
+            }
+            cachedResults.put(entry, cachedResult);
         }
+        result.addAll(cachedResult.messages);
 
-        for (FieldChecker checker : FieldCheckers.getAll(bibDatabaseContext, fileDirectoryPreferences)) {
+        for (Checker checker : databaseCheckers) {
             result.addAll(checker.check(entry));
         }
 
-        if (!bibDatabaseContext.isBiblatexMode()) {
-            // BibTeX only checkers
-            result.addAll(new ASCIICharacterChecker().check(entry));
-            result.addAll(new NoBibtexFieldChecker().check(entry));
-            result.addAll(new BibTeXEntryTypeChecker().check(entry));
-            result.addAll(new JournalInAbbreviationListChecker(FieldName.JOURNAL, journalAbbreviationRepository).check(entry));
-        } else {
-            result.addAll(new JournalInAbbreviationListChecker(FieldName.JOURNALTITLE, journalAbbreviationRepository).check(entry));
-        }
+        return result;
+    }
 
-        result.addAll(new BibtexKeyChecker().check(entry));
-        result.addAll(new TypeChecker().check(entry));
-        result.addAll(new BibStringChecker().check(entry));
-        result.addAll(new HTMLCharacterChecker().check(entry));
-        result.addAll(new EntryLinkChecker(bibDatabaseContext.getDatabase()).check(entry));
-        result.addAll(new BibtexkeyDeviationChecker(bibDatabaseContext, bibtexKeyPatternPreferences).check(entry));
+    /**
+     * The messages of the checks only depending on the entry together with the state of the entry they are valid for.
+     */
+    private static class CachedResult {
 
-        return result;
+        private final String type;
+        private final Map<String, String> fields;
+        private final boolean biblatexMode;
+        private final List<IntegrityMessage> messages = new ArrayList<>();
+
+        CachedResult(BibEntry entry, boolean biblatexMode) {
+            this.type = entry.getType();
+            this.fields = entry.getFieldMap();
+            this.biblatexMode = biblatexMode;
+        }
+
+        boolean isValidFor(BibEntry entry, boolean biblatexMode) {
+            return (this.biblatexMode == biblatexMode) && type.equals(entry.getType())
+                    && fields.equals(entry.getFieldMap());
+        }
     }
 
     @FunctionalInterface
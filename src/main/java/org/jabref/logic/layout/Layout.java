@@ -83,6 +83,14 @@ public class Layout {
         }
     }
 
+    /**
+     * Returns whether this layout contains groups. As the output of a group depends on the previously rendered entry,
+     * the entries have to be rendered in order using the same {@link LayoutRenderContext}.
+     */
+    public boolean containsGroups() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::containsGroup);
+    }
+
     /**
      * Returns the processed bibtex entry. If the database argument is
      * null, no string references will be resolved. Otherwise all valid
@@ -90,10 +98,28 @@ public class Layout {
      * recursive string references are resolved.
      */
     public String doLayout(BibEntry bibtex, BibDatabase database) {
+        return doLayout(bibtex, database, new LayoutRenderContext(1));
+    }
+
+    /**
+     * Returns the processed bibtex entry, which is rendered in the given context.
+     *
+     * @see #doLayout(BibEntry, BibDatabase)
+     */
+    public String doLayout(BibEntry bibtex, BibDatabase database, LayoutRenderContext context) {
+        LayoutRenderContext previousContext = LayoutRenderContext.bind(context);
+        try {
+            return doLayoutInContext(bibtex, database, context);
+        } finally {
+            LayoutRenderContext.bind(previousContext);
+        }
+    }
+
+    private String doLayoutInContext(BibEntry bibtex, BibDatabase database, LayoutRenderContext context) {
         StringBuilder sb = new StringBuilder(100);
 
         for (LayoutEntry layoutEntry : layoutEntries) {
-            String fieldText = layoutEntry.doLayout(bibtex, database);
+            String fieldText = layoutEntry.doLayout(bibtex, database, context);
 
             // 2005.05.05 M. Alver
             // The following change means we treat null fields as "". This is to fix the
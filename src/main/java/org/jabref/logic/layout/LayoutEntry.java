@@ -176,11 +176,21 @@ class LayoutEntry {
         }
     }
 
+    /**
+     * Returns whether this entry is or contains a group, whose output depends on the previously rendered entry.
+     */
+    public boolean containsGroup() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return true;
+        }
+        return (layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::containsGroup);
+    }
+
     public void setPostFormatter(LayoutFormatter formatter) {
         this.postFormatter = formatter;
     }
 
-    public String doLayout(BibEntry bibtex, BibDatabase database) {
+    public String doLayout(BibEntry bibtex, BibDatabase database, LayoutRenderContext context) {
         switch (type) {
         case LayoutHelper.IS_LAYOUT_TEXT:
             return text;
@@ -194,7 +204,7 @@ class LayoutEntry {
             return value;
         case LayoutHelper.IS_FIELD_START:
         case LayoutHelper.IS_GROUP_START:
-            return handleFieldOrGroupStart(bibtex, database);
+            return handleFieldOrGroupStart(bibtex, database, context);
         case LayoutHelper.IS_FIELD_END:
         case LayoutHelper.IS_GROUP_END:
             return "";
@@ -243,7 +253,7 @@ class LayoutEntry {
         return fieldEntry;
     }
 
-    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
+    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database, LayoutRenderContext context) {
         Optional<String> field;
         if (type == LayoutHelper.IS_GROUP_START) {
             field = bibtex.getResolvedFieldOrAlias(text, database);
@@ -270,22 +280,22 @@ class LayoutEntry {
         }
 
         if ((!field.isPresent()) || ((type == LayoutHelper.IS_GROUP_START)
-                && field.get().equalsIgnoreCase(LayoutHelper.getCurrentGroup()))) {
+                && field.get().equalsIgnoreCase(context.getCurrentGroup()))) {
             return null;
         } else {
             if (type == LayoutHelper.IS_GROUP_START) {
-                LayoutHelper.setCurrentGroup(field.get());
+                context.setCurrentGroup(field.get());
             }
             StringBuilder sb = new StringBuilder(100);
             String fieldText;
             boolean previousSkipped = false;
 
             for (int i = 0; i < layoutEntries.size(); i++) {
-                fieldText = layoutEntries.get(i).doLayout(bibtex, database);
+                fieldText = layoutEntries.get(i).doLayout(bibtex, database, context);
 
                 if (fieldText == null) {
                     if ((i + 1) < layoutEntries.size()) {
-                        if (layoutEntries.get(i + 1).doLayout(bibtex, database).trim().isEmpty()) {
+                        if (layoutEntries.get(i + 1).doLayout(bibtex, database, context).trim().isEmpty()) {
                             i++;
                             previousSkipped = true;
                             continue;
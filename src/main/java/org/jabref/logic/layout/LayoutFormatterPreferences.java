@@ -1,5 +1,6 @@
 package org.jabref.logic.layout;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -53,4 +54,19 @@ public class LayoutFormatterPreferences {
     public Optional<String> getCustomExportNameFormatter(String formatterName) {
         return Optional.ofNullable(customExportNameFormatters.get(formatterName));
     }
+
+    /**
+     * Returns a key which is equal for all preferences from which layouts with the same formatters are parsed. As it
+     * covers the custom export name formatters, it has to be requested after these have been put.
+     */
+    public Object getLayoutCacheKey() {
+        return Arrays.asList(nameFormatterPreferences.getNameFormatterKey(),
+                nameFormatterPreferences.getNameFormatterValue(),
+                journalAbbreviationPreferences.getExternalJournalLists(),
+                journalAbbreviationPreferences.getPersonalJournalLists(),
+                journalAbbreviationPreferences.useIEEEAbbreviations(),
+                journalAbbreviationPreferences.getDefaultEncoding(), fileLinkPreferences.getGeneratedDirForDatabase(),
+                fileLinkPreferences.getFileDirForDatabase(), journalAbbreviationLoader,
+                new HashMap<>(customExportNameFormatters));
+    }
 }
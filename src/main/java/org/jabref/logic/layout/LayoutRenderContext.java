@@ -0,0 +1,63 @@
+package org.jabref.logic.layout;
+
+/**
+ * The state of rendering a sequence of entries with a {@link Layout}, e.g., during an export. It contains the number of
+ * the current entry (see {@link org.jabref.logic.layout.format.Number}) and the group of the previously rendered entry
+ * (see {@code \begingroup}).
+ * <p>
+ * A context must only be used by one thread at a time. Different contexts may be used concurrently, so that entries can
+ * be rendered in parallel as long as the layout does not contain groups.
+ */
+public class LayoutRenderContext {
+
+    /**
+     * The context of the entry which is currently rendered by the thread
+     */
+    private static final ThreadLocal<LayoutRenderContext> CURRENT = new ThreadLocal<>();
+
+    private int entryNumber;
+    private String currentGroup;
+
+    public LayoutRenderContext(int entryNumber) {
+        this.entryNumber = entryNumber;
+    }
+
+    public int getEntryNumber() {
+        return entryNumber;
+    }
+
+    public void setEntryNumber(int entryNumber) {
+        this.entryNumber = entryNumber;
+    }
+
+    String getCurrentGroup() {
+        return currentGroup;
+    }
+
+    void setCurrentGroup(String currentGroup) {
+        this.currentGroup = currentGroup;
+    }
+
+    /**
+     * Returns the number of the entry which is currently rendered by this thread, or 1 if no entry is rendered.
+     */
+    public static int getCurrentEntryNumber() {
+        LayoutRenderContext context = CURRENT.get();
+        return context == null ? 1 : context.entryNumber;
+    }
+
+    /**
+     * Sets the context of the entry which is rendered by this thread.
+     *
+     * @return the previous context, which has to be restored after the entry is rendered
+     */
+    static LayoutRenderContext bind(LayoutRenderContext context) {
+        LayoutRenderContext previous = CURRENT.get();
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        return previous;
+    }
+}
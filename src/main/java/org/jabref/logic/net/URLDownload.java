@@ -25,11 +25,13 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
@@ -61,6 +63,8 @@ public class URLDownload {
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
     private String postData = "";
+    private Duration connectTimeout = Duration.ZERO;
+    private Duration readTimeout = Duration.ZERO;
 
     /**
      * @param source the URL to download from
@@ -122,6 +126,20 @@ public class URLDownload {
         return source;
     }
 
+    /**
+     * Sets the timeout for establishing connections opened by this download. Zero, the default, means no timeout.
+     */
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = Objects.requireNonNull(connectTimeout);
+    }
+
+    /**
+     * Sets the timeout for reading from connections opened by this download. Zero, the default, means no timeout.
+     */
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = Objects.requireNonNull(readTimeout);
+    }
+
     public String getMimeType() throws IOException {
         Unirest.setDefaultHeader("User-Agent", "Mozilla/5.0 (Windows; U; WindowsNT 5.1; en-US; rv1.8.1.6) Gecko/20070725 Firefox/2.0.0.6");
 
@@ -149,6 +167,7 @@ public class URLDownload {
         // Try to resolve local URIs
         try {
             URLConnection connection = new URL(source.toString()).openConnection();
+            setTimeouts(connection);
 
             contentType = connection.getContentType();
             if (contentType != null && !contentType.isEmpty()) {
@@ -289,6 +308,7 @@ public class URLDownload {
 
     private URLConnection openConnection() throws IOException {
         URLConnection connection = this.source.openConnection();
+        setTimeouts(connection);
         for (Entry<String, String> entry : this.parameters.entrySet()) {
             connection.setRequestProperty(entry.getKey(), entry.getValue());
         }
@@ -310,7 +330,10 @@ public class URLDownload {
                     // get redirect url from "location" header field
                     String newUrl = connection.getHeaderField("Location");
                     // open the new connnection again
-                    connection = new URLDownload(newUrl).openConnection();
+                    URLDownload redirect = new URLDownload(newUrl);
+                    redirect.setConnectTimeout(connectTimeout);
+                    redirect.setReadTimeout(readTimeout);
+                    connection = redirect.openConnection();
                 }
             }
         }
@@ -321,4 +344,9 @@ public class URLDownload {
         return connection;
     }
 
+    private void setTimeouts(URLConnection connection) {
+        connection.setConnectTimeout((int) connectTimeout.toMillis());
+        connection.setReadTimeout((int) readTimeout.toMillis());
+    }
+
 }
@@ -3,6 +3,8 @@ package org.jabref.logic.search;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jabref.model.database.BibDatabase;
@@ -35,8 +37,22 @@ public class DatabaseSearcher {
             return Collections.emptyList();
         }
 
-        List<BibEntry> matchEntries = database.getEntries().stream().filter(query::isMatch).collect(Collectors.toList());
-        return BibDatabases.purgeEmptyEntries(matchEntries);
+        return BibDatabases.purgeEmptyEntries(getMatchingEntries());
     }
 
+    /**
+     * Returns all entries matched by the query in the order of the database. The search index of the database is used
+     * to determine the entries to check; only if the query cannot be resolved using the index, all entries are checked.
+     */
+    public List<BibEntry> getMatchingEntries() {
+        Optional<Set<BibEntry>> candidates = query.getCandidates(database.getSearchIndex());
+        if (candidates.isPresent() && candidates.get().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return database.getEntries().parallelStream()
+                .filter(entry -> !candidates.isPresent() || candidates.get().contains(entry))
+                .filter(query::isMatch)
+                .collect(Collectors.toList());
+    }
 }
@@ -3,10 +3,13 @@ package org.jabref.logic.search;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.search.rules.describer.SearchDescribers;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchIndex;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.rules.ContainBasedSearchRule;
 import org.jabref.model.search.rules.GrammarBasedSearchRule;
@@ -40,6 +43,14 @@ public class SearchQuery implements SearchMatcher {
         return rule.applyRule(getQuery(), entry);
     }
 
+    /**
+     * Returns a superset of the entries matched by this query, determined using the given index.
+     * An empty Optional indicates that the index cannot narrow down the entries to check.
+     */
+    public Optional<Set<BibEntry>> getCandidates(SearchIndex index) {
+        return rule.getCandidates(getQuery(), index);
+    }
+
     public boolean isValid() {
         return rule.validateSearchStrings(getQuery());
     }
@@ -0,0 +1,372 @@
+package org.jabref.logic.xmp;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.metadata.FileDirectoryPreferences;
+
+import com.google.common.hash.Hashing;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.jempbox.xmp.XMPMetadata;
+import org.apache.jempbox.xmp.XMPSchema;
+
+/**
+ * Writes the XMP metadata of many entries to their linked PDFs.
+ * <p>
+ * The files are processed on a fixed number of worker threads. A file is only rewritten if the hash of the BibTeX
+ * metadata embedded in it differs from the hash of the metadata of its entry. Every file which is up to date is
+ * recorded in an optional journal together with this hash and its modification time. If a run is interrupted, the
+ * next run skips the recorded files without opening them. The journal is deleted as soon as a run finishes.
+ */
+public class XMPBulkWriter {
+
+    public enum Status {
+        WRITTEN,
+        UP_TO_DATE,
+        NO_PDF,
+        FILE_NOT_FOUND,
+        FAILED
+    }
+
+    /**
+     * Is called for every processed file and every entry without a file. As the files are processed concurrently,
+     * implementations have to be thread-safe.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void processed(Result result);
+    }
+
+    public static class Result {
+
+        private final BibEntry entry;
+        private final Optional<Path> file;
+        private final Status status;
+        private final Optional<Exception> error;
+
+        private Result(BibEntry entry, Optional<Path> file, Status status, Optional<Exception> error) {
+            this.entry = entry;
+            this.file = file;
+            this.status = status;
+            this.error = error;
+        }
+
+        public BibEntry getEntry() {
+            return entry;
+        }
+
+        public Optional<Path> getFile() {
+            return file;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public Optional<Exception> getError() {
+            return error;
+        }
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(XMPBulkWriter.class);
+
+    private static final String JOURNAL_SEPARATOR = "\t";
+
+    private final BibDatabaseContext databaseContext;
+    private final FileDirectoryPreferences fileDirectoryPreferences;
+    private final XMPPreferences xmpPreferences;
+    private final Optional<Path> journal;
+    private final int numberOfThreads;
+
+    private volatile boolean canceled;
+    private BufferedWriter journalWriter;
+
+    public XMPBulkWriter(BibDatabaseContext databaseContext, FileDirectoryPreferences fileDirectoryPreferences,
+                         XMPPreferences xmpPreferences, Optional<Path> journal) {
+        this(databaseContext, fileDirectoryPreferences, xmpPreferences, journal,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    public XMPBulkWriter(BibDatabaseContext databaseContext, FileDirectoryPreferences fileDirectoryPreferences,
+                         XMPPreferences xmpPreferences, Optional<Path> journal, int numberOfThreads) {
+        this.databaseContext = Objects.requireNonNull(databaseContext);
+        this.fileDirectoryPreferences = Objects.requireNonNull(fileDirectoryPreferences);
+        this.xmpPreferences = Objects.requireNonNull(xmpPreferences);
+        this.journal = Objects.requireNonNull(journal);
+        this.numberOfThreads = Math.max(1, numberOfThreads);
+    }
+
+    /**
+     * Returns the journal of the given library in the given directory.
+     */
+    public static Path getJournalPath(Path journalDirectory, Path library) {
+        String pathHash = Hashing.sha256()
+                .hashString(library.toAbsolutePath().normalize().toString(), StandardCharsets.UTF_8).toString();
+        return journalDirectory.resolve(pathHash + ".journal");
+    }
+
+    /**
+     * Writes the metadata of the given entries to all PDFs linked from them. Files linked from several entries are
+     * written by one thread in the order of the entries, so that the last entry wins.
+     *
+     * @return the results of the entries without existing PDF followed by the results of the files, both in the order
+     * of the entries; files not processed due to {@link #cancel()} are missing
+     */
+    public List<Result> write(Collection<BibEntry> entries, ProgressListener listener) {
+        List<Result> results = new ArrayList<>();
+        Map<Path, List<BibEntry>> entriesByFile = new LinkedHashMap<>();
+        for (BibEntry entry : entries) {
+            List<Path> files = entry.getFiles().stream()
+                    .filter(file -> file.getFileType().equalsIgnoreCase("pdf"))
+                    .map(file -> file.findIn(databaseContext, fileDirectoryPreferences))
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .collect(Collectors.toList());
+
+            if (files.isEmpty()) {
+                report(new Result(entry, Optional.empty(), Status.NO_PDF, Optional.empty()), listener, results);
+            }
+            for (Path file : files) {
+                if (Files.exists(file)) {
+                    entriesByFile.computeIfAbsent(file, key -> new ArrayList<>()).add(entry);
+                } else {
+                    report(new Result(entry, Optional.of(file), Status.FILE_NOT_FOUND, Optional.empty()), listener,
+                            results);
+                }
+            }
+        }
+
+        Map<Path, JournalRecord> journalRecords = readJournal();
+        openJournal();
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+            Thread thread = new Thread(runnable, "XMPBulkWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<List<Result>>> futures = new ArrayList<>(entriesByFile.size());
+            for (Map.Entry<Path, List<BibEntry>> fileEntries : entriesByFile.entrySet()) {
+                Path file = fileEntries.getKey();
+                futures.add(executor.submit(() -> writeFile(file, fileEntries.getValue(),
+                        journalRecords.get(file.toAbsolutePath()), listener)));
+            }
+            for (Future<List<Result>> future : futures) {
+                try {
+                    results.addAll(future.get());
+                } catch (ExecutionException e) {
+                    // writeFile reports its own failures, thus this is only reached if the listener failed
+                    LOGGER.error("Could not write XMP metadata", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            canceled = true;
+        } finally {
+            executor.shutdownNow();
+            closeJournal();
+        }
+
+        if (!canceled) {
+            deleteJournal();
+        }
+        return results;
+    }
+
+    /**
+     * Stops the current run. Files already being written are finished, the remaining ones are left for the next run.
+     */
+    public void cancel() {
+        canceled = true;
+    }
+
+    public boolean isCanceled() {
+        return canceled;
+    }
+
+    private List<Result> writeFile(Path file, List<BibEntry> entries, JournalRecord journalRecord,
+                                   ProgressListener listener) {
+        List<Result> results = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            if (canceled) {
+                break;
+            }
+
+            Result result;
+            try {
+                String hash = getMetadataHash(entry);
+                if (isRecorded(file, hash, journalRecord) || hash.equals(getEmbeddedMetadataHash(file))) {
+                    result = new Result(entry, Optional.of(file), Status.UP_TO_DATE, Optional.empty());
+                } else {
+                    XMPUtil.writeXMP(file.toFile(), entry, databaseContext.getDatabase(), xmpPreferences);
+                    result = new Result(entry, Optional.of(file), Status.WRITTEN, Optional.empty());
+                }
+                record(file, hash);
+            } catch (Exception e) {
+                // PDFBox also fails with runtime exceptions on broken files, which must not abort the whole run
+                LOGGER.debug("Could not write XMP metadata to " + file, e);
+                result = new Result(entry, Optional.of(file), Status.FAILED, Optional.of(e));
+            }
+            report(result, listener, results);
+        }
+        return results;
+    }
+
+    private static void report(Result result, ProgressListener listener, List<Result> results) {
+        results.add(result);
+        listener.processed(result);
+    }
+
+    /**
+     * Returns the hash of the BibTeX metadata which would be written for the given entry.
+     */
+    String getMetadataHash(BibEntry entry) throws IOException {
+        BibEntry resolvedEntry = databaseContext.getDatabase().resolveForStrings(entry, false);
+
+        // convert the entry as in XMPUtil.writeXMP, so that it contains exactly the information embedded in the file
+        XMPMetadata meta = new XMPMetadata();
+        XMPSchemaBibtex schema = new XMPSchemaBibtex(meta);
+        meta.addSchema(schema);
+        schema.setBibtexEntry(resolvedEntry, xmpPreferences);
+        return getHash(Collections.singletonList(schema.getBibtexEntry()));
+    }
+
+    private static String getEmbeddedMetadataHash(Path file) throws IOException {
+        Optional<XMPMetadata> meta = XMPUtil.readRawXMP(file.toFile());
+        if (!meta.isPresent()) {
+            return "";
+        }
+
+        List<BibEntry> entries = new ArrayList<>();
+        for (XMPSchema schema : meta.get().getSchemasByNamespaceURI(XMPSchemaBibtex.NAMESPACE)) {
+            entries.add(((XMPSchemaBibtex) schema).getBibtexEntry());
+        }
+        return getHash(entries);
+    }
+
+    private static String getHash(List<BibEntry> entries) {
+        StringBuilder content = new StringBuilder();
+        for (BibEntry entry : entries) {
+            content.append('@').append(entry.getType()).append('\n');
+            for (Map.Entry<String, String> field : new TreeMap<>(entry.getFieldMap()).entrySet()) {
+                content.append(field.getKey()).append('=').append(field.getValue()).append('\n');
+            }
+        }
+        return Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+    }
+
+    private static boolean isRecorded(Path file, String hash, JournalRecord journalRecord) throws IOException {
+        return (journalRecord != null) && journalRecord.hash.equals(hash)
+                && (journalRecord.lastModified == Files.getLastModifiedTime(file).toMillis());
+    }
+
+    private Map<Path, JournalRecord> readJournal() {
+        if (!journal.isPresent() || !Files.exists(journal.get())) {
+            return Collections.emptyMap();
+        }
+
+        Map<Path, JournalRecord> records = new HashMap<>();
+        try {
+            for (String line : Files.readAllLines(journal.get(), StandardCharsets.UTF_8)) {
+                // the last line may be incomplete if writing was interrupted
+                String[] parts = line.split(JOURNAL_SEPARATOR, 3);
+                if (parts.length == 3) {
+                    try {
+                        records.put(journal.get().getFileSystem().getPath(parts[2]),
+                                new JournalRecord(parts[0], Long.parseLong(parts[1])));
+                    } catch (IllegalArgumentException e) {
+                        LOGGER.debug("Ignoring invalid journal line " + line, e);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read XMP journal " + journal.get(), e);
+        }
+        return records;
+    }
+
+    private void openJournal() {
+        if (!journal.isPresent()) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(journal.get().toAbsolutePath().getParent());
+            journalWriter = Files.newBufferedWriter(journal.get(), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOGGER.warn("Could not open XMP journal " + journal.get(), e);
+        }
+    }
+
+    private synchronized void record(Path file, String hash) {
+        if (journalWriter == null) {
+            return;
+        }
+
+        try {
+            journalWriter.write(hash + JOURNAL_SEPARATOR + Files.getLastModifiedTime(file).toMillis()
+                    + JOURNAL_SEPARATOR + file.toAbsolutePath());
+            journalWriter.newLine();
+            journalWriter.flush();
+        } catch (IOException e) {
+            LOGGER.warn("Could not write XMP journal " + journal.get(), e);
+            journalWriter = null;
+        }
+    }
+
+    private synchronized void closeJournal() {
+        if (journalWriter == null) {
+            return;
+        }
+
+        try {
+            journalWriter.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not close XMP journal " + journal.get(), e);
+        }
+        journalWriter = null;
+    }
+
+    private void deleteJournal() {
+        if (journal.isPresent()) {
+            try {
+                Files.deleteIfExists(journal.get());
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete XMP journal " + journal.get(), e);
+            }
+        }
+    }
+
+    private static class JournalRecord {
+
+        private final String hash;
+        private final long lastModified;
+
+        private JournalRecord(String hash, long lastModified) {
+            this.hash = hash;
+            this.lastModified = lastModified;
+        }
+    }
+}
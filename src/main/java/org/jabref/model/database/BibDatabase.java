@@ -31,10 +31,10 @@ import org.jabref.model.entry.Month;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.EntryEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.search.SearchIndex;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -54,10 +54,17 @@ public class BibDatabase {
      */
     private final DuplicationChecker duplicationChecker = new DuplicationChecker();
     /**
-     * contains all entry.getID() of the current database
+     * Indexes of all entries by their internal id (see {@link BibEntry#getId()}) and by their cite key. They are updated
+     * while holding the monitor of the database and read without locking. The lists of the key index are never
+     * modified, but replaced, and keep the order of the entries in the database.
      */
-    private final Set<String> internalIDs = new HashSet<>();
+    private final Map<String, BibEntry> entriesById = new ConcurrentHashMap<>();
+    private final Map<String, List<BibEntry>> entriesByKey = new ConcurrentHashMap<>();
     private final EventBus eventBus = new EventBus();
+    /**
+     * created on first use, afterwards kept in sync with the database
+     */
+    private SearchIndex searchIndex;
     private String preamble;
     // All file contents below the last entry in the file
     private String epilog = "";
@@ -110,7 +117,7 @@ public class BibDatabase {
      * Returns whether an entry with the given ID exists (-> entry_type + hashcode).
      */
     public boolean containsEntryWithId(String id) {
-        return internalIDs.contains(id);
+        return entriesById.containsKey(id);
     }
 
     public ObservableList<BibEntry> getEntries() {
@@ -135,13 +142,12 @@ public class BibDatabase {
     /**
      * Returns the entry with the given bibtex key.
      */
-    public synchronized Optional<BibEntry> getEntryByKey(String key) {
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCiteKeyOptional().orElse(null))) {
-                return Optional.of(entry);
-            }
+    public Optional<BibEntry> getEntryByKey(String key) {
+        List<BibEntry> entriesWithKey = entriesByKey.get(key);
+        if (entriesWithKey == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(entriesWithKey.get(0));
     }
 
     /**
@@ -151,17 +157,8 @@ public class BibDatabase {
      * @param key
      * @return list of entries that contains the given key
      */
-    public synchronized List<BibEntry> getEntriesByKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCiteKeyOptional().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
-        }
-        return result;
+    public List<BibEntry> getEntriesByKey(String key) {
+        return new ArrayList<>(entriesByKey.getOrDefault(key, Collections.emptyList()));
     }
 
     /**
@@ -170,8 +167,8 @@ public class BibDatabase {
      * @param id
      * @return The entry that has the given id
      */
-    public synchronized Optional<BibEntry> getEntryById(String id) {
-        return entries.stream().filter(entry -> entry.getId().equals(id)).findFirst();
+    public Optional<BibEntry> getEntryById(String id) {
+        return Optional.ofNullable(entriesById.get(id));
     }
 
     /**
@@ -216,8 +213,10 @@ public class BibDatabase {
                 throw new KeyCollisionException("ID is already in use, please choose another");
             }
 
-            internalIDs.add(id);
-            entry.registerListener(this);
+            entriesById.put(id, entry);
+            // the new entries are appended to the database, thus they are appended to the key index, too
+            entry.getCiteKeyOptional().ifPresent(key -> addToKeyIndex(key, entry, false));
+            entry.registerDatabase(this);
 
             eventBus.post(new EntryAddedEvent(entry, eventSource));
         }
@@ -246,7 +245,10 @@ public class BibDatabase {
 
         boolean anyRemoved = entries.removeIf(entry -> entry.getId().equals(toBeDeleted.getId()));
         if (anyRemoved) {
-            internalIDs.remove(toBeDeleted.getId());
+            BibEntry removedEntry = entriesById.remove(toBeDeleted.getId());
+            if (removedEntry != null) {
+                removedEntry.getCiteKeyOptional().ifPresent(key -> removeFromKeyIndex(key, removedEntry));
+            }
             eventBus.post(new EntryRemovedEvent(toBeDeleted, eventSource));
         }
     }
@@ -575,11 +577,85 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
-    private void relayEntryChangeEvent(FieldChangedEvent event) {
+    /**
+     * Is called by the entries of this database on each of their changes. Updates the indexes and posts the event to
+     * the listeners of this database.
+     */
+    public void relayEntryChangeEvent(FieldChangedEvent event) {
+        updateIndexes(event);
         eventBus.post(event);
     }
 
+    private synchronized void updateIndexes(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if (BibEntry.ID_FIELD.equals(event.getFieldName())) {
+            // the event is posted before the id is changed
+            if (entriesById.get(event.getOldValue()) == entry) {
+                entriesById.remove(event.getOldValue());
+                entriesById.put(event.getNewValue(), entry);
+            }
+        } else if (BibEntry.KEY_FIELD.equals(event.getFieldName())) {
+            // entries which were removed from the database may still post changes (e.g., during undo)
+            if (entriesById.get(entry.getId()) == entry) {
+                if (event.getOldValue() != null) {
+                    removeFromKeyIndex(event.getOldValue(), entry);
+                }
+                if (event.getNewValue() != null) {
+                    addToKeyIndex(event.getNewValue(), entry, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param keepDatabaseOrder whether the entry has to be placed according to its position in the database, otherwise
+     *                          it is appended
+     */
+    private synchronized void addToKeyIndex(String key, BibEntry entry, boolean keepDatabaseOrder) {
+        List<BibEntry> entriesWithKey = entriesByKey.get(key);
+        if (entriesWithKey == null) {
+            entriesByKey.put(key, Collections.singletonList(entry));
+            return;
+        }
+
+        List<BibEntry> newEntriesWithKey = new ArrayList<>(entriesWithKey);
+        newEntriesWithKey.add(entry);
+        if (keepDatabaseOrder) {
+            // only happens for duplicate keys, thus the linear search does not matter
+            newEntriesWithKey.sort(Comparator.comparingInt(this::getPosition));
+        }
+        entriesByKey.put(key, Collections.unmodifiableList(newEntriesWithKey));
+    }
+
+    private synchronized void removeFromKeyIndex(String key, BibEntry entry) {
+        List<BibEntry> entriesWithKey = entriesByKey.get(key);
+        if (entriesWithKey == null) {
+            return;
+        }
+
+        List<BibEntry> newEntriesWithKey = new ArrayList<>(entriesWithKey);
+        newEntriesWithKey.removeIf(entryWithKey -> entryWithKey == entry);
+        if (newEntriesWithKey.isEmpty()) {
+            entriesByKey.remove(key);
+        } else {
+            entriesByKey.put(key, Collections.unmodifiableList(newEntriesWithKey));
+        }
+    }
+
+    /**
+     * Returns the position of the given entry in the database. Entries which are being inserted are placed last.
+     */
+    private int getPosition(BibEntry entry) {
+        synchronized (entries) {
+            for (int i = 0; i < entries.size(); i++) {
+                if (entries.get(i) == entry) {
+                    return i;
+                }
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(FieldName.CROSSREF).flatMap(this::getEntryByKey);
     }
@@ -613,4 +689,16 @@ public class BibDatabase {
     public DuplicationChecker getDuplicationChecker() {
         return duplicationChecker;
     }
+
+    /**
+     * Returns the inverted field index of this database. The index is built on the first call and updated on each
+     * change of the database afterwards.
+     */
+    public synchronized SearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex(entries);
+            registerListener(searchIndex);
+        }
+        return searchIndex;
+    }
 }
@@ -8,9 +8,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+
 /**
  * This is an immutable class representing information of either <CODE>author</CODE>
  * or <CODE>editor</CODE> field in bibtex record.
@@ -120,7 +124,23 @@ import java.util.stream.Collectors;
  */
 public class AuthorList {
 
-    private static final WeakHashMap<String, AuthorList> AUTHOR_CACHE = new WeakHashMap<>();
+    /**
+     * The maximum total length of the author strings whose parsed author lists are cached. Assuming a parsed list
+     * takes about ten times the memory of its string, the cache takes at most about 40 MB.
+     */
+    private static final long MAXIMUM_CACHED_CHARACTERS = 2_000_000;
+
+    /**
+     * Cache of parsed author lists, keyed by the author string passed to {@link #parse(String)}. Authors are parsed
+     * concurrently (e.g., during export, key generation, search and duplicate detection), thus the cache has to be
+     * thread-safe. The least recently used lists are evicted first.
+     */
+    private static final LoadingCache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+            .maximumWeight(MAXIMUM_CACHED_CHARACTERS)
+            .weigher((String authors, AuthorList authorList) -> authors.length() + 1)
+            .recordStats()
+            .build(CacheLoader.from(AuthorList::parseWithoutCache));
+
     // Avoid partition where these values are contained
     private final static Collection<String> AVOID_TERMS_IN_LOWER_CASE = Arrays.asList("jr", "sr", "jnr", "snr", "von", "zu", "van", "der");
     private final List<Author> authors;
@@ -129,7 +149,9 @@ public class AuthorList {
     private final String[] authorLastFirstAnds = new String[2];
     private final String[] authorsLastFirst = new String[4];
     private final String[] authorsLastFirstFirstLast = new String[2];
-    // Variables for storing computed strings, so they only need to be created once:
+    // Variables for storing computed strings, so they only need to be created once.
+    // As instances are shared between threads, a string may be computed more than once, which is harmless as the
+    // computation has no side effects and strings are immutable.
     private String authorsNatbib;
     private String authorsFirstFirstAnds;
     private String authorsAlph;
@@ -157,7 +179,7 @@ public class AuthorList {
     /**
      * Retrieve an AuthorList for the given string of authors or editors.
      * <p>
-     * This function tries to cache the parsed AuthorLists by the string passed in.
+     * This function caches the parsed AuthorLists by the string passed in. It can be called from multiple threads.
      *
      * @param authors The string of authors or editors in bibtex format to parse.
      * @return An AuthorList object representing the given authors.
@@ -165,6 +187,25 @@ public class AuthorList {
     public static AuthorList parse(String authors) {
         Objects.requireNonNull(authors);
 
+        return AUTHOR_CACHE.getUnchecked(authors);
+    }
+
+    /**
+     * Returns the hit and miss statistics of the cache used by {@link #parse(String)}.
+     */
+    public static CacheStats getCacheStatistics() {
+        return AUTHOR_CACHE.stats();
+    }
+
+    /**
+     * Returns the number of author lists currently cached.
+     */
+    public static long getCacheSize() {
+        return AUTHOR_CACHE.size();
+    }
+
+    private static AuthorList parseWithoutCache(String authors) {
+
         // Handle case names in order lastname, firstname and separated by ","
         // E.g., Ali Babar, M., Dingsøyr, T., Lago, P., van der Vliet, H.
         final boolean authorsContainAND = authors.toUpperCase(Locale.ENGLISH).contains(" AND ");
@@ -209,13 +250,8 @@ public class AuthorList {
             }
         }
 
-        AuthorList authorList = AUTHOR_CACHE.get(authors);
-        if (authorList == null) {
-            AuthorListParser parser = new AuthorListParser();
-            authorList = parser.parse(authors);
-            AUTHOR_CACHE.put(authors, authorList);
-        }
-        return authorList;
+        AuthorListParser parser = new AuthorListParser();
+        return parser.parse(authors);
     }
 
     /**
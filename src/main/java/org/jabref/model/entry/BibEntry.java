@@ -1,8 +1,8 @@
 package org.jabref.model.entry;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -43,19 +43,39 @@ public class BibEntry implements Cloneable {
     protected static final String ID_FIELD = "id";
     private static final Log LOGGER = LogFactory.getLog(BibEntry.class);
     private static final Pattern REMOVE_TRAILING_WHITESPACE = Pattern.compile("\\s+$");
+    private static final BibDatabase[] NO_DATABASES = new BibDatabase[0];
     private final SharedBibEntryData sharedBibEntryData;
     /**
-     * Map to store the words in every field
+     * Map to store the words in every field. Created on first use, as most entries are never searched.
      */
-    private final Map<String, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile Map<String, Set<String>> fieldsAsWords;
     /**
-     * Cache that stores latex free versions of fields.
+     * Cache that stores latex free versions of fields. Created on first use.
      */
-    private final Map<String, String> latexFreeFields = new ConcurrentHashMap<>();
-    private final EventBus eventBus = new EventBus();
+    private volatile Map<String, String> latexFreeFields;
+    /**
+     * Created when the first listener is registered, as most entries never get a listener.
+     */
+    private volatile EventBus eventBus;
+    /**
+     * The databases containing this entry. They are notified directly, so that being part of a database does not
+     * require an event bus.
+     */
+    private volatile BibDatabase[] databases = NO_DATABASES;
+    /**
+     * Increased on every change, see {@link #getModificationCount()}
+     */
+    private volatile int modificationCount;
     private String id;
     private String type;
-    private ObservableMap<String, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    /**
+     * The fields of this entry. The instance is replaced on every change, writers synchronize on this entry.
+     */
+    private volatile FieldValues fields = FieldValues.EMPTY;
+    /**
+     * Observable copy of the fields, only kept if a binding was requested (e.g., by the entry editor).
+     */
+    private ObservableMap<String, String> observableFields;
     // Search and grouping status is stored in boolean fields for quick reference:
     private boolean searchHit;
     private boolean groupHit;
@@ -172,7 +192,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, BibEntry.ID_FIELD, id, oldId));
+        post(new FieldChangedEvent(this, BibEntry.ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -242,7 +262,7 @@ public class BibEntry implements Cloneable {
         // sets off a change in database sorting etc.
         this.type = newType.toLowerCase(Locale.ENGLISH);
         changed = true;
-        eventBus.post(new FieldChangedEvent(this, TYPE_HEADER, newType, oldType, eventSource));
+        post(new FieldChangedEvent(this, TYPE_HEADER, newType, oldType, eventSource));
     }
 
     /**
@@ -252,7 +272,7 @@ public class BibEntry implements Cloneable {
      * @return a set of existing field names
      */
     public Set<String> getFieldNames() {
-        return new TreeSet<>(fields.keySet());
+        return new TreeSet<>(fields.asMap().keySet());
     }
 
     /**
@@ -266,7 +286,7 @@ public class BibEntry implements Cloneable {
      * Returns true if the entry has the given field, or false if it is not set.
      */
     public boolean hasField(String name) {
-        return fields.containsKey(toLowerCase(name));
+        return fields.containsName(toLowerCase(name));
     }
 
     private String toLowerCase(String fieldName) {
@@ -405,22 +425,29 @@ public class BibEntry implements Cloneable {
             return clearField(fieldName);
         }
 
-        String oldValue = getField(fieldName).orElse(null);
-        if (value.equals(oldValue)) {
-            return Optional.empty();
-        }
-
         if (BibEntry.ID_FIELD.equals(fieldName)) {
             throw new IllegalArgumentException("The field name '" + name + "' is reserved");
         }
 
-        changed = true;
+        String oldValue;
+        synchronized (this) {
+            oldValue = fields.get(fieldName);
+            if (value.equals(oldValue)) {
+                return Optional.empty();
+            }
+
+            changed = true;
 
-        fields.put(fieldName, value.intern());
-        invalidateFieldCache(fieldName);
+            String internedValue = value.intern();
+            fields = fields.with(fieldName, internedValue);
+            if (observableFields != null) {
+                observableFields.put(fieldName, internedValue);
+            }
+            invalidateFieldCache(fieldName);
+        }
 
         FieldChange change = new FieldChange(this, fieldName, oldValue, value);
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        post(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -465,18 +492,24 @@ public class BibEntry implements Cloneable {
             throw new IllegalArgumentException("The field name '" + name + "' is reserved");
         }
 
-        Optional<String> oldValue = getField(fieldName);
-        if (!oldValue.isPresent()) {
-            return Optional.empty();
-        }
+        String oldValue;
+        synchronized (this) {
+            oldValue = fields.get(fieldName);
+            if (oldValue == null) {
+                return Optional.empty();
+            }
 
-        changed = true;
+            changed = true;
 
-        fields.remove(fieldName);
-        invalidateFieldCache(fieldName);
+            fields = fields.without(fieldName);
+            if (observableFields != null) {
+                observableFields.remove(fieldName);
+            }
+            invalidateFieldCache(fieldName);
+        }
 
-        FieldChange change = new FieldChange(this, fieldName, oldValue.get(), null);
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        FieldChange change = new FieldChange(this, fieldName, oldValue, null);
+        post(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -529,7 +562,8 @@ public class BibEntry implements Cloneable {
     @Override
     public Object clone() {
         BibEntry clone = new BibEntry(type);
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        // field values are immutable and can thus be shared
+        clone.fields = fields;
         return clone;
     }
 
@@ -681,11 +715,14 @@ public class BibEntry implements Cloneable {
     }
 
     public Collection<String> getFieldValues() {
-        return fields.values();
+        return fields.asMap().values();
     }
 
+    /**
+     * Returns a read-only snapshot of the fields of this entry. Later changes of the entry are not reflected.
+     */
     public Map<String, String> getFieldMap() {
-        return fields;
+        return fields.asMap();
     }
 
     public SharedBibEntryData getSharedBibEntryData() {
@@ -712,18 +749,94 @@ public class BibEntry implements Cloneable {
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        getEventBus().register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus == null) {
+            // no listener has been registered yet
+            return;
+        }
+
         try {
-            this.eventBus.unregister(object);
+            currentEventBus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug(e);
         }
     }
 
+    private EventBus getEventBus() {
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus == null) {
+            synchronized (this) {
+                currentEventBus = eventBus;
+                if (currentEventBus == null) {
+                    currentEventBus = new EventBus();
+                    eventBus = currentEventBus;
+                }
+            }
+        }
+        return currentEventBus;
+    }
+
+    /**
+     * Lets the given database be notified of every change of this entry, see
+     * {@link BibDatabase#relayEntryChangeEvent(FieldChangedEvent)}. Registering a database more than once has no
+     * effect.
+     */
+    public synchronized void registerDatabase(BibDatabase database) {
+        Objects.requireNonNull(database);
+        for (BibDatabase registered : databases) {
+            if (registered == database) {
+                return;
+            }
+        }
+
+        BibDatabase[] newDatabases = Arrays.copyOf(databases, databases.length + 1);
+        newDatabases[databases.length] = database;
+        databases = newDatabases;
+    }
+
+    public synchronized void unregisterDatabase(BibDatabase database) {
+        for (int i = 0; i < databases.length; i++) {
+            if (databases[i] == database) {
+                BibDatabase[] newDatabases = new BibDatabase[databases.length - 1];
+                System.arraycopy(databases, 0, newDatabases, 0, i);
+                System.arraycopy(databases, i + 1, newDatabases, i, newDatabases.length - i);
+                databases = (newDatabases.length == 0) ? NO_DATABASES : newDatabases;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns a number which is increased on every change of this entry (including its type and id). Values derived
+     * from the entry can be cached together with this number and are valid as long as it is unchanged, without
+     * registering a listener on the entry.
+     * <p>
+     * The number is increased after the change is visible, thus the number has to be read before deriving a value.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    private void post(FieldChangedEvent event) {
+        synchronized (this) {
+            modificationCount++;
+        }
+
+        for (BibDatabase database : databases) {
+            database.relayEntryChangeEvent(event);
+        }
+
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus != null) {
+            currentEventBus.post(event);
+        }
+    }
+
     public BibEntry withField(String field, String value) {
         setField(field, value);
         return this;
@@ -747,7 +860,8 @@ public class BibEntry implements Cloneable {
 
     public Set<String> getFieldAsWords(String field) {
         String fieldName = toLowerCase(field);
-        Set<String> storedList = fieldsAsWords.get(fieldName);
+        Map<String, Set<String>> wordsCache = getFieldsAsWordsCache();
+        Set<String> storedList = wordsCache.get(fieldName);
         if (storedList != null) {
             return storedList;
         } else {
@@ -756,7 +870,7 @@ public class BibEntry implements Cloneable {
                 return Collections.emptySet();
             } else {
                 HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
-                fieldsAsWords.put(fieldName, words);
+                wordsCache.put(fieldName, words);
                 return words;
             }
         }
@@ -766,24 +880,61 @@ public class BibEntry implements Cloneable {
         return clearField(KEY_FIELD);
     }
 
+    private Map<String, Set<String>> getFieldsAsWordsCache() {
+        Map<String, Set<String>> cache = fieldsAsWords;
+        if (cache == null) {
+            synchronized (this) {
+                cache = fieldsAsWords;
+                if (cache == null) {
+                    cache = new ConcurrentHashMap<>();
+                    fieldsAsWords = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    private Map<String, String> getLatexFreeFieldsCache() {
+        Map<String, String> cache = latexFreeFields;
+        if (cache == null) {
+            synchronized (this) {
+                cache = latexFreeFields;
+                if (cache == null) {
+                    cache = new ConcurrentHashMap<>();
+                    latexFreeFields = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
     private void invalidateFieldCache(String fieldName) {
-        latexFreeFields.remove(fieldName);
-        fieldsAsWords.remove(fieldName);
+        Map<String, String> currentLatexFreeFields = latexFreeFields;
+        if (currentLatexFreeFields != null) {
+            currentLatexFreeFields.remove(fieldName);
+        }
+        Map<String, Set<String>> currentFieldsAsWords = fieldsAsWords;
+        if (currentFieldsAsWords != null) {
+            currentFieldsAsWords.remove(fieldName);
+        }
     }
 
     public Optional<String> getLatexFreeField(String name) {
         if (!hasField(name)) {
             return Optional.empty();
-        } else if (latexFreeFields.containsKey(name)) {
-            return Optional.ofNullable(latexFreeFields.get(toLowerCase(name)));
+        }
+
+        Map<String, String> latexFreeCache = getLatexFreeFieldsCache();
+        if (latexFreeCache.containsKey(name)) {
+            return Optional.ofNullable(latexFreeCache.get(toLowerCase(name)));
         } else if (KEY_FIELD.equals(name)) {
             // the key field should not be converted
             Optional<String> citeKey = getCiteKeyOptional();
-            latexFreeFields.put(name, citeKey.get());
+            latexFreeCache.put(name, citeKey.get());
             return citeKey;
         } else {
-            String latexFreeField = LatexToUnicodeAdapter.format(getField(name).get()).intern();
-            latexFreeFields.put(name, latexFreeField);
+            String latexFreeField = LatexToUnicodeAdapter.format(getField(name).get());
+            latexFreeCache.put(name, latexFreeField);
             return Optional.of(latexFreeField);
         }
     }
@@ -825,7 +976,14 @@ public class BibEntry implements Cloneable {
     }
 
     public ObjectBinding<String> getFieldBinding(String fieldName) {
-        return Bindings.valueAt(fields, fieldName);
+        ObservableMap<String, String> observableMap;
+        synchronized (this) {
+            if (observableFields == null) {
+                observableFields = FXCollections.observableMap(new ConcurrentHashMap<>(fields.asMap()));
+            }
+            observableMap = observableFields;
+        }
+        return Bindings.valueAt(observableMap, fieldName);
     }
 
     public Optional<FieldChange> addFile(LinkedFile file) {
@@ -0,0 +1,203 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, array-backed storage of the fields of a {@link BibEntry}.
+ * <p>
+ * The names and values are stored alternately in a single array sorted by the field name. Compared to a hash map, this
+ * needs a fraction of the memory for the typical entry with few fields, while lookups by binary search are still fast.
+ * Field names are taken from a table shared by all entries, so that every field name is stored only once.
+ * <p>
+ * Changes create new instances, thus instances can be read from any thread without locking.
+ */
+final class FieldValues {
+
+    static final FieldValues EMPTY = new FieldValues(new String[0]);
+
+    private static final Map<String, String> FIELD_NAMES = new ConcurrentHashMap<>();
+
+    /**
+     * [name0, value0, name1, value1, ...] sorted by name
+     */
+    private final String[] namesAndValues;
+
+    private FieldValues(String[] namesAndValues) {
+        this.namesAndValues = namesAndValues;
+    }
+
+    /**
+     * Returns the shared instance of the given field name.
+     */
+    static String canonicalName(String fieldName) {
+        String canonicalName = FIELD_NAMES.putIfAbsent(fieldName, fieldName);
+        return canonicalName == null ? fieldName : canonicalName;
+    }
+
+    int size() {
+        return namesAndValues.length / 2;
+    }
+
+    String getName(int index) {
+        return namesAndValues[2 * index];
+    }
+
+    String getValue(int index) {
+        return namesAndValues[(2 * index) + 1];
+    }
+
+    /**
+     * @return the value of the given field or null if it is not set
+     */
+    String get(String fieldName) {
+        int index = indexOf(fieldName);
+        return index < 0 ? null : getValue(index);
+    }
+
+    boolean containsName(String fieldName) {
+        return indexOf(fieldName) >= 0;
+    }
+
+    /**
+     * Returns a copy of these fields in which the given field is set to the given value.
+     */
+    FieldValues with(String fieldName, String value) {
+        Objects.requireNonNull(value);
+
+        int index = indexOf(fieldName);
+        String[] newNamesAndValues;
+        if (index >= 0) {
+            newNamesAndValues = namesAndValues.clone();
+        } else {
+            // insert at the position keeping the order
+            index = -(index + 1);
+            newNamesAndValues = new String[namesAndValues.length + 2];
+            System.arraycopy(namesAndValues, 0, newNamesAndValues, 0, 2 * index);
+            System.arraycopy(namesAndValues, 2 * index, newNamesAndValues, (2 * index) + 2,
+                    namesAndValues.length - (2 * index));
+            newNamesAndValues[2 * index] = canonicalName(fieldName);
+        }
+        newNamesAndValues[(2 * index) + 1] = value;
+        return new FieldValues(newNamesAndValues);
+    }
+
+    /**
+     * Returns a copy of these fields without the given field.
+     */
+    FieldValues without(String fieldName) {
+        int index = indexOf(fieldName);
+        if (index < 0) {
+            return this;
+        }
+
+        String[] newNamesAndValues = new String[namesAndValues.length - 2];
+        System.arraycopy(namesAndValues, 0, newNamesAndValues, 0, 2 * index);
+        System.arraycopy(namesAndValues, (2 * index) + 2, newNamesAndValues, 2 * index,
+                newNamesAndValues.length - (2 * index));
+        return new FieldValues(newNamesAndValues);
+    }
+
+    /**
+     * Returns a read-only map view of these fields iterating in the order of the field names.
+     */
+    Map<String, String> asMap() {
+        return new AbstractMap<String, String>() {
+
+            @Override
+            public Set<Entry<String, String>> entrySet() {
+                return new AbstractSet<Entry<String, String>>() {
+
+                    @Override
+                    public Iterator<Entry<String, String>> iterator() {
+                        return new Iterator<Entry<String, String>>() {
+
+                            private int next;
+
+                            @Override
+                            public boolean hasNext() {
+                                return next < FieldValues.this.size();
+                            }
+
+                            @Override
+                            public Entry<String, String> next() {
+                                if (!hasNext()) {
+                                    throw new NoSuchElementException();
+                                }
+                                Entry<String, String> entry = new SimpleImmutableEntry<>(getName(next),
+                                        getValue(next));
+                                next++;
+                                return entry;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return FieldValues.this.size();
+                    }
+                };
+            }
+
+            @Override
+            public String get(Object key) {
+                return (key instanceof String) ? FieldValues.this.get((String) key) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return (key instanceof String) && containsName((String) key);
+            }
+
+            @Override
+            public int size() {
+                return FieldValues.this.size();
+            }
+        };
+    }
+
+    /**
+     * Binary search for the given field name.
+     *
+     * @return the index of the field or (-(insertion point) - 1) if it is not set
+     */
+    private int indexOf(String fieldName) {
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = getName(middle).compareTo(fieldName);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if ((o == null) || (getClass() != o.getClass())) {
+            return false;
+        }
+        return Arrays.equals(namesAndValues, ((FieldValues) o).namesAndValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(namesAndValues);
+    }
+}
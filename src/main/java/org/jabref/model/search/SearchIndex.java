@@ -0,0 +1,377 @@
+package org.jabref.model.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntryAddedEvent;
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.strings.LatexToUnicodeAdapter;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Inverted index (field -> term -> entries) over the LaTeX-free content of all entries of a {@link BibDatabase}.
+ * <p>
+ * The index is kept in sync with the database through the {@link EntryAddedEvent}, {@link EntryRemovedEvent} and
+ * {@link FieldChangedEvent} posted on the database event bus. Terms are the whitespace separated tokens of the field
+ * content, folded to lower case. Hence, every entry whose field content contains a given whitespace-free word (in any
+ * case) has a term in that field which contains the folded word. This allows search rules to restrict the set of
+ * entries to check to a superset of the actual matches, without looking at every entry of the database.
+ */
+public class SearchIndex {
+
+    /**
+     * field name -> index of the terms in that field
+     */
+    private final Map<String, FieldIndex> postings = new HashMap<>();
+    /**
+     * Entries are mutable and compare by content, thus they are tracked by identity
+     */
+    private final Set<BibEntry> indexedEntries = newEntrySet();
+
+    public SearchIndex(Collection<BibEntry> entries) {
+        entries.forEach(this::addEntry);
+    }
+
+    private static Set<BibEntry> newEntrySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Folds the given text to the representation used by the index. The folding is done character by character to
+     * ensure that a substring of a text is always a substring of the folded text, too.
+     */
+    private static String fold(String text) {
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            // treat the final sigma as a regular one, as String.toLowerCase changes it depending on the context
+            folded[i] = (c == 'ς') ? 'σ' : c;
+        }
+        return new String(folded);
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> terms = new HashSet<>();
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i < folded.length(); i++) {
+            if (Character.isWhitespace(folded.charAt(i))) {
+                if (start >= 0) {
+                    terms.add(folded.substring(start, i));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        if (start >= 0) {
+            terms.add(folded.substring(start));
+        }
+        return terms;
+    }
+
+    private static String toLatexFree(String fieldName, String value) {
+        if (BibEntry.KEY_FIELD.equals(fieldName)) {
+            // the key field is not converted, see BibEntry#getLatexFreeField
+            return value;
+        }
+        return LatexToUnicodeAdapter.format(value);
+    }
+
+    /**
+     * Returns a superset of all indexed entries that contain the given text in any field.
+     *
+     * @return the candidate entries or an empty Optional if the text does not restrict the candidates at all (e.g.,
+     * because it consists of whitespace only)
+     */
+    public Optional<Set<BibEntry>> getCandidates(String text) {
+        return getCandidates(Optional.empty(), text);
+    }
+
+    /**
+     * Returns a superset of all indexed entries that contain the given text in the given field.
+     *
+     * @return the candidate entries or an empty Optional if the text does not restrict the candidates at all (e.g.,
+     * because it consists of whitespace only)
+     */
+    public Optional<Set<BibEntry>> getCandidates(String fieldName, String text) {
+        return getCandidates(Optional.of(fieldName), text);
+    }
+
+    private synchronized Optional<Set<BibEntry>> getCandidates(Optional<String> fieldName, String text) {
+        Set<String> words = tokenize(text);
+        if (words.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<FieldIndex> fieldPostings = new ArrayList<>();
+        if (fieldName.isPresent()) {
+            FieldIndex fieldIndex = postings.get(fieldName.get());
+            if (fieldIndex != null) {
+                fieldPostings.add(fieldIndex);
+            }
+        } else {
+            fieldPostings.addAll(postings.values());
+        }
+
+        Set<BibEntry> candidates = null;
+        for (String word : words) {
+            Set<BibEntry> wordCandidates = newEntrySet();
+            for (FieldIndex fieldIndex : fieldPostings) {
+                fieldIndex.addEntriesContaining(word, wordCandidates);
+            }
+
+            if (candidates == null) {
+                candidates = wordCandidates;
+            } else {
+                candidates.retainAll(wordCandidates);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the number of distinct terms in all fields.
+     */
+    public synchronized int getNumberOfTerms() {
+        return postings.values().stream().mapToInt(FieldIndex::getNumberOfTerms).sum();
+    }
+
+    public synchronized boolean isIndexed(BibEntry entry) {
+        return indexedEntries.contains(entry);
+    }
+
+    private synchronized void addEntry(BibEntry entry) {
+        if (!indexedEntries.add(entry)) {
+            return;
+        }
+
+        for (String fieldName : entry.getFieldNames()) {
+            entry.getLatexFreeField(fieldName).ifPresent(content -> addTerms(entry, fieldName, tokenize(content)));
+        }
+    }
+
+    private synchronized void removeEntry(BibEntry entry) {
+        if (!indexedEntries.remove(entry)) {
+            return;
+        }
+
+        for (String fieldName : entry.getFieldNames()) {
+            entry.getLatexFreeField(fieldName).ifPresent(content -> removeTerms(entry, fieldName, tokenize(content)));
+        }
+    }
+
+    private synchronized void updateField(BibEntry entry, String fieldName, String oldValue) {
+        if (!indexedEntries.contains(entry)) {
+            // entries which were removed from the database may still post changes (e.g., during undo)
+            return;
+        }
+
+        if (oldValue != null) {
+            removeTerms(entry, fieldName, tokenize(toLatexFree(fieldName, oldValue)));
+        }
+        // the entry type and the internal id are no fields, thus they are not returned here
+        entry.getLatexFreeField(fieldName).ifPresent(content -> addTerms(entry, fieldName, tokenize(content)));
+    }
+
+    private void addTerms(BibEntry entry, String fieldName, Set<String> terms) {
+        FieldIndex fieldIndex = postings.computeIfAbsent(fieldName, key -> new FieldIndex());
+        for (String term : terms) {
+            fieldIndex.add(term, entry);
+        }
+    }
+
+    private void removeTerms(BibEntry entry, String fieldName, Set<String> terms) {
+        FieldIndex fieldIndex = postings.get(fieldName);
+        if (fieldIndex == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            fieldIndex.remove(term, entry);
+        }
+        if (fieldIndex.isEmpty()) {
+            postings.remove(fieldName);
+        }
+    }
+
+    @Subscribe
+    public void listen(EntryAddedEvent event) {
+        addEntry(event.getBibEntry());
+    }
+
+    @Subscribe
+    public void listen(EntryRemovedEvent event) {
+        removeEntry(event.getBibEntry());
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        updateField(event.getBibEntry(), event.getFieldName(), event.getOldValue());
+    }
+
+    /**
+     * The terms of a single field. Besides the entries of every term, the suffixes of all terms are kept in a sorted
+     * set. A term contains a word if and only if one of its suffixes starts with the word, hence the terms containing
+     * a word are found by a range query instead of looking at every term.
+     * <p>
+     * The suffixes reference their term instead of copying it. Still, their number grows with the length of the terms,
+     * thus terms longer than {@link #MAX_SUFFIX_INDEXED_TERM_LENGTH} (such as file paths or URLs) are not added to the
+     * suffixes but checked one by one.
+     */
+    private static class FieldIndex {
+
+        private static final int MAX_SUFFIX_INDEXED_TERM_LENGTH = 32;
+
+        /**
+         * term -> entries having that term in the field
+         */
+        private final Map<String, Set<BibEntry>> entries = new HashMap<>();
+        private final NavigableSet<Suffix> suffixes = new TreeSet<>();
+        private final Set<String> longTerms = new HashSet<>();
+
+        void add(String term, BibEntry entry) {
+            Set<BibEntry> termEntries = entries.get(term);
+            if (termEntries == null) {
+                termEntries = newEntrySet();
+                entries.put(term, termEntries);
+                if (term.length() > MAX_SUFFIX_INDEXED_TERM_LENGTH) {
+                    longTerms.add(term);
+                } else {
+                    for (int i = 0; i < term.length(); i++) {
+                        suffixes.add(new Suffix(term, i));
+                    }
+                }
+            }
+            termEntries.add(entry);
+        }
+
+        void remove(String term, BibEntry entry) {
+            Set<BibEntry> termEntries = entries.get(term);
+            if (termEntries == null) {
+                return;
+            }
+
+            termEntries.remove(entry);
+            if (termEntries.isEmpty()) {
+                entries.remove(term);
+                if (term.length() > MAX_SUFFIX_INDEXED_TERM_LENGTH) {
+                    longTerms.remove(term);
+                } else {
+                    for (int i = 0; i < term.length(); i++) {
+                        suffixes.remove(new Suffix(term, i));
+                    }
+                }
+            }
+        }
+
+        void addEntriesContaining(String word, Set<BibEntry> result) {
+            for (Suffix suffix : suffixes.tailSet(Suffix.lowestStartingWith(word), true)) {
+                if (!suffix.startsWith(word)) {
+                    break;
+                }
+                result.addAll(entries.get(suffix.term));
+            }
+            for (String term : longTerms) {
+                if (term.contains(word)) {
+                    result.addAll(entries.get(term));
+                }
+            }
+        }
+
+        int getNumberOfTerms() {
+            return entries.size();
+        }
+
+        boolean isEmpty() {
+            return entries.isEmpty();
+        }
+    }
+
+    /**
+     * The suffix of a term starting at the given offset. Suffixes are ordered by their text first, so that all suffixes
+     * starting with a word are adjacent.
+     */
+    private static class Suffix implements Comparable<Suffix> {
+
+        private final String term;
+        private final int offset;
+        /**
+         * Whether this is a search key, which is ordered before all suffixes with the same text
+         */
+        private final boolean key;
+
+        Suffix(String term, int offset) {
+            this(term, offset, false);
+        }
+
+        private Suffix(String term, int offset, boolean key) {
+            this.term = term;
+            this.offset = offset;
+            this.key = key;
+        }
+
+        static Suffix lowestStartingWith(String word) {
+            return new Suffix(word, 0, true);
+        }
+
+        boolean startsWith(String word) {
+            return term.startsWith(word, offset);
+        }
+
+        @Override
+        public int compareTo(Suffix other) {
+            int length = Math.min(term.length() - offset, other.term.length() - other.offset);
+            for (int i = 0; i < length; i++) {
+                int difference = term.charAt(offset + i) - other.term.charAt(other.offset + i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            int lengthDifference = (term.length() - offset) - (other.term.length() - other.offset);
+            if (lengthDifference != 0) {
+                return lengthDifference;
+            }
+            if (key != other.key) {
+                return key ? -1 : 1;
+            }
+            int termDifference = term.compareTo(other.term);
+            return (termDifference != 0) ? termDifference : Integer.compare(offset, other.offset);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            Suffix other = (Suffix) o;
+            return (offset == other.offset) && (key == other.key) && term.equals(other.term);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(term, offset, key);
+        }
+    }
+}
@@ -3,8 +3,11 @@ package org.jabref.model.search.rules;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchIndex;
 
 /**
  * Search rule for contain-based search.
@@ -58,4 +61,23 @@ public class ContainBasedSearchRule implements SearchRule {
         return false; // Didn't match all words.
     }
 
+    @Override
+    public Optional<Set<BibEntry>> getCandidates(String query, SearchIndex index) {
+        // All words have to be contained in some field, thus the candidates of the single words are intersected
+        Optional<Set<BibEntry>> candidates = Optional.empty();
+        for (String word : new SentenceAnalyzer(query).getWords()) {
+            Optional<Set<BibEntry>> wordCandidates = index.getCandidates(word);
+            if (!wordCandidates.isPresent()) {
+                continue;
+            }
+
+            if (candidates.isPresent()) {
+                candidates.get().retainAll(wordCandidates.get());
+            } else {
+                candidates = wordCandidates;
+            }
+        }
+        return candidates;
+    }
+
 }
@@ -1,5 +1,8 @@
 package org.jabref.model.search.rules;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -10,6 +13,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
+import org.jabref.model.search.SearchIndex;
 import org.jabref.search.SearchBaseVisitor;
 import org.jabref.search.SearchLexer;
 import org.jabref.search.SearchParser;
@@ -101,6 +105,20 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
     }
 
+    @Override
+    public Optional<Set<BibEntry>> getCandidates(String query, SearchIndex index) {
+        if ((tree == null) || regExpSearch) {
+            return Optional.empty();
+        }
+
+        try {
+            return new CandidateVisitor(caseSensitiveSearch, index).visit(tree);
+        } catch (Exception e) {
+            LOGGER.debug("Could not determine search candidates", e);
+            return Optional.empty();
+        }
+    }
+
     @Override
     public boolean validateSearchStrings(String query) {
         try {
@@ -192,6 +210,13 @@ public class GrammarBasedSearchRule implements SearchRule {
 
     }
 
+    private static String removeEnclosingQuotes(String text) {
+        if (text.startsWith("\"") && text.endsWith("\"")) {
+            return text.substring(1, text.length() - 1);
+        }
+        return text;
+    }
+
     /**
      * Search results in boolean. It may be later on converted to an int.
      */
@@ -220,10 +245,7 @@ public class GrammarBasedSearchRule implements SearchRule {
         @Override
         public Boolean visitComparison(SearchParser.ComparisonContext context) {
             // remove possible enclosing " symbols
-            String right = context.right.getText();
-            if (right.startsWith("\"") && right.endsWith("\"")) {
-                right = right.substring(1, right.length() - 1);
-            }
+            String right = removeEnclosingQuotes(context.right.getText());
 
             Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
             if (fieldDescriptor.isPresent()) {
@@ -253,4 +275,80 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
     }
 
+    /**
+     * Determines the entries which might match the search expression using a {@link SearchIndex}.
+     * An empty result means that all entries have to be checked.
+     * Only non-negated "contains" and "matches" comparisons on plain fields can be resolved using the index.
+     */
+    static class CandidateVisitor extends SearchBaseVisitor<Optional<Set<BibEntry>>> {
+
+        private final boolean caseSensitive;
+        private final SearchIndex index;
+
+        public CandidateVisitor(boolean caseSensitive, SearchIndex index) {
+            this.caseSensitive = caseSensitive;
+            this.index = index;
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitComparison(SearchParser.ComparisonContext context) {
+            String right = removeEnclosingQuotes(context.right.getText());
+
+            if (context.left == null) {
+                return new ContainBasedSearchRule(caseSensitive).getCandidates(right, index);
+            }
+
+            ComparisonOperator operator = ComparisonOperator.build(context.operator.getText());
+            if (operator == ComparisonOperator.DOES_NOT_CONTAIN) {
+                return Optional.empty();
+            }
+
+            String field = context.left.getText().toLowerCase(Locale.ENGLISH);
+            if ("anyfield".equals(field)) {
+                return index.getCandidates(right);
+            } else if ("anykeyword".equals(field) || BibEntry.TYPE_HEADER.equals(field)) {
+                // these are not matched against the (LaTeX-free) field content
+                return Optional.empty();
+            } else {
+                return index.getCandidates(field, right);
+            }
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Optional<Set<BibEntry>> left = visit(ctx.left);
+            Optional<Set<BibEntry>> right = visit(ctx.right);
+
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                if (!left.isPresent()) {
+                    return right;
+                }
+                right.ifPresent(rightCandidates -> left.get().retainAll(rightCandidates));
+                return left;
+            } else {
+                if (!left.isPresent() || !right.isPresent()) {
+                    return Optional.empty();
+                }
+                Set<BibEntry> union = Collections.newSetFromMap(new IdentityHashMap<>());
+                union.addAll(left.get());
+                union.addAll(right.get());
+                return Optional.of(union);
+            }
+        }
+    }
 }
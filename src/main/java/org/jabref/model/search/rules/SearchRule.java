@@ -1,10 +1,24 @@
 package org.jabref.model.search.rules;
 
+import java.util.Optional;
+import java.util.Set;
+
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchIndex;
 
 public interface SearchRule {
 
     boolean applyRule(String query, BibEntry bibEntry);
 
     boolean validateSearchStrings(String query);
+
+    /**
+     * Uses the given index to determine the entries which might be matched by the query.
+     * Each of the returned entries still has to be checked using {@link #applyRule(String, BibEntry)}.
+     *
+     * @return a superset of the matching entries or an empty Optional if the rule cannot restrict the candidates
+     */
+    default Optional<Set<BibEntry>> getCandidates(String query, SearchIndex index) {
+        return Optional.empty();
+    }
 }
@@ -14,6 +14,8 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -279,6 +281,7 @@ public class JabRefPreferences implements PreferencesService {
     public static final String KEY_GEN_FIRST_LETTER_A = "keyGenFirstLetterA";
     public static final String ENFORCE_LEGAL_BIBTEX_KEY = "enforceLegalBibtexKey";
     public static final String LOCAL_AUTO_SAVE = "localAutoSave";
+    public static final String CACHE_PARSED_LIBRARIES = "cacheParsedLibraries";
     public static final String RUN_AUTOMATIC_FILE_SEARCH = "runAutomaticFileSearch";
     public static final String NUMERIC_FIELDS = "numericFields";
     public static final String AUTOLINK_REG_EXP_SEARCH_EXPRESSION_KEY = "regExpSearchExpression";
@@ -713,6 +716,7 @@ public class JabRefPreferences implements PreferencesService {
         defaults.put(NUMERIC_FIELDS, "mittnum;author");
         defaults.put(RUN_AUTOMATIC_FILE_SEARCH, Boolean.FALSE);
         defaults.put(LOCAL_AUTO_SAVE, Boolean.FALSE);
+        defaults.put(CACHE_PARSED_LIBRARIES, Boolean.FALSE);
         defaults.put(ENFORCE_LEGAL_BIBTEX_KEY, Boolean.TRUE);
         // Curly brackets ({}) are the default delimiters, not quotes (") as these cause trouble when they appear within the field value:
         // Currently, JabRef does not escape them
@@ -1384,9 +1388,38 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     public ImportFormatPreferences getImportFormatPreferences() {
-        return new ImportFormatPreferences(customImports, getDefaultEncoding(), getKeywordDelimiter(),
-                getBibtexKeyPatternPreferences(), getFieldContentParserPreferences(),
-                isKeywordSyncEnabled());
+        ImportFormatPreferences importFormatPreferences = new ImportFormatPreferences(customImports,
+                getDefaultEncoding(), getKeywordDelimiter(), getBibtexKeyPatternPreferences(),
+                getFieldContentParserPreferences(), isKeywordSyncEnabled());
+        if (getBoolean(CACHE_PARSED_LIBRARIES)) {
+            return importFormatPreferences
+                    .withParsedLibraryCacheDirectory(getUserCacheDirectory().resolve("libraries"));
+        }
+        return importFormatPreferences;
+    }
+
+    /**
+     * Returns the directory in which the journals of interrupted bulk XMP writes are kept.
+     */
+    public Path getXMPJournalDirectory() {
+        return getUserCacheDirectory().resolve("xmp");
+    }
+
+    /**
+     * Returns the directory of the platform specific user cache.
+     */
+    private static Path getUserCacheDirectory() {
+        Path cacheDirectory;
+        if (OS.WINDOWS && (System.getenv("LOCALAPPDATA") != null)) {
+            cacheDirectory = Paths.get(System.getenv("LOCALAPPDATA"), "JabRef", "cache");
+        } else if (OS.OS_X) {
+            cacheDirectory = Paths.get(USER_HOME, "Library", "Caches", "JabRef");
+        } else if (System.getenv("XDG_CACHE_HOME") != null) {
+            cacheDirectory = Paths.get(System.getenv("XDG_CACHE_HOME"), "jabref");
+        } else {
+            cacheDirectory = Paths.get(USER_HOME, ".cache", "jabref");
+        }
+        return cacheDirectory;
     }
 
     public BibtexKeyPatternPreferences getBibtexKeyPatternPreferences() {
@@ -4,6 +4,7 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.HashSet;
+import java.util.Properties;
 import java.util.Set;
 
 import org.jabref.logic.l10n.Localization;
@@ -33,9 +34,13 @@ public class DBMSConnection {
             // we use the side effect of getAvailableDBMSTypes() - it loads all available drivers
             DBMSConnection.getAvailableDBMSTypes();
 
+            Properties driverProperties = properties.getType().getDriverProperties();
+            driverProperties.setProperty("user", properties.getUser());
+            driverProperties.setProperty("password", properties.getPassword());
+
             this.connection = DriverManager.getConnection(
                     properties.getType().getUrl(properties.getHost(), properties.getPort(), properties.getDatabase()),
-                    properties.getUser(), properties.getPassword());
+                    driverProperties);
         } catch (SQLException e) {
             // Some systems like PostgreSQL retrieves 0 to every exception.
             // Therefore a stable error determination is not possible.
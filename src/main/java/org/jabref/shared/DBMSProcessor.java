@@ -5,9 +5,13 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -24,6 +28,9 @@ import org.apache.commons.logging.LogFactory;
 
 /**
  * Processes all incoming or outgoing bib data to external SQL Database and manages its structure.
+ * <p>
+ * A processor uses a single {@link Connection} and demarcates transactions on it, thus it must not be used by several
+ * threads at the same time. {@link DBMSSynchronizer} serializes all its accesses.
  */
 public abstract class DBMSProcessor {
 
@@ -36,6 +43,8 @@ public abstract class DBMSProcessor {
 
     protected DBMSConnectionProperties connectionProperties;
 
+    private final QueryStatistics queryStatistics = new QueryStatistics();
+
 
     protected DBMSProcessor(DBMSConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
@@ -131,19 +140,62 @@ public abstract class DBMSProcessor {
      * @param bibEntry {@link BibEntry} to be inserted
      */
     public void insertEntry(BibEntry bibEntry) {
-        if (!checkForBibEntryExistence(bibEntry)) {
-            insertIntoEntryTable(bibEntry);
-            insertIntoFieldTable(bibEntry);
+        try {
+            insertEntries(Collections.singletonList(bibEntry));
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    /**
+     * Inserts the given {@link BibEntry} instances into shared database within a single transaction. The fields of all
+     * entries are sent as a single JDBC batch. Entries which already exist on shared database are ignored.
+     *
+     * @param bibEntries {@link BibEntry} instances to be inserted
+     * @throws SQLException if the entries could not be inserted; the transaction is rolled back in this case
+     */
+    public void insertEntries(List<BibEntry> bibEntries) throws SQLException {
+        Set<Integer> existingSharedIDs = getExistingSharedIDs(bibEntries);
+        List<BibEntry> notExistingEntries = new ArrayList<>();
+        for (BibEntry bibEntry : bibEntries) {
+            if (!existingSharedIDs.contains(bibEntry.getSharedBibEntryData().getSharedID())) {
+                notExistingEntries.add(bibEntry);
+            }
+        }
+        if (notExistingEntries.isEmpty()) {
+            return;
+        }
+
+        List<Integer> previousSharedIDs = new ArrayList<>();
+        for (BibEntry bibEntry : notExistingEntries) {
+            previousSharedIDs.add(bibEntry.getSharedBibEntryData().getSharedID());
         }
 
+        connection.setAutoCommit(false); // disable auto commit due to transaction
+
+        try {
+            insertIntoEntryTable(notExistingEntries);
+            insertIntoFieldTable(notExistingEntries);
+            connection.commit(); // apply all changes in current transaction
+        } catch (SQLException e) {
+            connection.rollback(); // undo changes made in current transaction
+
+            // the generated IDs do not exist on shared database anymore
+            for (int i = 0; i < notExistingEntries.size(); i++) {
+                notExistingEntries.get(i).getSharedBibEntryData().setSharedID(previousSharedIDs.get(i));
+            }
+            throw e;
+        } finally {
+            connection.setAutoCommit(true); // enable auto commit mode again
+        }
     }
 
     /**
-     * Inserts the given bibEntry into ENTRY table.
+     * Inserts the given {@link BibEntry} instances into ENTRY table and sets their generated shared IDs.
      *
-     * @param bibEntry {@link BibEntry} to be inserted
+     * @param bibEntries {@link BibEntry} instances to be inserted
      */
-    protected void insertIntoEntryTable(BibEntry bibEntry) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         // Inserting into ENTRY table
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
@@ -153,84 +205,92 @@ public abstract class DBMSProcessor {
                 .append(") VALUES(?)");
 
         // This is the only method to get generated keys which is accepted by MySQL, PostgreSQL and Oracle.
+        // The statement is reused for all entries, as the generated keys of batches are not supported by all of them.
         try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery.toString(),
                 new String[] {"SHARED_ID"})) {
+            for (BibEntry bibEntry : bibEntries) {
+                preparedEntryStatement.setString(1, bibEntry.getType());
+                executeUpdate(preparedEntryStatement);
 
-            preparedEntryStatement.setString(1, bibEntry.getType());
-            preparedEntryStatement.executeUpdate();
-
-            try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
+                try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
+                    }
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
     /**
-     * Checks whether the given bibEntry already exists on shared database.
-     * @param bibEntry {@link BibEntry} to be checked
-     * @return <code>true</code> if existent, else <code>false</code>
+     * Determines which of the shared IDs of the given entries exist on shared database.
+     *
+     * @return the shared IDs of the given entries which are present on shared database
      */
-    private boolean checkForBibEntryExistence(BibEntry bibEntry) {
-        try {
-            // Check if already exists
+    private Set<Integer> getExistingSharedIDs(List<BibEntry> bibEntries) throws SQLException {
+        Set<Integer> sharedIDs = new HashSet<>();
+        for (BibEntry bibEntry : bibEntries) {
             int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
             if (sharedID != -1) {
-                StringBuilder selectQuery = new StringBuilder()
-                        .append("SELECT * FROM ")
-                        .append(escape("ENTRY"))
-                        .append(" WHERE ")
-                        .append(escape("SHARED_ID"))
-                        .append(" = ?");
-
-                try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery.toString())) {
-                    preparedSelectStatement.setInt(1, sharedID);
-                    try (ResultSet resultSet = preparedSelectStatement.executeQuery()) {
-                        if (resultSet.next()) {
-                            return true;
-                        }
+                sharedIDs.add(sharedID);
+            }
+        }
+
+        Set<Integer> existingSharedIDs = new HashSet<>();
+        List<Integer> distinctSharedIDs = new ArrayList<>(sharedIDs);
+        int maximumNumberOfIDs = getMaximumNumberOfIDsPerQuery();
+        for (int from = 0; from < distinctSharedIDs.size(); from += maximumNumberOfIDs) {
+            List<Integer> ids = distinctSharedIDs.subList(from,
+                    Math.min(from + maximumNumberOfIDs, distinctSharedIDs.size()));
+
+            StringBuilder selectQuery = new StringBuilder()
+                    .append("SELECT ")
+                    .append(escape("SHARED_ID"))
+                    .append(" FROM ")
+                    .append(escape("ENTRY"))
+                    .append(" WHERE ")
+                    .append(getSharedIDCondition(escape("SHARED_ID"), ids.size()));
+
+            try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery.toString())) {
+                setSharedIDParameters(preparedSelectStatement, ids);
+                try (ResultSet resultSet = executeQuery(preparedSelectStatement)) {
+                    while (resultSet.next()) {
+                        existingSharedIDs.add(resultSet.getInt("SHARED_ID"));
                     }
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
-        return false;
+        return existingSharedIDs;
     }
 
     /**
-     * Inserts the given bibEntry into FIELD table.
+     * Inserts the fields of the given {@link BibEntry} instances into FIELD table using a single JDBC batch.
      *
-     * @param bibEntry {@link BibEntry} to be inserted
+     * @param bibEntries {@link BibEntry} instances to be inserted
      */
-    private void insertIntoFieldTable(BibEntry bibEntry) {
-        try {
-            // Inserting into FIELD table
-            for (String fieldName : bibEntry.getFieldNames()) {
-                StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-
-                try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+    private void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)");
+
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+            for (BibEntry bibEntry : bibEntries) {
+                // Inserting into FIELD table
+                for (String fieldName : bibEntry.getFieldNames()) {
                     // columnIndex starts with 1
                     preparedFieldStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
                     preparedFieldStatement.setString(2, fieldName);
                     preparedFieldStatement.setString(3, bibEntry.getField(fieldName).get());
-                    preparedFieldStatement.executeUpdate();
+                    preparedFieldStatement.addBatch();
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+            executeBatch(preparedFieldStatement);
         }
     }
 
@@ -238,70 +298,44 @@ public abstract class DBMSProcessor {
      * Updates the whole {@link BibEntry} on shared database.
      *
      * @param localBibEntry {@link BibEntry} affected by changes
+     * @throws OfflineLockException if the entry was changed on shared database in the meantime
      * @throws SQLException
      */
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
-        connection.setAutoCommit(false); // disable auto commit due to transaction
-
-        try {
-            Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
-
-            if (!sharedEntryOptional.isPresent()) {
-                return;
-            }
-
-            BibEntry sharedBibEntry = sharedEntryOptional.get();
-
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
-
-            // update only if local version is higher or the entries are equal
-            if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
-                    .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
-
-                insertOrUpdateFields(localBibEntry);
-
-                // updating entry type
-                StringBuilder updateEntryTypeQuery = new StringBuilder()
-                    .append("UPDATE ")
-                    .append(escape("ENTRY"))
-                    .append(" SET ")
-                    .append(escape("TYPE"))
-                    .append(" = ?, ")
-                    .append(escape("VERSION"))
-                    .append(" = ")
-                    .append(escape("VERSION"))
-                    .append(" + 1 WHERE ")
-                    .append(escape("SHARED_ID"))
-                    .append(" = ?");
-
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery.toString())) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
-                }
-
-                connection.commit(); // apply all changes in current transaction
-
-            } else {
-                throw new OfflineLockException(localBibEntry, sharedBibEntry);
-            }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
-            connection.rollback(); // undo changes made in current transaction
-        } finally {
-            connection.setAutoCommit(true); // enable auto commit mode again
+        List<OfflineLockException> refusedUpdates = updateEntries(Collections.singletonList(localBibEntry));
+        if (!refusedUpdates.isEmpty()) {
+            throw refusedUpdates.get(0);
         }
     }
 
     /**
-     * Helping method. Removes shared fields which do not exist locally
+     * Updates the given {@link BibEntry} instances on shared database within a single transaction.
+     * <p>
+     * Only fields whose values differ from the shared ones are written. All statements are sent as JDBC batches.
+     * Entries which do not exist on shared database are ignored. The versions of the updated entries are set to their
+     * new shared versions.
+     *
+     * @param localBibEntries {@link BibEntry} instances affected by changes
+     * @return an {@link OfflineLockException} for each entry which was not updated, because it was changed on shared
+     * database in the meantime
+     * @throws SQLException if the entries could not be updated; the transaction is rolled back in this case
      */
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
-        Set<String> nullFields = new HashSet<>(sharedBibEntry.getFieldNames());
-        nullFields.removeAll(localBibEntry.getFieldNames());
-        for (String nullField : nullFields) {
-            StringBuilder deleteFieldQuery = new StringBuilder()
+    public List<OfflineLockException> updateEntries(List<BibEntry> localBibEntries) throws SQLException {
+        List<OfflineLockException> refusedUpdates = new ArrayList<>();
+        if (localBibEntries.isEmpty()) {
+            return refusedUpdates;
+        }
+
+        Map<Integer, BibEntry> sharedEntries = new HashMap<>();
+        List<Integer> sharedIDs = new ArrayList<>();
+        for (BibEntry localBibEntry : localBibEntries) {
+            sharedIDs.add(localBibEntry.getSharedBibEntryData().getSharedID());
+        }
+        for (BibEntry sharedBibEntry : getSharedEntries(sharedIDs)) {
+            sharedEntries.put(sharedBibEntry.getSharedBibEntryData().getSharedID(), sharedBibEntry);
+        }
+
+        StringBuilder deleteFieldQuery = new StringBuilder()
                 .append("DELETE FROM ")
                 .append(escape("FIELD"))
                 .append(" WHERE ")
@@ -310,84 +344,116 @@ public abstract class DBMSProcessor {
                 .append(escape("ENTRY_SHARED_ID"))
                 .append(" = ?");
 
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery.toString())) {
-                preparedDeleteFieldStatement.setString(1, nullField);
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
-            }
-        }
-    }
+        StringBuilder updateFieldQuery = new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("FIELD"))
+                .append(" SET ")
+                .append(escape("VALUE"))
+                .append(" = ? WHERE ")
+                .append(escape("NAME"))
+                .append(" = ? AND ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?");
 
-    /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an update is performed.
-     */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (String fieldName : localBibEntry.getFieldNames()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(fieldName);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
-            }
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)");
 
-            StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery.toString())) {
-                preparedSelectFieldStatement.setString(1, fieldName);
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        StringBuilder updateFieldQuery = new StringBuilder()
-                                .append("UPDATE ")
-                                .append(escape("FIELD"))
-                                .append(" SET ")
-                                .append(escape("VALUE"))
-                                .append(" = ? WHERE ")
-                                .append(escape("NAME"))
-                                .append(" = ? AND ")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(" = ?");
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery.toString())) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, fieldName);
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        StringBuilder insertFieldQuery = new StringBuilder()
-                                .append("INSERT INTO ")
-                                .append(escape("FIELD"))
-                                .append("(")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES(?, ?, ?)");
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery.toString())) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, fieldName);
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
+        StringBuilder updateEntryTypeQuery = new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("ENTRY"))
+                .append(" SET ")
+                .append(escape("TYPE"))
+                .append(" = ?, ")
+                .append(escape("VERSION"))
+                .append(" = ")
+                .append(escape("VERSION"))
+                .append(" + 1 WHERE ")
+                .append(escape("SHARED_ID"))
+                .append(" = ?");
+
+        Map<BibEntry, Integer> updatedVersions = new IdentityHashMap<>();
+        connection.setAutoCommit(false); // disable auto commit due to transaction
+
+        try (PreparedStatement preparedDeleteFieldStatement = connection.prepareStatement(deleteFieldQuery.toString());
+                PreparedStatement preparedUpdateFieldStatement = connection.prepareStatement(updateFieldQuery.toString());
+                PreparedStatement preparedInsertFieldStatement = connection.prepareStatement(insertFieldQuery.toString());
+                PreparedStatement preparedUpdateEntryTypeStatement = connection
+                        .prepareStatement(updateEntryTypeQuery.toString())) {
+
+            for (BibEntry localBibEntry : localBibEntries) {
+                int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+                BibEntry sharedBibEntry = sharedEntries.get(sharedID);
+                if (sharedBibEntry == null) {
+                    continue;
+                }
+
+                // update only if local version is higher or the entries are equal
+                if ((localBibEntry.getSharedBibEntryData().getVersion() < sharedBibEntry.getSharedBibEntryData()
+                        .getVersion()) && !localBibEntry.equals(sharedBibEntry)) {
+                    refusedUpdates.add(new OfflineLockException(localBibEntry, sharedBibEntry));
+                    continue;
+                }
+                // the version is increased by the update of the entry type below
+                updatedVersions.put(localBibEntry, sharedBibEntry.getSharedBibEntryData().getVersion() + 1);
+
+                // remove shared fields which do not exist locally
+                Set<String> nullFields = new HashSet<>(sharedBibEntry.getFieldNames());
+                nullFields.removeAll(localBibEntry.getFieldNames());
+                for (String nullField : nullFields) {
+                    preparedDeleteFieldStatement.setString(1, nullField);
+                    preparedDeleteFieldStatement.setInt(2, sharedID);
+                    preparedDeleteFieldStatement.addBatch();
+                }
+
+                // insert new fields and update changed ones
+                for (String fieldName : localBibEntry.getFieldNames()) {
+                    // null values are accepted by PreparedStatement!
+                    String value = localBibEntry.getField(fieldName).orElse(null);
+                    Optional<String> sharedValue = sharedBibEntry.getField(fieldName);
+
+                    if (!sharedValue.isPresent()) {
+                        preparedInsertFieldStatement.setInt(1, sharedID);
+                        preparedInsertFieldStatement.setString(2, fieldName);
+                        preparedInsertFieldStatement.setString(3, value);
+                        preparedInsertFieldStatement.addBatch();
+                    } else if (!sharedValue.get().equals(value)) {
+                        preparedUpdateFieldStatement.setString(1, value);
+                        preparedUpdateFieldStatement.setString(2, fieldName);
+                        preparedUpdateFieldStatement.setInt(3, sharedID);
+                        preparedUpdateFieldStatement.addBatch();
                     }
                 }
+
+                // updating entry type
+                preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType());
+                preparedUpdateEntryTypeStatement.setInt(2, sharedID);
+                preparedUpdateEntryTypeStatement.addBatch();
             }
+
+            executeBatch(preparedDeleteFieldStatement);
+            executeBatch(preparedUpdateFieldStatement);
+            executeBatch(preparedInsertFieldStatement);
+            executeBatch(preparedUpdateEntryTypeStatement);
+
+            connection.commit(); // apply all changes in current transaction
+        } catch (SQLException e) {
+            connection.rollback(); // undo changes made in current transaction
+            throw e;
+        } finally {
+            connection.setAutoCommit(true); // enable auto commit mode again
         }
+
+        // the local entries are up to date now, thus a following pull does not overwrite them
+        updatedVersions.forEach((bibEntry, version) -> bibEntry.getSharedBibEntryData().setVersion(version));
+        return refusedUpdates;
     }
 
     /**
@@ -405,7 +471,7 @@ public abstract class DBMSProcessor {
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
             preparedStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
-            preparedStatement.executeUpdate();
+            executeUpdate(preparedStatement);
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
@@ -429,63 +495,157 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * @param sharedID Entry ID. If 0, all entries are going to be fetched.
-     * @return List of {@link BibEntry} instances
+     * Fetches the entries with the given shared IDs (e.g., the IDs of all entries which were changed on shared database
+     * since they were fetched the last time) together with their fields. One query is used per
+     * {@link #getMaximumNumberOfIDsPerQuery()} IDs. IDs which do not exist on shared database are ignored.
+     *
+     * @param sharedIDs Entry IDs
+     * @return List of {@link BibEntry} instances ordered by their shared ID
+     * @throws SQLException if the entries could not be fetched
      */
-    private List<BibEntry> getSharedEntryList(int sharedID) {
+    public List<BibEntry> getSharedEntries(Collection<Integer> sharedIDs) throws SQLException {
+        List<Integer> distinctSharedIDs = new ArrayList<>(new HashSet<>(sharedIDs));
+        Collections.sort(distinctSharedIDs);
+
         List<BibEntry> sharedEntries = new ArrayList<>();
+        int maximumNumberOfIDs = getMaximumNumberOfIDsPerQuery();
+        for (int from = 0; from < distinctSharedIDs.size(); from += maximumNumberOfIDs) {
+            List<Integer> ids = distinctSharedIDs.subList(from,
+                    Math.min(from + maximumNumberOfIDs, distinctSharedIDs.size()));
 
-        StringBuilder selectEntryQuery = new StringBuilder();
-        selectEntryQuery.append("SELECT * FROM ");
-        selectEntryQuery.append(escape("ENTRY"));
+            StringBuilder selectQuery = getSelectEntriesWithFieldsQuery()
+                    .append(" WHERE ")
+                    .append(getSharedIDCondition("E." + escape("SHARED_ID"), ids.size()))
+                    .append(" ORDER BY E.")
+                    .append(escape("SHARED_ID"));
+
+            try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery.toString())) {
+                setSharedIDParameters(preparedSelectStatement, ids);
+                try (ResultSet resultSet = executeQuery(preparedSelectStatement)) {
+                    sharedEntries.addAll(readEntriesWithFields(resultSet));
+                }
+            }
+        }
+        return sharedEntries;
+    }
 
-        if (sharedID != 0) {
-            selectEntryQuery.append(" WHERE ");
-            selectEntryQuery.append(escape("SHARED_ID"));
-            selectEntryQuery.append(" = ");
-            selectEntryQuery.append(sharedID);
+    /**
+     * Returns the maximum number of shared IDs passed to a single query by {@link #getSharedEntries(Collection)}.
+     */
+    protected int getMaximumNumberOfIDsPerQuery() {
+        return 500;
+    }
+
+    /**
+     * Returns an SQL condition which is fulfilled if the given column contains one of the shared IDs set by
+     * {@link #setSharedIDParameters(PreparedStatement, List)}.
+     *
+     * @param column The escaped column name
+     * @param numberOfIDs The number of shared IDs
+     */
+    protected String getSharedIDCondition(String column, int numberOfIDs) {
+        StringBuilder condition = new StringBuilder(column).append(" IN (");
+        for (int i = 0; i < numberOfIDs; i++) {
+            condition.append(i == 0 ? "?" : ", ?");
         }
+        return condition.append(")").toString();
+    }
 
-        selectEntryQuery.append(" ORDER BY ");
-        selectEntryQuery.append(escape("SHARED_ID"));
+    /**
+     * Sets the parameters of the condition returned by {@link #getSharedIDCondition(String, int)}.
+     */
+    protected void setSharedIDParameters(PreparedStatement preparedStatement, List<Integer> sharedIDs)
+            throws SQLException {
+        for (int i = 0; i < sharedIDs.size(); i++) {
+            // columnIndex starts with 1
+            preparedStatement.setInt(i + 1, sharedIDs.get(i));
+        }
+    }
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery.toString())) {
-            while (selectEntryResultSet.next()) {
-                BibEntry bibEntry = new BibEntry();
-                // setting the base attributes once
-                bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
-                bibEntry.setType(selectEntryResultSet.getString("TYPE"));
-                bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
+    /**
+     * Returns a query selecting the entries together with their fields (one row per field or a single row without
+     * field if the entry has no fields) from ENTRY (alias E) and FIELD (alias F).
+     */
+    private StringBuilder getSelectEntriesWithFieldsQuery() {
+        return new StringBuilder()
+                .append("SELECT E.")
+                .append(escape("SHARED_ID"))
+                .append(", E.")
+                .append(escape("TYPE"))
+                .append(", E.")
+                .append(escape("VERSION"))
+                .append(", F.")
+                .append(escape("NAME"))
+                .append(", F.")
+                .append(escape("VALUE"))
+                .append(" FROM ")
+                .append(escape("ENTRY"))
+                .append(" E LEFT OUTER JOIN ")
+                .append(escape("FIELD"))
+                .append(" F ON E.")
+                .append(escape("SHARED_ID"))
+                .append(" = F.")
+                .append(escape("ENTRY_SHARED_ID"));
+    }
 
-                StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
-
-                try (PreparedStatement preparedSelectFieldStatement = connection.prepareStatement(selectFieldQuery.toString())) {
-                    preparedSelectFieldStatement.setInt(1, selectEntryResultSet.getInt("SHARED_ID"));
-                    try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                        while (selectFieldResultSet.next()) {
-                            bibEntry.setField(selectFieldResultSet.getString("NAME"),
-                                    Optional.ofNullable(selectFieldResultSet.getString("VALUE")), EntryEventSource.SHARED);
-                        }
-                    }
-                }
+    /**
+     * Reads the result of a query created by {@link #getSelectEntriesWithFieldsQuery()} ordered by the shared ID.
+     */
+    private List<BibEntry> readEntriesWithFields(ResultSet resultSet) throws SQLException {
+        List<BibEntry> sharedEntries = new ArrayList<>();
+        BibEntry bibEntry = null;
+        while (resultSet.next()) {
+            int sharedID = resultSet.getInt("SHARED_ID");
+            if ((bibEntry == null) || (bibEntry.getSharedBibEntryData().getSharedID() != sharedID)) {
+                bibEntry = new BibEntry();
+                // setting the base attributes once
+                bibEntry.getSharedBibEntryData().setSharedID(sharedID);
+                bibEntry.setType(resultSet.getString("TYPE"));
+                bibEntry.getSharedBibEntryData().setVersion(resultSet.getInt("VERSION"));
                 sharedEntries.add(bibEntry);
             }
+
+            String fieldName = resultSet.getString("NAME");
+            if (fieldName != null) {
+                bibEntry.setField(fieldName, Optional.ofNullable(resultSet.getString("VALUE")),
+                        EntryEventSource.SHARED);
+            }
+        }
+        return sharedEntries;
+    }
+
+    /**
+     * @param sharedID Entry ID. If 0, all entries are going to be fetched.
+     * @return List of {@link BibEntry} instances
+     */
+    private List<BibEntry> getSharedEntryList(int sharedID) {
+        if (sharedID != 0) {
+            try {
+                return getSharedEntries(Collections.singletonList(sharedID));
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error", e);
+                return new ArrayList<>();
+            }
+        }
+
+        StringBuilder selectQuery = getSelectEntriesWithFieldsQuery()
+                .append(" ORDER BY E.")
+                .append(escape("SHARED_ID"));
+
+        try (ResultSet resultSet = executeQuery(selectQuery.toString())) {
+            return readEntriesWithFields(resultSet);
         } catch (SQLException e) {
             LOGGER.error("SQL Error", e);
         }
-
-        return sharedEntries;
+        return new ArrayList<>();
     }
 
     /**
      * Retrieves a mapping between the columns SHARED_ID and VERSION.
+     *
+     * @throws SQLException if the mapping could not be fetched
      */
-    public Map<Integer, Integer> getSharedIDVersionMapping() {
+    public Map<Integer, Integer> getSharedIDVersionMapping() throws SQLException {
         Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
         StringBuilder selectEntryQuery = new StringBuilder()
             .append("SELECT * FROM ")
@@ -493,12 +653,10 @@ public abstract class DBMSProcessor {
             .append(" ORDER BY ")
             .append(escape("SHARED_ID"));
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery.toString())) {
+        try (ResultSet selectEntryResultSet = executeQuery(selectEntryQuery.toString())) {
             while (selectEntryResultSet.next()) {
                 sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error", e);
         }
 
         return sharedIDVersionMapping;
@@ -510,7 +668,7 @@ public abstract class DBMSProcessor {
     public Map<String, String> getSharedMetaData() {
         Map<String, String> data = new HashMap<>();
 
-        try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT * FROM " + escape("METADATA"))) {
+        try (ResultSet resultSet = executeQuery("SELECT * FROM " + escape("METADATA"))) {
             while (resultSet.next()) {
                 data.put(resultSet.getString("KEY"), resultSet.getString("VALUE"));
             }
@@ -527,29 +685,86 @@ public abstract class DBMSProcessor {
      * @param data JabRef meta data as map
      */
     public void setSharedMetaData(Map<String, String> data) throws SQLException {
-        connection.createStatement().executeUpdate("TRUNCATE TABLE " + escape("METADATA")); // delete data all data from table
-
-        for (Map.Entry<String, String> metaEntry : data.entrySet()) {
+        try (Statement statement = connection.createStatement()) {
+            long start = System.nanoTime();
+            statement.executeUpdate("TRUNCATE TABLE " + escape("METADATA")); // delete data all data from table
+            queryStatistics.record(System.nanoTime() - start);
+        }
 
-            StringBuilder query = new StringBuilder()
-                .append("INSERT INTO ")
-                .append(escape("METADATA"))
-                .append("(")
-                .append(escape("KEY"))
-                .append(", ")
-                .append(escape("VALUE"))
-                .append(") VALUES(?, ?)");
+        StringBuilder query = new StringBuilder()
+            .append("INSERT INTO ")
+            .append(escape("METADATA"))
+            .append("(")
+            .append(escape("KEY"))
+            .append(", ")
+            .append(escape("VALUE"))
+            .append(") VALUES(?, ?)");
 
-            try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
+            for (Map.Entry<String, String> metaEntry : data.entrySet()) {
                 preparedStatement.setString(1, metaEntry.getKey());
                 preparedStatement.setString(2, metaEntry.getValue());
-                preparedStatement.executeUpdate();
-            } catch (SQLException e) {
-                LOGGER.error("SQL Error: ", e);
+                preparedStatement.addBatch();
             }
+            executeBatch(preparedStatement);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
         }
     }
 
+    /**
+     * Executes the given query and records its latency.
+     */
+    protected ResultSet executeQuery(PreparedStatement preparedStatement) throws SQLException {
+        long start = System.nanoTime();
+        ResultSet resultSet = preparedStatement.executeQuery();
+        queryStatistics.record(System.nanoTime() - start);
+        return resultSet;
+    }
+
+    /**
+     * Executes the given query using a new statement, which is closed together with the returned result set, and
+     * records its latency.
+     */
+    protected ResultSet executeQuery(String query) throws SQLException {
+        Statement statement = connection.createStatement();
+        statement.closeOnCompletion();
+        long start = System.nanoTime();
+        ResultSet resultSet = statement.executeQuery(query);
+        queryStatistics.record(System.nanoTime() - start);
+        return resultSet;
+    }
+
+    /**
+     * Executes the given update and records its latency.
+     */
+    protected int executeUpdate(PreparedStatement preparedStatement) throws SQLException {
+        long start = System.nanoTime();
+        int updateCount = preparedStatement.executeUpdate();
+        queryStatistics.record(System.nanoTime() - start);
+        return updateCount;
+    }
+
+    /**
+     * Executes the batch of the given statement in a single round trip and records its latency. Empty batches are not
+     * recorded.
+     */
+    protected int[] executeBatch(PreparedStatement preparedStatement) throws SQLException {
+        long start = System.nanoTime();
+        int[] updateCounts = preparedStatement.executeBatch();
+        if (updateCounts.length > 0) {
+            queryStatistics.record(System.nanoTime() - start, updateCounts.length);
+        }
+        return updateCounts;
+    }
+
+    /**
+     * Returns the number and the latency of the round trips made by this processor so far.
+     */
+    public QueryStatistics getQueryStatistics() {
+        return queryStatistics;
+    }
+
     /**
      *  Returns a new instance of the abstract type {@link DBMSProcessor}
      */
@@ -2,11 +2,21 @@ package org.jabref.shared;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.MetaDataSerializer;
@@ -38,9 +48,22 @@ import org.apache.commons.logging.LogFactory;
 /**
  * Synchronizes the shared or local databases with their opposite side.
  * Local changes are pushed by {@link EntryEvent} using Google's Guava EventBus.
+ * <p>
+ * Added entries, removed entries and field changes can be delayed: all entries added or removed and all changes done
+ * within the synchronization delay are collected and pushed together, so that, e.g., importing many entries results in a single batch insert.
+ * <p>
+ * All accesses to the shared database are serialized by the monitor of this synchronizer, as they share a single
+ * {@link Connection}. If a synchronization delay is set, the delayed pushes, removals and meta data changes are
+ * executed on a background thread. Changes of the local database (pulled entries and meta data, save actions) and the
+ * events of this synchronizer are handed to the local executor (see {@link #setLocalExecutor(Executor)}).
  */
 public class DBMSSynchronizer {
 
+    /**
+     * The delay used for the synchronization of field changes when connecting to a shared database in JabRef
+     */
+    public static final long DEFAULT_SYNCHRONIZATION_DELAY_MILLIS = 500;
+
     private static final Log LOGGER = LogFactory.getLog(DBMSSynchronizer.class);
 
     private DBMSProcessor dbmsProcessor;
@@ -53,15 +76,57 @@ public class DBMSSynchronizer {
     private Connection currentConnection;
     private final Character keywordSeparator;
     private GlobalBibtexKeyPattern globalCiteKeyPattern;
+    private final long synchronizationDelayMillis;
+    private Executor localExecutor = Runnable::run;
+    /**
+     * Entries with field changes which were not pushed yet. Entries are mutable, thus they are tracked by identity.
+     */
+    private final Set<BibEntry> pendingEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    // guarded by pendingEntries
+    private final List<BibEntry> pendingAddedEntries = new ArrayList<>();
+    // guarded by pendingEntries
+    private final List<BibEntry> pendingRemovedEntries = new ArrayList<>();
+    // entries whose field changes are being pushed, guarded by pendingEntries
+    private final Set<BibEntry> pushedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    // entries which were inserted, but may be unknown to pulls applied in the meantime, guarded by pendingEntries
+    private final Set<BibEntry> insertedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduledSynchronization;
+    private volatile boolean collectingPendingEntries;
 
+    /**
+     * Creates a synchronizer which pushes each added entry, each removed entry and each field change immediately.
+     */
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
             GlobalBibtexKeyPattern globalCiteKeyPattern) {
+        this(bibDatabaseContext, keywordSeparator, globalCiteKeyPattern, 0);
+    }
+
+    /**
+     * @param synchronizationDelayMillis the time added entries, removed entries and field changes are collected
+     *                                   before they are pushed; 0 to push each of them immediately
+     */
+    public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
+            GlobalBibtexKeyPattern globalCiteKeyPattern, long synchronizationDelayMillis) {
+        if (synchronizationDelayMillis < 0) {
+            throw new IllegalArgumentException("The synchronization delay must not be negative");
+        }
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
         this.bibDatabase = bibDatabaseContext.getDatabase();
         this.metaData = bibDatabaseContext.getMetaData();
         this.eventBus = new EventBus();
         this.keywordSeparator = keywordSeparator;
         this.globalCiteKeyPattern = Objects.requireNonNull(globalCiteKeyPattern);
+        this.synchronizationDelayMillis = synchronizationDelayMillis;
+    }
+
+    /**
+     * Sets the executor which applies changes to the local database and its meta data and which posts the events of
+     * this synchronizer. It has to run the given tasks in order on the thread owning the local database (e.g., the
+     * event dispatch thread). By default, the tasks are run by the calling thread.
+     */
+    public void setLocalExecutor(Executor localExecutor) {
+        this.localExecutor = Objects.requireNonNull(localExecutor);
     }
 
     /**
@@ -73,10 +138,11 @@ public class DBMSSynchronizer {
     public void listen(EntryAddedEvent event) {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
-        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
-            dbmsProcessor.insertEntry(event.getBibEntry());
-            synchronizeLocalMetaData();
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+        if (isEventSourceAccepted(event)) {
+            synchronized (pendingEntries) {
+                pendingAddedEntries.add(event.getBibEntry());
+            }
+            scheduleSynchronization();
         }
     }
 
@@ -89,11 +155,186 @@ public class DBMSSynchronizer {
     public void listen(FieldChangedEvent event) {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
-        if (isPresentLocalBibEntry(event.getBibEntry()) && isEventSourceAccepted(event) && checkCurrentConnection()) {
-            synchronizeLocalMetaData();
-            BibEntry bibEntry = event.getBibEntry();
-            synchronizeSharedEntry(bibEntry);
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+        if (isPresentLocalBibEntry(event.getBibEntry()) && isEventSourceAccepted(event)) {
+            synchronized (pendingEntries) {
+                pendingEntries.add(event.getBibEntry());
+            }
+            scheduleSynchronization();
+        }
+    }
+
+    private void scheduleSynchronization() {
+        if (synchronizationDelayMillis == 0) {
+            if (!collectingPendingEntries) {
+                synchronizePendingEntries();
+            }
+            return;
+        }
+
+        synchronized (pendingEntries) {
+            if (scheduledSynchronization == null) {
+                // the pending entries are collected by the local executor, as save actions are applied to them
+                scheduledSynchronization = getScheduler().schedule(() -> localExecutor.execute(() -> {
+                    PendingChanges changes = collectPendingChanges();
+                    runOnSynchronizerThread(() -> pushChanges(changes));
+                }), synchronizationDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private ScheduledExecutorService getScheduler() {
+        synchronized (pendingEntries) {
+            if (scheduler == null) {
+                scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "DBMSSynchronizer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return scheduler;
+        }
+    }
+
+    /**
+     * Runs the given task on the background thread if a synchronization delay is set, otherwise on the calling thread.
+     */
+    private void runOnSynchronizerThread(Runnable task) {
+        if (synchronizationDelayMillis == 0) {
+            task.run();
+            return;
+        }
+
+        try {
+            getScheduler().execute(task);
+        } catch (RejectedExecutionException e) {
+            // the shared database is being closed
+            task.run();
+        }
+    }
+
+    /**
+     * Pushes all collected entries and field changes to the shared database and pulls the changes of the other clients
+     * afterwards. The added entries are inserted within a single transaction, the changed entries are updated within
+     * another one. The push is done by the calling thread, which has to own the local database.
+     * <p>
+     * Entries which could not be pushed stay pending and are pushed together with the next changes.
+     */
+    public void synchronizePendingEntries() {
+        pushChanges(collectPendingChanges());
+    }
+
+    /**
+     * Applies the save actions to the entries with pending field changes and takes all pending changes for pushing
+     * them.
+     */
+    private PendingChanges collectPendingChanges() {
+        List<BibEntry> changedEntries;
+        synchronized (pendingEntries) {
+            changedEntries = new ArrayList<>(pendingEntries);
+        }
+
+        collectingPendingEntries = true;
+        try {
+            // the field changes done by the save actions are pushed in this run as well
+            for (BibEntry bibEntry : changedEntries) {
+                BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
+            }
+        } finally {
+            collectingPendingEntries = false;
+        }
+
+        synchronized (pendingEntries) {
+            List<BibEntry> removedEntries = new ArrayList<>(pendingRemovedEntries);
+            pendingRemovedEntries.clear();
+            // the added entries stay pending until they are inserted, so that they are not removed by a concurrent pull
+            List<BibEntry> addedEntries = new ArrayList<>(pendingAddedEntries);
+            // added entries are inserted with all their fields, thus there is no need to update them
+            pendingAddedEntries.forEach(pendingEntries::remove);
+            changedEntries = new ArrayList<>(pendingEntries);
+            pushedEntries.addAll(changedEntries);
+            pendingEntries.clear();
+            scheduledSynchronization = null;
+            return new PendingChanges(removedEntries, addedEntries, changedEntries);
+        }
+    }
+
+    private synchronized void pushChanges(PendingChanges changes) {
+        List<BibEntry> addedEntries = new ArrayList<>();
+        synchronized (pendingEntries) {
+            // entries which were removed in the meantime must not be inserted anymore
+            Set<BibEntry> stillAddedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+            stillAddedEntries.addAll(pendingAddedEntries);
+            for (BibEntry addedEntry : changes.addedEntries) {
+                if (stillAddedEntries.contains(addedEntry)) {
+                    addedEntries.add(addedEntry);
+                }
+            }
+        }
+        List<BibEntry> removedEntries = changes.removedEntries;
+        List<BibEntry> changedEntries = changes.changedEntries;
+
+        if (removedEntries.isEmpty() && addedEntries.isEmpty() && changedEntries.isEmpty()) {
+            return;
+        }
+        if (!checkCurrentConnection()) {
+            synchronized (pendingEntries) {
+                pendingRemovedEntries.addAll(0, removedEntries);
+            }
+            returnToPendingEntries(changedEntries);
+            return;
+        }
+
+        for (BibEntry removedEntry : removedEntries) {
+            dbmsProcessor.removeEntry(removedEntry);
+        }
+
+        List<BibEntry> newlyInsertedEntries = Collections.emptyList();
+        List<OfflineLockException> refusedUpdates = Collections.emptyList();
+        boolean changesPushed = !removedEntries.isEmpty();
+        try {
+            if (!addedEntries.isEmpty()) {
+                dbmsProcessor.insertEntries(addedEntries);
+                newlyInsertedEntries = addedEntries;
+                changesPushed = true;
+                Set<BibEntry> committedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+                committedEntries.addAll(addedEntries);
+                synchronized (pendingEntries) {
+                    pendingAddedEntries.removeIf(committedEntries::contains);
+                    insertedEntries.addAll(addedEntries);
+                }
+            }
+            if (!changedEntries.isEmpty()) {
+                refusedUpdates = dbmsProcessor.updateEntries(changedEntries);
+                changesPushed = true;
+                synchronized (pendingEntries) {
+                    changedEntries.forEach(pushedEntries::remove);
+                }
+            }
+        } catch (SQLException e) {
+            // the entries which were not pushed stay pending and are pushed together with the next changes
+            LOGGER.error("SQL Error: ", e);
+        }
+        returnToPendingEntries(changedEntries);
+
+        if (changesPushed) {
+            // the other clients are notified as soon as the changes are committed
+            dbmsProcessor.notifyClients();
+        }
+        for (OfflineLockException exception : refusedUpdates) {
+            postEvent(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+        }
+
+        synchronizeLocalMetaData();
+        synchronizeLocalDatabase(newlyInsertedEntries); // Pull changes for the case that there were some
+    }
+
+    private void returnToPendingEntries(List<BibEntry> changedEntries) {
+        synchronized (pendingEntries) {
+            for (BibEntry changedEntry : changedEntries) {
+                if (pushedEntries.remove(changedEntry)) {
+                    pendingEntries.add(changedEntry);
+                }
+            }
         }
     }
 
@@ -106,10 +347,15 @@ public class DBMSSynchronizer {
     public void listen(EntryRemovedEvent event) {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to delete the bibEntry entry again (but it would not harm).
-        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
-            dbmsProcessor.removeEntry(event.getBibEntry());
-            synchronizeLocalMetaData();
-            synchronizeLocalDatabase(); // Pull changes for the case that there where some
+        if (isEventSourceAccepted(event)) {
+            BibEntry removedEntry = event.getBibEntry();
+            synchronized (pendingEntries) {
+                pendingEntries.remove(removedEntry);
+                pushedEntries.remove(removedEntry);
+                pendingAddedEntries.removeIf(pendingAddedEntry -> pendingAddedEntry == removedEntry);
+                pendingRemovedEntries.add(removedEntry);
+            }
+            scheduleSynchronization();
         }
     }
 
@@ -120,19 +366,13 @@ public class DBMSSynchronizer {
      */
     @Subscribe
     public void listen(MetaDataChangedEvent event) {
-        if (checkCurrentConnection()) {
-            synchronizeSharedMetaData(event.getMetaData(), globalCiteKeyPattern);
-            synchronizeLocalDatabase();
-            applyMetaData();
-            dbmsProcessor.notifyClients();
-        }
-    }
-
-    @Subscribe
-    public void listen(EntryEvent event) {
-        if (isEventSourceAccepted(event)) {
-            dbmsProcessor.notifyClients();
-        }
+        Map<String, String> serializedMetaData = MetaDataSerializer.getSerializedStringMap(event.getMetaData(),
+                globalCiteKeyPattern);
+        runOnSynchronizerThread(() -> {
+            if (synchronizeSharedMetaData(serializedMetaData)) {
+                localExecutor.execute(this::applyMetaData);
+            }
+        });
     }
 
     /**
@@ -142,7 +382,7 @@ public class DBMSSynchronizer {
      * @throws DatabaseNotSupportedException if the version of shared database does not match
      *          the version of current shared database support ({@link DBMSProcessor}).
      */
-    public void initializeDatabases() throws DatabaseNotSupportedException, SQLException {
+    public synchronized void initializeDatabases() throws DatabaseNotSupportedException, SQLException {
         if (!dbmsProcessor.checkBaseIntegrity()) {
             LOGGER.info("Integrity check failed. Fixing...");
             dbmsProcessor.setupSharedDatabase();
@@ -162,50 +402,113 @@ public class DBMSSynchronizer {
     /**
      * Synchronizes the local database with shared one.
      * Possible update types are removal, update or insert of a {@link BibEntry}.
+     * Local entries with changes which are not pushed yet are not updated.
      */
     public void synchronizeLocalDatabase() {
-        if (!checkCurrentConnection()) {
-            return;
-        }
+        synchronizeLocalDatabase(Collections.emptyList());
+    }
+
+    /**
+     * @param newlyInsertedEntries entries inserted right before, which are kept locally until this pull is applied
+     */
+    private synchronized void synchronizeLocalDatabase(List<BibEntry> newlyInsertedEntries) {
+        Map<Integer, Integer> idVersionMap = Collections.emptyMap();
+        List<BibEntry> sharedEntries = Collections.emptyList();
+        boolean pulled = false;
+        if (checkCurrentConnection()) {
+            try {
+                idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
-        Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
+                Map<Integer, Integer> localVersions = new HashMap<>();
+                for (BibEntry localEntry : new ArrayList<>(bibDatabase.getEntries())) {
+                    localVersions.merge(localEntry.getSharedBibEntryData().getSharedID(),
+                            localEntry.getSharedBibEntryData().getVersion(), Math::min);
+                }
 
-        // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
-
-        // compare versions and update local entry if needed
-        for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean match = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey() == localEntry.getSharedBibEntryData().getSharedID()) {
-                    match = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntryEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                    .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            for (String field : sharedEntry.get().getFieldNames()) {
-                                localEntry.setField(field, sharedEntry.get().getField(field), EntryEventSource.SHARED);
-                            }
-
-                            Set<String> redundantLocalEntryFields = localEntry.getFieldNames();
-                            redundantLocalEntryFields.removeAll(sharedEntry.get().getFieldNames());
-
-                            // remove not existing fields
-                            for (String redundantField : redundantLocalEntryFields) {
-                                localEntry.clearField(redundantField, EntryEventSource.SHARED);
-                            }
-                        }
+                // compare versions and fetch only new entries and entries with a higher version
+                List<Integer> changedSharedIDs = new ArrayList<>();
+                for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
+                    Integer localVersion = localVersions.get(idVersionEntry.getKey());
+                    if ((localVersion == null) || (idVersionEntry.getValue() > localVersion)) {
+                        changedSharedIDs.add(idVersionEntry.getKey());
                     }
                 }
+                if (!changedSharedIDs.isEmpty()) {
+                    sharedEntries = dbmsProcessor.getSharedEntries(changedSharedIDs);
+                }
+                pulled = true;
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+            }
+        }
+
+        Set<Integer> sharedIDs = idVersionMap.keySet();
+        List<BibEntry> changedSharedEntries = sharedEntries;
+        boolean applyChanges = pulled;
+        localExecutor.execute(() -> {
+            if (applyChanges) {
+                applySharedChanges(sharedIDs, changedSharedEntries);
+            }
+            synchronized (pendingEntries) {
+                // all pulls applied from now on know the inserted entries
+                newlyInsertedEntries.forEach(insertedEntries::remove);
+            }
+        });
+    }
+
+    /**
+     * Applies the pulled changes to the local database. Has to be run by the local executor.
+     *
+     * @param sharedIDs the IDs of all entries present on shared database
+     * @param sharedEntries the shared entries which are new or have a higher version than the local ones
+     */
+    private void applySharedChanges(Set<Integer> sharedIDs, List<BibEntry> sharedEntries) {
+        Set<BibEntry> notInsertedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<BibEntry> notPushedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        synchronized (pendingEntries) {
+            notInsertedEntries.addAll(pendingAddedEntries);
+            notInsertedEntries.addAll(insertedEntries);
+            notPushedEntries.addAll(pendingEntries);
+            notPushedEntries.addAll(pushedEntries);
+        }
+
+        List<BibEntry> localEntries = new ArrayList<>(bibDatabase.getEntries());
+
+        // remove old entries locally
+        removeNotSharedEntries(localEntries, sharedIDs, notInsertedEntries);
+
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : localEntries) {
+            localEntriesBySharedID.computeIfAbsent(localEntry.getSharedBibEntryData().getSharedID(),
+                    sharedID -> new ArrayList<>()).add(localEntry);
+        }
+
+        for (BibEntry sharedEntry : sharedEntries) {
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID
+                    .get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (matchingLocalEntries == null) {
+                bibDatabase.insertEntry(sharedEntry, EntryEventSource.SHARED);
+                continue;
             }
-            if (!match) {
-                Optional<BibEntry> bibEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                if (bibEntry.isPresent()) {
-                    bibDatabase.insertEntry(bibEntry.get(), EntryEventSource.SHARED);
+
+            for (BibEntry localEntry : matchingLocalEntries) {
+                // local changes which are not pushed yet are kept, a conflict is detected when they are pushed
+                if (!notPushedEntries.contains(localEntry)
+                        && (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion())) {
+                    // update fields
+                    localEntry.setType(sharedEntry.getType(), EntryEventSource.SHARED);
+                    localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+                    for (String field : sharedEntry.getFieldNames()) {
+                        localEntry.setField(field, sharedEntry.getField(field), EntryEventSource.SHARED);
+                    }
+
+                    Set<String> redundantLocalEntryFields = localEntry.getFieldNames();
+                    redundantLocalEntryFields.removeAll(sharedEntry.getFieldNames());
+
+                    // remove not existing fields
+                    for (String redundantField : redundantLocalEntryFields) {
+                        localEntry.clearField(redundantField, EntryEventSource.SHARED);
+                    }
                 }
             }
         }
@@ -216,96 +519,94 @@ public class DBMSSynchronizer {
      *
      * @param localEntries List of {@link BibEntry} the entries should be removed from
      * @param sharedIDs Set of all IDs which are present on shared database
+     * @param notInsertedEntries entries which were added locally, but may not be known to the shared IDs
      */
-    private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
-        for (int i = 0; i < localEntries.size(); i++) {
-            BibEntry localEntry = localEntries.get(i);
-            boolean match = false;
-            for (int sharedID : sharedIDs) {
-                if (localEntry.getSharedBibEntryData().getSharedID() == sharedID) {
-                    match = true;
-                    break;
-                }
-            }
-            if (!match) {
+    private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs,
+            Set<BibEntry> notInsertedEntries) {
+        for (Iterator<BibEntry> iterator = localEntries.iterator(); iterator.hasNext(); ) {
+            BibEntry localEntry = iterator.next();
+            if (!sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID())
+                    && !notInsertedEntries.contains(localEntry)) {
                 eventBus.post(new SharedEntryNotPresentEvent(localEntry));
                 bibDatabase.removeEntry(localEntry, EntryEventSource.SHARED); // Should not reach the listeners above.
-                i--; // due to index shift on localEntries
+                iterator.remove();
             }
         }
     }
 
     /**
-     * Synchronizes the shared {@link BibEntry} with the local one.
+     * Synchronizes the shared {@link BibEntry} with the local one. Has to be called by the thread owning the local
+     * database.
      */
     public void synchronizeSharedEntry(BibEntry bibEntry) {
-        if (!checkCurrentConnection()) {
-            return;
-        }
-        try {
-            BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
-            dbmsProcessor.updateEntry(bibEntry);
-        } catch (OfflineLockException exception) {
-            eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+        BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
+        synchronized (this) {
+            if (!checkCurrentConnection()) {
+                return;
+            }
+            try {
+                dbmsProcessor.updateEntry(bibEntry);
+                dbmsProcessor.notifyClients();
+            } catch (OfflineLockException exception) {
+                postEvent(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+            }
         }
     }
 
     /**
      * Synchronizes all meta data locally.
      */
-    public void synchronizeLocalMetaData() {
+    public synchronized void synchronizeLocalMetaData() {
         if (!checkCurrentConnection()) {
             return;
         }
 
-        try {
-            MetaDataParser.parse(metaData, dbmsProcessor.getSharedMetaData(), keywordSeparator);
-        } catch (ParseException e) {
-            LOGGER.error("Parse error", e);
-        }
+        Map<String, String> sharedMetaData = dbmsProcessor.getSharedMetaData();
+        localExecutor.execute(() -> {
+            try {
+                MetaDataParser.parse(metaData, sharedMetaData, keywordSeparator);
+            } catch (ParseException e) {
+                LOGGER.error("Parse error", e);
+            }
+        });
     }
 
     /**
      * Synchronizes all shared meta data.
+     *
+     * @return <code>true</code> if the meta data were written, else <code>false</code>.
      */
-    private void synchronizeSharedMetaData(MetaData data, GlobalBibtexKeyPattern globalCiteKeyPattern) {
+    private synchronized boolean synchronizeSharedMetaData(Map<String, String> serializedMetaData) {
         if (!checkCurrentConnection()) {
-            return;
+            return false;
         }
         try {
-            dbmsProcessor.setSharedMetaData(MetaDataSerializer.getSerializedStringMap(data, globalCiteKeyPattern));
+            dbmsProcessor.setSharedMetaData(serializedMetaData);
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
+            return false;
         }
+        dbmsProcessor.notifyClients();
+        synchronizeLocalDatabase();
+        return true;
     }
 
     /**
-     * Applies the {@link MetaData} on all local and shared BibEntries.
+     * Applies the {@link MetaData} on all local BibEntries. The changed entries are pushed like any other field
+     * change. Has to be called by the thread owning the local database.
      */
     public void applyMetaData() {
-        if (!checkCurrentConnection()) {
-            return;
-        }
-        for (BibEntry bibEntry : bibDatabase.getEntries()) {
-            // synchronize only if changes were present
-            if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData).isEmpty()) {
-                try {
-                    dbmsProcessor.updateEntry(bibEntry);
-                } catch (OfflineLockException exception) {
-                    eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
-                } catch (SQLException e) {
-                    LOGGER.error("SQL Error: ", e);
-                }
-            }
+        for (BibEntry bibEntry : new ArrayList<>(bibDatabase.getEntries())) {
+            BibDatabaseWriter.applySaveActions(bibEntry, metaData);
         }
     }
 
     /**
      * Synchronizes the local BibEntries and applies the fetched MetaData on them.
      */
-    public void pullChanges() {
+    public synchronized void pullChanges() {
         if (!checkCurrentConnection()) {
             return;
         }
@@ -320,11 +621,11 @@ public class DBMSSynchronizer {
      *
      *  @return <code>true</code> if the connection is valid, else <code>false</code>.
      */
-    public boolean checkCurrentConnection() {
+    public synchronized boolean checkCurrentConnection() {
         try {
             boolean isValid = currentConnection.isValid(0);
             if (!isValid) {
-                eventBus.post(new ConnectionLostEvent(bibDatabaseContext));
+                postEvent(new ConnectionLostEvent(bibDatabaseContext));
             }
             return isValid;
 
@@ -359,12 +660,39 @@ public class DBMSSynchronizer {
     }
 
     public void closeSharedDatabase() {
-        try {
-            dbmsProcessor.stopNotificationListener();
-            currentConnection.close();
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error:", e);
+        // push the changes collected so far
+        synchronizePendingEntries();
+        ScheduledExecutorService executor;
+        synchronized (pendingEntries) {
+            executor = scheduler;
+            scheduler = null;
+            if (scheduledSynchronization != null) {
+                scheduledSynchronization.cancel(false);
+                scheduledSynchronization = null;
+            }
+        }
+        if (executor != null) {
+            // let the meta data changes submitted so far finish
+            executor.shutdown();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
+
+        synchronized (this) {
+            try {
+                dbmsProcessor.stopNotificationListener();
+                currentConnection.close();
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error:", e);
+            }
+        }
+    }
+
+    private void postEvent(Object event) {
+        localExecutor.execute(() -> eventBus.post(event));
     }
 
     private boolean isPresentLocalBibEntry(BibEntry bibEntry) {
@@ -390,4 +718,17 @@ public class DBMSSynchronizer {
     public void registerListener(Object listener) {
         eventBus.register(listener);
     }
+
+    private static class PendingChanges {
+
+        private final List<BibEntry> removedEntries;
+        private final List<BibEntry> addedEntries;
+        private final List<BibEntry> changedEntries;
+
+        PendingChanges(List<BibEntry> removedEntries, List<BibEntry> addedEntries, List<BibEntry> changedEntries) {
+            this.removedEntries = removedEntries;
+            this.addedEntries = addedEntries;
+            this.changedEntries = changedEntries;
+        }
+    }
 }
@@ -2,6 +2,7 @@ package org.jabref.shared;
 
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Properties;
 
 /**
  * Enumerates all supported database systems (DBMS) by JabRef.
@@ -53,6 +54,24 @@ public enum DBMSType {
         return String.format(urlPattern, host, port, database);
     }
 
+    /**
+     * Returns the driver specific connection properties which let the driver cache prepared statements per connection
+     * and send JDBC batches efficiently.
+     */
+    public Properties getDriverProperties() {
+        Properties properties = new Properties();
+        if (this == MYSQL) {
+            properties.setProperty("cachePrepStmts", "true");
+            properties.setProperty("prepStmtCacheSize", "250");
+            // sends a batch of inserts as a single multi-value insert
+            properties.setProperty("rewriteBatchedStatements", "true");
+        } else if (this == ORACLE) {
+            properties.setProperty("oracle.jdbc.implicitStatementCacheSize", "50");
+        }
+        // the PostgreSQL driver caches prepared statements per connection by default
+        return properties;
+    }
+
     /**
      * Retrieves the port number dependent on the type of the database system.
      */
@@ -41,4 +41,10 @@ public class MySQLProcessor extends DBMSProcessor {
     String escape(String expression) {
         return "`" + expression + "`";
     }
+
+    @Override
+    protected int getMaximumNumberOfIDsPerQuery() {
+        // MySQL does not limit the number of expressions in an IN list, only the size of a packet
+        return 10000;
+    }
 }
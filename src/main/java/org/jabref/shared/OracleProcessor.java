@@ -96,6 +96,12 @@ public class OracleProcessor extends DBMSProcessor {
 
     }
 
+    @Override
+    protected int getMaximumNumberOfIDsPerQuery() {
+        // Oracle allows at most 1000 expressions in an IN list
+        return 1000;
+    }
+
     @Override
     public void stopNotificationListener() {
         try {
@@ -4,6 +4,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -54,7 +55,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     }
 
     @Override
-    protected void insertIntoEntryTable(BibEntry bibEntry) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         // Inserting into ENTRY table
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
@@ -66,17 +67,16 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         // This is the only method to get generated keys which is accepted by MySQL, PostgreSQL and Oracle.
         try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery.toString(),
                 Statement.RETURN_GENERATED_KEYS)) {
-
-            preparedEntryStatement.setString(1, bibEntry.getType());
-            preparedEntryStatement.executeUpdate();
-
-            try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
+            for (BibEntry bibEntry : bibEntries) {
+                preparedEntryStatement.setString(1, bibEntry.getType());
+                executeUpdate(preparedEntryStatement);
+
+                try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
+                    }
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -85,6 +85,23 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         return "\"" + expression + "\"";
     }
 
+    @Override
+    protected int getMaximumNumberOfIDsPerQuery() {
+        // all IDs are passed as a single array parameter
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected String getSharedIDCondition(String column, int numberOfIDs) {
+        return column + " = ANY (?)";
+    }
+
+    @Override
+    protected void setSharedIDParameters(PreparedStatement preparedStatement, List<Integer> sharedIDs)
+            throws SQLException {
+        preparedStatement.setArray(1, connection.createArrayOf("int4", sharedIDs.toArray()));
+    }
+
     @Override
     public void startNotificationListener(DBMSSynchronizer dbmsSynchronizer) {
         // Disable cleanup output of ThreadedHousekeeper
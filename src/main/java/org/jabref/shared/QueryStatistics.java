@@ -0,0 +1,129 @@
+package org.jabref.shared;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the number and the latency of the round trips a {@link DBMSProcessor} makes to the shared database.
+ * <p>
+ * The percentiles are computed over the latencies of the most recent round trips only (see
+ * {@link #DEFAULT_NUMBER_OF_SAMPLES}), so that they reflect the current state of the connection.
+ * <p>
+ * All methods are synchronized, thus a round trip is recorded atomically with respect to {@link #reset()} and the
+ * getters.
+ */
+public class QueryStatistics {
+
+    public static final int DEFAULT_NUMBER_OF_SAMPLES = 1000;
+
+    private long numberOfQueries;
+    private long numberOfBatchedStatements;
+    private long totalNanos;
+
+    // ring buffer of the most recent latencies
+    private final long[] samples;
+    private int nextSample;
+    private int numberOfSamples;
+
+    public QueryStatistics() {
+        this(DEFAULT_NUMBER_OF_SAMPLES);
+    }
+
+    public QueryStatistics(int numberOfSamples) {
+        if (numberOfSamples <= 0) {
+            throw new IllegalArgumentException("The number of samples must be positive");
+        }
+        this.samples = new long[numberOfSamples];
+    }
+
+    /**
+     * Records a single round trip.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        record(nanos, 1);
+    }
+
+    /**
+     * Records a single round trip which executed the given number of statements (e.g., a JDBC batch).
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public synchronized void record(long nanos, int statements) {
+        numberOfQueries++;
+        numberOfBatchedStatements += statements;
+        totalNanos += nanos;
+
+        samples[nextSample] = nanos;
+        nextSample = (nextSample + 1) % samples.length;
+        numberOfSamples = Math.min(numberOfSamples + 1, samples.length);
+    }
+
+    /**
+     * Returns the number of round trips to the database.
+     */
+    public synchronized long getNumberOfQueries() {
+        return numberOfQueries;
+    }
+
+    /**
+     * Returns the number of statements executed by all round trips. This number is higher than
+     * {@link #getNumberOfQueries()} if statements were sent as batches.
+     */
+    public synchronized long getNumberOfStatements() {
+        return numberOfBatchedStatements;
+    }
+
+    /**
+     * Returns the average latency of all round trips in milliseconds.
+     */
+    public synchronized double getAverageLatencyMillis() {
+        if (numberOfQueries == 0) {
+            return 0;
+        }
+        return toMillis(totalNanos) / numberOfQueries;
+    }
+
+    /**
+     * Returns the latency in milliseconds which is not exceeded by the given percentage of the recent round trips.
+     *
+     * @param percentile a value between 0 and 100, e.g., 50 for the median or 99
+     */
+    public synchronized double getLatencyPercentileMillis(double percentile) {
+        if ((percentile < 0) || (percentile > 100)) {
+            throw new IllegalArgumentException("The percentile has to be between 0 and 100");
+        }
+
+        long[] sortedSamples = Arrays.copyOf(samples, numberOfSamples);
+        if (sortedSamples.length == 0) {
+            return 0;
+        }
+        Arrays.sort(sortedSamples);
+
+        // nearest-rank method
+        int rank = (int) Math.ceil((percentile / 100) * sortedSamples.length);
+        return toMillis(sortedSamples[Math.max(rank, 1) - 1]);
+    }
+
+    public synchronized void reset() {
+        numberOfQueries = 0;
+        numberOfBatchedStatements = 0;
+        totalNanos = 0;
+        nextSample = 0;
+        numberOfSamples = 0;
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "QueryStatistics{queries=%d, statements=%d, average=%.2fms, p50=%.2fms, "
+                        + "p95=%.2fms, p99=%.2fms}",
+                getNumberOfQueries(), getNumberOfStatements(), getAverageLatencyMillis(),
+                getLatencyPercentileMillis(50), getLatencyPercentileMillis(95), getLatencyPercentileMillis(99));
+    }
+}
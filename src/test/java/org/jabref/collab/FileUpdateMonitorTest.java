@@ -0,0 +1,172 @@
+package org.jabref.collab;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileUpdateMonitorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private FileUpdateMonitor monitor;
+    private final List<Thread> monitorThreads = new ArrayList<>();
+    private Path file;
+    private CountDownLatch updated;
+    private CountDownLatch removed;
+
+    @Before
+    public void setUp() throws IOException {
+        monitor = new FileUpdateMonitor();
+        start(monitor);
+
+        file = temporaryFolder.newFile("library.bib").toPath();
+        updated = new CountDownLatch(1);
+        removed = new CountDownLatch(1);
+        monitor.addUpdateListener(new FileUpdateListener() {
+
+            @Override
+            public void fileUpdated() {
+                updated.countDown();
+            }
+
+            @Override
+            public void fileRemoved() {
+                removed.countDown();
+            }
+        }, file.toFile());
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        for (Thread monitorThread : monitorThreads) {
+            monitorThread.interrupt();
+            monitorThread.join();
+        }
+    }
+
+    private void start(FileUpdateMonitor fileUpdateMonitor) {
+        Thread monitorThread = new Thread(fileUpdateMonitor, "FileUpdateMonitor");
+        monitorThreads.add(monitorThread);
+        monitorThread.start();
+    }
+
+    private String addCountingListener(FileUpdateMonitor fileUpdateMonitor, AtomicInteger updates,
+            CountDownLatch firstUpdate) throws IOException {
+        return fileUpdateMonitor.addUpdateListener(new FileUpdateListener() {
+
+            @Override
+            public void fileUpdated() {
+                updates.incrementAndGet();
+                firstUpdate.countDown();
+            }
+
+            @Override
+            public void fileRemoved() {
+                // not of interest
+            }
+        }, file.toFile());
+    }
+
+    @Test
+    public void modifiedFileIsReported() throws Exception {
+        Files.write(file, "@Misc{key,}".getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertTrue(updated.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void deletedFileIsReported() throws Exception {
+        Files.delete(file);
+
+        Assert.assertTrue(removed.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void unchangedFileIsNotReported() throws Exception {
+        Assert.assertFalse(updated.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void watchedFileIsReportedWithoutPolling() throws Exception {
+        FileUpdateMonitor watchingMonitor = new FileUpdateMonitor(TimeUnit.HOURS.toMillis(1),
+                TimeUnit.HOURS.toMillis(1), 100, true);
+        start(watchingMonitor);
+        AtomicInteger updates = new AtomicInteger();
+        CountDownLatch firstUpdate = new CountDownLatch(1);
+        String handle = addCountingListener(watchingMonitor, updates, firstUpdate);
+        Assume.assumeTrue(watchingMonitor.isWatched(handle));
+
+        Files.write(file, "@Misc{key,}".getBytes(StandardCharsets.UTF_8));
+
+        // the polling interval is not over yet, thus the change was reported by the watch service
+        Assert.assertTrue(firstUpdate.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void burstOfChangesIsReportedOnce() throws Exception {
+        FileUpdateMonitor watchingMonitor = new FileUpdateMonitor(TimeUnit.HOURS.toMillis(1),
+                TimeUnit.HOURS.toMillis(1), 1000, true);
+        start(watchingMonitor);
+        AtomicInteger updates = new AtomicInteger();
+        CountDownLatch firstUpdate = new CountDownLatch(1);
+        String handle = addCountingListener(watchingMonitor, updates, firstUpdate);
+        Assume.assumeTrue(watchingMonitor.isWatched(handle));
+
+        // e.g., a program which truncates the file and writes it in several chunks
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            content.append("@Misc{key").append(i).append(",}\n");
+            Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+            Thread.sleep(50);
+        }
+
+        Assert.assertTrue(firstUpdate.await(10, TimeUnit.SECONDS));
+        Thread.sleep(1500);
+        Assert.assertEquals(1, updates.get());
+    }
+
+    @Test
+    public void changeIsDetectedByPolling() throws Exception {
+        FileUpdateMonitor pollingMonitor = new FileUpdateMonitor(200, TimeUnit.HOURS.toMillis(1), 50, false);
+        start(pollingMonitor);
+        AtomicInteger updates = new AtomicInteger();
+        CountDownLatch firstUpdate = new CountDownLatch(1);
+        String handle = addCountingListener(pollingMonitor, updates, firstUpdate);
+        Assert.assertFalse(pollingMonitor.isWatched(handle));
+
+        Files.write(file, "@Misc{key,}".getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertTrue(firstUpdate.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void removingLastListenerStopsWatchingDirectory() throws Exception {
+        FileUpdateMonitor watchingMonitor = new FileUpdateMonitor(TimeUnit.HOURS.toMillis(1),
+                TimeUnit.HOURS.toMillis(1), 100, true);
+        String firstHandle = addCountingListener(watchingMonitor, new AtomicInteger(), new CountDownLatch(1));
+        String secondHandle = addCountingListener(watchingMonitor, new AtomicInteger(), new CountDownLatch(1));
+        Assume.assumeTrue(watchingMonitor.isWatched(firstHandle));
+        Assert.assertEquals(1, watchingMonitor.getNumberOfWatchedDirectories());
+
+        watchingMonitor.removeUpdateListener(firstHandle);
+        Assert.assertEquals(1, watchingMonitor.getNumberOfWatchedDirectories());
+
+        watchingMonitor.removeUpdateListener(secondHandle);
+        Assert.assertEquals(0, watchingMonitor.getNumberOfWatchedDirectories());
+    }
+}
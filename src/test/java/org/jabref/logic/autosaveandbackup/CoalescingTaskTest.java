@@ -0,0 +1,153 @@
+package org.jabref.logic.autosaveandbackup;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.database.BibDatabaseContext;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CoalescingTaskTest {
+
+    private BibDatabaseContext context;
+
+    @Before
+    public void setUp() {
+        context = new BibDatabaseContext();
+    }
+
+    @Test
+    public void burstOfRequestsResultsInSingleRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch ran = new CountDownLatch(1);
+        CoalescingTask task = new CoalescingTask(context, () -> {
+            runs.incrementAndGet();
+            ran.countDown();
+        }, Duration.ofMillis(100), Duration.ofSeconds(10));
+
+        for (int i = 0; i < 50; i++) {
+            task.request();
+        }
+
+        Assert.assertTrue(ran.await(5, TimeUnit.SECONDS));
+        Thread.sleep(300);
+        Assert.assertEquals(1, runs.get());
+        Assert.assertFalse(task.isPending());
+        Assert.assertTrue(task.getLastLatency().isPresent());
+    }
+
+    @Test
+    public void continuousRequestsRunAfterMaximumLatency() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        CoalescingTask task = new CoalescingTask(context, ran::countDown, Duration.ofMillis(200),
+                Duration.ofMillis(500));
+
+        // the task would never run if only the idle delay was considered
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+        while ((System.nanoTime() < end) && (ran.getCount() > 0)) {
+            task.request();
+            Thread.sleep(20);
+        }
+
+        Assert.assertEquals(0, ran.getCount());
+    }
+
+    @Test
+    public void tasksOfSameContextDoNotRunConcurrently() throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        CountDownLatch ran = new CountDownLatch(2);
+        Runnable action = () -> {
+            if (!running.compareAndSet(false, true)) {
+                overlapped.set(true);
+            }
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.set(false);
+            ran.countDown();
+        };
+        CoalescingTask save = new CoalescingTask(context, action, Duration.ZERO, Duration.ZERO);
+        CoalescingTask backup = new CoalescingTask(context, action, Duration.ZERO, Duration.ZERO);
+
+        save.request();
+        backup.request();
+
+        Assert.assertTrue(ran.await(5, TimeUnit.SECONDS));
+        Assert.assertFalse(overlapped.get());
+    }
+
+    @Test
+    public void waitingTasksDoNotBlockTasksOfOtherContexts() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blockingAction = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CountDownLatch ranInOtherContext = new CountDownLatch(1);
+        // more tasks than threads, the tasks of the same context have to wait for each other
+        for (int i = 0; i < 3; i++) {
+            new CoalescingTask(context, blockingAction, Duration.ZERO, Duration.ZERO).request();
+        }
+        new CoalescingTask(new BibDatabaseContext(), ranInOtherContext::countDown, Duration.ZERO, Duration.ZERO)
+                .request();
+
+        try {
+            Assert.assertTrue(ranInOtherContext.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void shutdownRunsPendingRunOnce() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch ran = new CountDownLatch(1);
+        CoalescingTask task = new CoalescingTask(context, () -> {
+            runs.incrementAndGet();
+            ran.countDown();
+        }, Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        task.request();
+        task.shutdown();
+        task.request();
+        task.shutdown();
+
+        // the run does not wait for the idle delay
+        Assert.assertTrue(ran.await(5, TimeUnit.SECONDS));
+        Thread.sleep(300);
+        Assert.assertEquals(1, runs.get());
+        Assert.assertFalse(task.isPending());
+    }
+
+    @Test
+    public void shutdownNowCancelsPendingRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CoalescingTask task = new CoalescingTask(context, runs::incrementAndGet, Duration.ofMillis(100),
+                Duration.ofSeconds(1));
+
+        task.request();
+        task.shutdownNow();
+        task.request();
+
+        Thread.sleep(300);
+        Assert.assertEquals(0, runs.get());
+        Assert.assertFalse(task.isPending());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maximumLatencyShorterThanIdleDelayIsRejected() {
+        new CoalescingTask(context, () -> {
+        }, Duration.ofSeconds(2), Duration.ofSeconds(1));
+    }
+}
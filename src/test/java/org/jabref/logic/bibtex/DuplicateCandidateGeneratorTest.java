@@ -0,0 +1,114 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexEntryTypes;
+import org.jabref.model.entry.FieldName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DuplicateCandidateGeneratorTest {
+
+    private DuplicateCandidateGenerator generator;
+    private BibEntry simpleArticle;
+    private BibEntry unrelatedArticle;
+
+    @Before
+    public void setUp() {
+        generator = new DuplicateCandidateGenerator(2);
+        simpleArticle = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.AUTHOR, "Single Author")
+                .withField(FieldName.TITLE, "A serious paper about something")
+                .withField(FieldName.YEAR, "2017");
+        unrelatedArticle = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.AUTHOR, "Completely Different")
+                .withField(FieldName.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(FieldName.YEAR, "1992");
+    }
+
+    @Test
+    public void entriesWithSameNormalizedDoiAreCandidates() {
+        BibEntry one = new BibEntry().withField(FieldName.DOI, "10.1000/ABC");
+        BibEntry two = new BibEntry().withField(FieldName.DOI, "https://doi.org/10.1000/abc");
+
+        assertEquals(Collections.singletonList(new DuplicatePair(one, two)),
+                generator.generateCandidates(Arrays.asList(one, two)));
+    }
+
+    @Test
+    public void entriesWithoutKeysAreNoCandidates() {
+        assertEquals(Collections.emptyList(), generator.generateCandidates(Arrays.asList(new BibEntry(), new BibEntry())));
+    }
+
+    @Test
+    public void entriesWithSimilarTitleAreNeighbours() {
+        BibEntry copy = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.TITLE, "A Serious Paper About Something.");
+        List<BibEntry> entries = Arrays.asList(simpleArticle, unrelatedArticle, copy);
+
+        List<DuplicatePair> candidates = generator.generateCandidates(entries);
+
+        assertTrue(candidates.contains(new DuplicatePair(simpleArticle, copy)));
+    }
+
+    @Test
+    public void entriesWithSameFirstAuthorAndYearAreNeighbours() {
+        BibEntry copy = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.AUTHOR, "Author, S. and Other, A.")
+                .withField(FieldName.YEAR, "2017");
+        List<BibEntry> entries = Arrays.asList(simpleArticle, unrelatedArticle, copy);
+
+        List<DuplicatePair> candidates = generator.generateCandidates(entries);
+
+        assertTrue(candidates.contains(new DuplicatePair(simpleArticle, copy)));
+    }
+
+    @Test
+    public void candidatesAreOrderedByPositionAndUnique() {
+        BibEntry copy = (BibEntry) simpleArticle.clone();
+        copy.setField(FieldName.DOI, "10.1000/abc");
+        simpleArticle.setField(FieldName.DOI, "10.1000/abc");
+        BibEntry anotherCopy = (BibEntry) simpleArticle.clone();
+
+        List<DuplicatePair> candidates = generator.generateCandidates(
+                Arrays.asList(simpleArticle, copy, unrelatedArticle, anotherCopy));
+
+        assertEquals(Arrays.asList(new DuplicatePair(simpleArticle, copy), new DuplicatePair(simpleArticle, anotherCopy),
+                new DuplicatePair(copy, anotherCopy), new DuplicatePair(unrelatedArticle, anotherCopy)), candidates);
+    }
+
+    @Test
+    public void findDuplicatesOnlyReturnsDuplicates() {
+        BibEntry copy = (BibEntry) simpleArticle.clone();
+
+        assertEquals(Collections.singletonList(new DuplicatePair(simpleArticle, copy)),
+                generator.findDuplicates(Arrays.asList(simpleArticle, unrelatedArticle, copy), BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    public void largeBucketOfSharedIsbnOnlyPairsNeighbours() {
+        // e.g., all papers of a proceedings volume
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(new BibEntry(BibtexEntryTypes.INPROCEEDINGS.getName())
+                    .withField(FieldName.TITLE, "Paper number " + i)
+                    .withField(FieldName.ISBN, "978-3-16-148410-0"));
+        }
+        BibEntry copy = (BibEntry) entries.get(500).clone();
+        entries.add(copy);
+
+        List<DuplicatePair> candidates = generator.generateCandidates(entries);
+
+        assertTrue(candidates.contains(new DuplicatePair(entries.get(500), copy)));
+        assertTrue(candidates.size() < (2 * entries.size()));
+    }
+}
@@ -0,0 +1,108 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexEntryTypes;
+import org.jabref.model.entry.FieldName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DuplicateDetectionEngineTest {
+
+    private List<BibEntry> entries;
+
+    @Before
+    public void setUp() {
+        entries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            entries.add(new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                    .withField(FieldName.AUTHOR, "Author" + i)
+                    .withField(FieldName.TITLE, "Title number " + i)
+                    .withField(FieldName.YEAR, String.valueOf(1800 + i)));
+        }
+    }
+
+    private static Set<DuplicatePair> collect(DuplicateDetectionEngine engine) throws InterruptedException {
+        Set<DuplicatePair> result = new HashSet<>();
+        while (engine.hasMoreDuplicates()) {
+            engine.pollDuplicate(10, TimeUnit.MILLISECONDS).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    @Test
+    public void findsAllDuplicatesInAllPairs() throws Exception {
+        BibEntry copy = (BibEntry) entries.get(17).clone();
+        entries.add(copy);
+        BibEntry otherCopy = (BibEntry) entries.get(123).clone();
+        entries.add(50, otherCopy);
+
+        DuplicateDetectionEngine engine = new DuplicateDetectionEngine(BibDatabaseMode.BIBTEX);
+        engine.start(entries);
+
+        Set<DuplicatePair> expected = new HashSet<>(Arrays.asList(new DuplicatePair(entries.get(17), copy),
+                new DuplicatePair(otherCopy, entries.get(124))));
+        assertEquals(expected, collect(engine));
+        assertEquals(2, engine.getNumberOfDuplicates());
+        assertEquals(engine.getTotalPairs(), engine.getProcessedPairs());
+        assertEquals(Optional.of(0L), engine.getEstimatedSecondsRemaining());
+    }
+
+    @Test
+    public void findsDuplicatesInCandidates() throws Exception {
+        BibEntry copy = (BibEntry) entries.get(3).clone();
+        List<DuplicatePair> candidates = Arrays.asList(new DuplicatePair(entries.get(1), entries.get(2)),
+                new DuplicatePair(entries.get(3), copy));
+
+        DuplicateDetectionEngine engine = new DuplicateDetectionEngine(BibDatabaseMode.BIBTEX);
+        engine.startWithCandidates(candidates);
+
+        assertEquals(new HashSet<>(Arrays.asList(new DuplicatePair(entries.get(3), copy))), collect(engine));
+        assertEquals(2, engine.getProcessedPairs());
+    }
+
+    @Test
+    public void cancelStopsDetectionWhenQueueIsFull() throws Exception {
+        List<BibEntry> copies = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            copies.add((BibEntry) entries.get(0).clone());
+        }
+
+        DuplicateDetectionEngine engine = new DuplicateDetectionEngine(BibDatabaseMode.BIBTEX, 1);
+        engine.start(copies);
+        engine.cancel();
+        engine.awaitTermination();
+
+        assertTrue(engine.isCancelled());
+        assertTrue(engine.isFinished());
+        assertTrue(engine.getProcessedPairs() < engine.getTotalPairs());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void engineCannotBeStartedTwice() {
+        DuplicateDetectionEngine engine = new DuplicateDetectionEngine(BibDatabaseMode.BIBTEX);
+        engine.start(entries);
+        engine.cancel();
+        engine.start(entries);
+    }
+
+    @Test
+    public void notFinishedBeforeStart() {
+        DuplicateDetectionEngine engine = new DuplicateDetectionEngine(BibDatabaseMode.BIBTEX);
+        assertFalse(engine.isFinished());
+        assertEquals(0, engine.getPairsPerSecond(), 0.0);
+    }
+}
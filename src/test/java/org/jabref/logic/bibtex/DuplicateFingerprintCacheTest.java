@@ -0,0 +1,77 @@
+package org.jabref.logic.bibtex;
+
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class DuplicateFingerprintCacheTest {
+
+    private DuplicateFingerprintCache cache;
+    private BibEntry entry;
+
+    @Before
+    public void setUp() {
+        cache = new DuplicateFingerprintCache();
+        entry = new BibEntry().withField(FieldName.TITLE, "A Title");
+    }
+
+    @Test
+    public void fingerprintIsCached() {
+        assertSame(cache.getFingerprint(entry), cache.getFingerprint(entry));
+    }
+
+    @Test
+    public void fingerprintIsRecomputedAfterFieldChange() {
+        DuplicateFingerprint before = cache.getFingerprint(entry);
+        entry.setField(FieldName.TITLE, "Another Title");
+        DuplicateFingerprint after = cache.getFingerprint(entry);
+
+        assertNotSame(before, after);
+        assertEquals(Optional.of("Another Title"), after.getField(FieldName.TITLE));
+    }
+
+    @Test
+    public void fingerprintIsRecomputedAfterTypeChange() {
+        DuplicateFingerprint before = cache.getFingerprint(entry);
+        entry.setType("book");
+
+        assertEquals("book", cache.getFingerprint(entry).getType());
+        assertEquals("misc", before.getType());
+    }
+
+    @Test
+    public void fingerprintIsRecomputedAfterChangeOfEntryInDatabase() {
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(entry);
+        cache.getFingerprint(entry);
+        entry.setField(FieldName.TITLE, "Another Title");
+
+        assertEquals("another", cache.getFingerprint(entry).getWords(FieldName.TITLE)[0]);
+    }
+
+    @Test
+    public void equalEntriesHaveDifferentFingerprints() {
+        BibEntry copy = (BibEntry) entry.clone();
+
+        assertNotSame(cache.getFingerprint(entry), cache.getFingerprint(copy));
+    }
+
+    @Test
+    public void fingerprintNormalizesPagesAndWords() {
+        entry.setField(FieldName.PAGES, "334 -- 337");
+        DuplicateFingerprint fingerprint = cache.getFingerprint(entry);
+
+        assertEquals("334-337", fingerprint.getPages(FieldName.PAGES));
+        assertEquals(2, fingerprint.getWords(FieldName.TITLE).length);
+        assertEquals("title", fingerprint.getWords(FieldName.TITLE)[1]);
+    }
+}
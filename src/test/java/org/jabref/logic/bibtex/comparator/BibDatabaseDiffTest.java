@@ -0,0 +1,103 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BibDatabaseDiffTest {
+
+    private static BibEntry createEntry(String key, String author, String title, String year) {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey(key);
+        entry.setField("author", author);
+        entry.setField("title", title);
+        entry.setField("year", year);
+        return entry;
+    }
+
+    @Test
+    public void identicalEntriesAreNotReported() {
+        BibEntry first = createEntry("Einstein1931", "Albert Einstein", "Relativity", "1931");
+        BibEntry second = createEntry("Newton1687", "Isaac Newton", "Principia", "1687");
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(Arrays.asList(first, second),
+                Arrays.asList((BibEntry) second.clone(), (BibEntry) first.clone()));
+
+        assertTrue(diff.getChangedEntries().isEmpty());
+        assertTrue(diff.getRemovedEntries().isEmpty());
+        assertTrue(diff.getAddedEntries().isEmpty());
+    }
+
+    @Test
+    public void changedFieldIsReportedAsChangedEntry() {
+        BibEntry original = createEntry("Einstein1931", "Albert Einstein", "Relativity", "1931");
+        BibEntry changed = createEntry("Einstein1931", "Albert Einstein", "Relativity", "1932");
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(Collections.singletonList(original),
+                Collections.singletonList(changed));
+
+        assertEquals(1, diff.getChangedEntries().size());
+        assertSame(original, diff.getChangedEntries().get(0).getOriginalEntry());
+        assertSame(changed, diff.getChangedEntries().get(0).getNewEntry());
+        assertTrue(diff.getRemovedEntries().isEmpty());
+        assertTrue(diff.getAddedEntries().isEmpty());
+    }
+
+    @Test
+    public void changedKeyIsReportedAsChangedEntry() {
+        BibEntry original = createEntry("Einstein1931", "Albert Einstein", "Relativity", "1931");
+        BibEntry changed = createEntry("Einstein", "Albert Einstein", "Relativity", "1931");
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(Collections.singletonList(original),
+                Collections.singletonList(changed));
+
+        assertEquals(1, diff.getChangedEntries().size());
+        assertSame(changed, diff.getChangedEntries().get(0).getNewEntry());
+    }
+
+    @Test
+    public void entryWithSameKeyIsPreferredAsMatch() {
+        BibEntry original = createEntry("Einstein1931", "Albert Einstein", "Relativity", "1931");
+        BibEntry otherKey = createEntry("Einstein", "Albert Einstein", "Relativity", "1931");
+        BibEntry sameKey = createEntry("Einstein1931", "A. Einstein", "Relativity", "1931");
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(Collections.singletonList(original),
+                Arrays.asList(otherKey, sameKey));
+
+        assertSame(sameKey, diff.getChangedEntries().get(0).getNewEntry());
+        assertEquals(Collections.singletonList(otherKey), diff.getAddedEntries());
+    }
+
+    @Test
+    public void differentEntriesAreReportedAsRemovedAndAdded() {
+        BibEntry original = createEntry("Einstein1931", "Albert Einstein", "Relativity", "1931");
+        BibEntry other = createEntry("Newton1687", "Isaac Newton", "Principia", "1687");
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(Collections.singletonList(original),
+                Collections.singletonList(other));
+
+        assertTrue(diff.getChangedEntries().isEmpty());
+        assertEquals(Collections.singletonList(original), diff.getRemovedEntries());
+        assertEquals(Collections.singletonList(other), diff.getAddedEntries());
+    }
+
+    @Test
+    public void duplicatedEntryIsReportedAsAdded() {
+        BibEntry original = createEntry("Einstein1931", "Albert Einstein", "Relativity", "1931");
+        BibEntry duplicate = (BibEntry) original.clone();
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(Collections.singletonList(original),
+                Arrays.asList(original, duplicate));
+
+        assertTrue(diff.getChangedEntries().isEmpty());
+        assertEquals(1, diff.getAddedEntries().size());
+        assertSame(duplicate, diff.getAddedEntries().get(0));
+    }
+}
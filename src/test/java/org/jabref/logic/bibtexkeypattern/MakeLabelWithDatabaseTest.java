@@ -1,7 +1,10 @@
 package org.jabref.logic.bibtexkeypattern;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
+import org.jabref.model.FieldChange;
 import org.jabref.model.bibtexkeypattern.DatabaseBibtexKeyPattern;
 import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
 import org.jabref.model.database.BibDatabase;
@@ -327,4 +330,79 @@ public class MakeLabelWithDatabaseTest {
         BibtexKeyPatternUtil.makeAndSetLabel(bibtexKeyPattern, database, entry, preferences);
         assertEquals(Optional.of("Aapoj"), entry.getCiteKeyOptional());
     }
+
+    @Test
+    public void generateKeysForMultipleEntriesResolvesCollisionsInOrder() {
+        BibEntry entry2 = new BibEntry();
+        entry2.setField("author", "John Doe");
+        entry2.setField("year", "2016");
+        BibEntry entry3 = new BibEntry();
+        entry3.setField("author", "Jane Roe");
+        entry3.setField("year", "2017");
+        BibEntry entry4 = new BibEntry();
+        entry4.setField("author", "John Doe");
+        entry4.setField("year", "2016");
+        entry4.setField("title", "Another paper");
+        database.insertEntries(entry2, entry3, entry4);
+
+        BibtexKeyPatternUtil.makeAndSetLabels(bibtexKeyPattern, database, Arrays.asList(entry, entry2, entry3, entry4),
+                preferences);
+
+        assertEquals(Optional.of("Doe2016"), entry.getCiteKeyOptional());
+        assertEquals(Optional.of("Doe2016a"), entry2.getCiteKeyOptional());
+        assertEquals(Optional.of("Roe2017"), entry3.getCiteKeyOptional());
+        assertEquals(Optional.of("Doe2016b"), entry4.getCiteKeyOptional());
+    }
+
+    @Test
+    public void generateKeysForMultipleEntriesAvoidsKeysOfOtherEntries() {
+        BibEntry other = new BibEntry();
+        other.setCiteKey("Doe2016");
+        database.insertEntry(other);
+
+        BibtexKeyPatternUtil.makeAndSetLabels(bibtexKeyPattern, database, Arrays.asList(entry), preferences);
+
+        assertEquals(Optional.of("Doe2016a"), entry.getCiteKeyOptional());
+    }
+
+    @Test
+    public void generateKeysForMultipleEntriesIgnoresKeysWhichAreReplaced() {
+        BibEntry entry2 = new BibEntry();
+        entry2.setField("author", "Jane Roe");
+        entry2.setCiteKey("Doe2016");
+        database.insertEntry(entry2);
+
+        BibtexKeyPatternUtil.makeAndSetLabels(bibtexKeyPattern, database, Arrays.asList(entry, entry2), preferences);
+
+        assertEquals(Optional.of("Doe2016"), entry.getCiteKeyOptional());
+        assertEquals(Optional.of("Roe"), entry2.getCiteKeyOptional());
+    }
+
+    @Test
+    public void generateKeysForMultipleEntriesWithAlwaysLetter() {
+        preferences = new BibtexKeyPatternPreferences("", "", true, true, true, pattern, ',');
+        BibEntry entry2 = new BibEntry();
+        entry2.setField("author", "John Doe");
+        entry2.setField("year", "2016");
+        database.insertEntry(entry2);
+
+        BibtexKeyPatternUtil.makeAndSetLabels(bibtexKeyPattern, database, Arrays.asList(entry, entry2), preferences);
+
+        assertEquals(Optional.of("Doe2016a"), entry.getCiteKeyOptional());
+        assertEquals(Optional.of("Doe2016b"), entry2.getCiteKeyOptional());
+    }
+
+    @Test
+    public void generateKeysForMultipleEntriesReturnsOnlyChangedKeys() {
+        entry.setCiteKey("Doe2016");
+        BibEntry entry2 = new BibEntry();
+        entry2.setField("author", "Jane Roe");
+        entry2.setField("year", "2017");
+        database.insertEntry(entry2);
+
+        List<FieldChange> changes = BibtexKeyPatternUtil.makeAndSetLabels(bibtexKeyPattern, database,
+                Arrays.asList(entry, entry2), preferences);
+
+        assertEquals(Arrays.asList(new FieldChange(entry2, BibEntry.KEY_FIELD, null, "Roe2017")), changes);
+    }
 }
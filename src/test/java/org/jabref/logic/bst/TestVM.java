@@ -36,6 +36,31 @@ public class TestVM {
         Assert.assertEquals(expected.replaceAll("\\s", ""), vm.run(v).replaceAll("\\s", ""));
     }
 
+    @Test
+    public void testAbbrvRunTwiceGivesSameResult() throws RecognitionException, IOException {
+        VM vm = new VM(new File("src/test/resources/org/jabref/logic/bst/abbrv.bst"));
+        List<BibEntry> v = new ArrayList<>();
+        v.add(t1BibtexEntry());
+
+        Assert.assertEquals(vm.run(v), vm.run(v));
+    }
+
+    @Test
+    public void testFunctionSeesVariableDeclaredAfterFirstCall() throws RecognitionException {
+        VM vm = new VM("FUNCTION {a}{ b } "
+                + "FUNCTION {b}{ #1 } "
+                + "EXECUTE {a} "
+                + "INTEGERS { b } "
+                + "EXECUTE {a}");
+
+        List<BibEntry> v = new ArrayList<>();
+        vm.run(v);
+
+        Assert.assertEquals(0, vm.getStack().pop());
+        Assert.assertEquals(1, vm.getStack().pop());
+        Assert.assertEquals(0, vm.getStack().size());
+    }
+
     @Test
     public void testVMSimple() throws RecognitionException, IOException {
 
@@ -403,7 +428,7 @@ public class TestVM {
         vm.run(v);
 
         Assert.assertEquals(Integer.MAX_VALUE, vm.getStack().pop());
-        Assert.assertTrue(vm.getStack().empty());
+        Assert.assertTrue(vm.getStack().isEmpty());
     }
 
     @Test
@@ -0,0 +1,38 @@
+package org.jabref.logic.citationstyle;
+
+import org.jabref.model.Defaults;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class CitationStyleCacheTest {
+
+    private BibEntry entry;
+    private CitationStyleCache cache;
+
+    @Before
+    public void setUp() {
+        entry = new BibEntry();
+        entry.setField(FieldName.AUTHOR, "Last, First");
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(entry);
+        cache = new CitationStyleCache(new BibDatabaseContext(database, new Defaults()));
+    }
+
+    @Test
+    public void changedEntryIsGeneratedAgain() {
+        String citation = cache.getCitationFor(entry);
+
+        entry.setField(FieldName.AUTHOR, "Smith, John");
+
+        assertNotEquals(citation, cache.getCitationFor(entry));
+        assertEquals(CitationStyleGenerator.generateCitation(entry, CitationStyle.getDefault()), cache.getCitationFor(entry));
+    }
+}
@@ -7,6 +7,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Scanner;
 
 import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
@@ -424,6 +425,26 @@ public class BibtexDatabaseWriterTest {
                 + "title[lower_case]" + OS.NEWLINE + ";}" + OS.NEWLINE, session.getStringValue());
     }
 
+    @Test
+    public void saveActionsAreOnlyAppliedToEntriesChangedSinceLastSave() throws Exception {
+        FieldFormatterCleanups saveActions = new FieldFormatterCleanups(true,
+                Collections.singletonList(new FieldFormatterCleanup("title", new LowerCaseFormatter())));
+        metaData.setSaveActions(saveActions);
+        BibEntry entry = new BibEntry();
+        entry.setField("title", "A Title");
+        database.insertEntry(entry);
+
+        StringSaveSession firstSession = databaseWriter.saveDatabase(bibtexContext, new SavePreferences());
+        StringSaveSession secondSession = databaseWriter.saveDatabase(bibtexContext, new SavePreferences());
+        entry.setField("title", "Another Title");
+        StringSaveSession thirdSession = databaseWriter.saveDatabase(bibtexContext, new SavePreferences());
+
+        assertEquals(1, firstSession.getFieldChanges().size());
+        assertEquals(Collections.emptyList(), secondSession.getFieldChanges());
+        assertEquals(1, thirdSession.getFieldChanges().size());
+        assertEquals(Optional.of("another title"), entry.getField("title"));
+    }
+
     @Test
     public void writeSaveOrderConfig() throws Exception {
         SaveOrderConfig saveOrderConfig = new SaveOrderConfig(false, new SaveOrderConfig.SortCriterion("author", false),
@@ -0,0 +1,105 @@
+package org.jabref.logic.exporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationPreferences;
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.layout.format.FileLinkPreferences;
+import org.jabref.logic.layout.format.NameFormatterPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class CustomExportFormatTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String layoutName;
+    private Path layoutFile;
+    private JournalAbbreviationLoader journalAbbreviationLoader;
+    private BibDatabaseContext databaseContext;
+    private List<BibEntry> entries;
+
+    @Before
+    public void setUp() throws IOException {
+        layoutName = testFolder.getRoot().toPath().resolve("custom").toString();
+        layoutFile = Paths.get(layoutName + ".layout");
+        Files.write(layoutFile, Collections.singletonList("first \\title"), StandardCharsets.UTF_8);
+        journalAbbreviationLoader = new JournalAbbreviationLoader();
+
+        databaseContext = new BibDatabaseContext();
+        BibEntry entry = new BibEntry();
+        entry.setField("title", "Relativity");
+        entries = Collections.singletonList(entry);
+    }
+
+    private LayoutFormatterPreferences createLayoutPreferences(JournalAbbreviationLoader loader) {
+        return new LayoutFormatterPreferences(
+                new NameFormatterPreferences(Collections.emptyList(), Collections.emptyList()),
+                new JournalAbbreviationPreferences(Collections.emptyList(), "", false, StandardCharsets.UTF_8),
+                new FileLinkPreferences(Collections.emptyList(), Collections.emptyList()), loader);
+    }
+
+    private List<String> export(LayoutFormatterPreferences layoutPreferences) throws Exception {
+        // a new format is created for every export, as the export formats are initialized anew before each export
+        ExportFormat format = new ExportFormat("Custom", "custom", layoutName, null, ".txt", layoutPreferences,
+                mock(SavePreferences.class));
+        format.setCustomExport(true);
+        File file = testFolder.newFile();
+        format.performExport(databaseContext, file.getPath(), StandardCharsets.UTF_8, entries);
+        return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+    }
+
+    private void changeLayout(FileTime lastModified) throws IOException {
+        Files.write(layoutFile, Collections.singletonList("second \\title"), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(layoutFile, lastModified);
+    }
+
+    @Test
+    public void exportWithEqualPreferencesDoesNotParseLayoutAgain() throws Exception {
+        export(createLayoutPreferences(journalAbbreviationLoader));
+        // keep the modification time, so that the layout is only read again if it is not cached
+        changeLayout(Files.getLastModifiedTime(layoutFile));
+
+        List<String> lines = export(createLayoutPreferences(journalAbbreviationLoader));
+
+        assertEquals("first Relativity", lines.get(0));
+    }
+
+    @Test
+    public void exportWithDifferentPreferencesParsesLayoutAgain() throws Exception {
+        export(createLayoutPreferences(journalAbbreviationLoader));
+        changeLayout(Files.getLastModifiedTime(layoutFile));
+
+        List<String> lines = export(createLayoutPreferences(new JournalAbbreviationLoader()));
+
+        assertEquals("second Relativity", lines.get(0));
+    }
+
+    @Test
+    public void exportAfterModificationOfLayoutParsesLayoutAgain() throws Exception {
+        export(createLayoutPreferences(journalAbbreviationLoader));
+        changeLayout(FileTime.fromMillis(Files.getLastModifiedTime(layoutFile).toMillis() + 10_000));
+
+        List<String> lines = export(createLayoutPreferences(journalAbbreviationLoader));
+
+        assertEquals("second Relativity", lines.get(0));
+    }
+}
@@ -0,0 +1,113 @@
+package org.jabref.logic.exporter;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
+import org.jabref.logic.formatter.casechanger.ProtectTermsFormatter;
+import org.jabref.logic.protectedterms.ProtectedTermsList;
+import org.jabref.logic.protectedterms.ProtectedTermsLoader;
+import org.jabref.logic.protectedterms.ProtectedTermsPreferences;
+import org.jabref.model.cleanup.FieldFormatterCleanup;
+import org.jabref.model.cleanup.FieldFormatterCleanups;
+import org.jabref.model.cleanup.Formatter;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SaveActionsCacheTest {
+
+    private SaveActionsCache cache;
+    private BibEntry entry;
+    private FieldFormatterCleanups lowerCaseTitle;
+
+    @Before
+    public void setUp() {
+        cache = new SaveActionsCache();
+        entry = new BibEntry().withField("title", "Title");
+        lowerCaseTitle = new FieldFormatterCleanups(true,
+                Collections.singletonList(new FieldFormatterCleanup("title", new LowerCaseFormatter())));
+    }
+
+    @Test
+    public void unchangedEntryIsSkippedOnceSaveActionsHaveNoEffect() {
+        assertEquals(1, cache.applySaveActions(entry, lowerCaseTitle).size());
+        assertTrue(cache.applySaveActions(entry, lowerCaseTitle).isEmpty());
+
+        // the field is set back, but the entry would not be changed by the save actions anyway
+        entry.setField("title", "title");
+        assertTrue(cache.applySaveActions(entry, lowerCaseTitle).isEmpty());
+    }
+
+    @Test
+    public void changedEntryIsCleanedAgain() {
+        cache.applySaveActions(entry, lowerCaseTitle);
+        cache.applySaveActions(entry, lowerCaseTitle);
+        entry.setField("title", "Another Title");
+
+        assertEquals(1, cache.applySaveActions(entry, lowerCaseTitle).size());
+        assertEquals(Optional.of("another title"), entry.getField("title"));
+    }
+
+    @Test
+    public void saveActionsChangingTheEntryOnEveryPassAreAppliedOnEverySave() {
+        FieldFormatterCleanups appendToTitle = new FieldFormatterCleanups(true,
+                Collections.singletonList(new FieldFormatterCleanup("title", new AppendingFormatter())));
+
+        cache.applySaveActions(entry, appendToTitle);
+        cache.applySaveActions(entry, appendToTitle);
+        cache.applySaveActions(entry, appendToTitle);
+
+        assertEquals(Optional.of("Title!!!"), entry.getField("title"));
+    }
+
+    @Test
+    public void unchangedEntryIsCleanedAgainAfterProtectedTermsChanged() {
+        ProtectedTermsLoader loader = new ProtectedTermsLoader(new ProtectedTermsPreferences(Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        ProtectTermsFormatter.setProtectedTermsLoader(loader);
+        FieldFormatterCleanups protectTitle = new FieldFormatterCleanups(true,
+                Collections.singletonList(new FieldFormatterCleanup("title", new ProtectTermsFormatter(loader))));
+        entry.setField("title", "The VLSI design");
+        assertTrue(cache.applySaveActions(entry, protectTitle).isEmpty());
+
+        ProtectedTermsList terms = new ProtectedTermsList("Test", Collections.singletonList("VLSI"), "");
+        terms.setEnabled(true);
+        loader.getProtectedTermsLists().add(terms);
+
+        assertEquals(1, cache.applySaveActions(entry, protectTitle).size());
+        assertEquals(Optional.of("The {VLSI} design"), entry.getField("title"));
+    }
+
+    private static class AppendingFormatter implements Formatter {
+
+        @Override
+        public String getName() {
+            return "Append";
+        }
+
+        @Override
+        public String getKey() {
+            return "append";
+        }
+
+        @Override
+        public String format(String value) {
+            return value + "!";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Appends an exclamation mark.";
+        }
+
+        @Override
+        public String getExampleInput() {
+            return "Title";
+        }
+    }
+}
@@ -1,17 +1,31 @@
 package org.jabref.logic.importer;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
 
+import com.sun.net.httpserver.HttpServer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class FulltextFetchersTest {
     private BibEntry entry;
@@ -26,6 +40,27 @@ public class FulltextFetchersTest {
         entry = null;
     }
 
+    /**
+     * Starts a local server answering every path ending with ".pdf" as a PDF and everything else as HTML. The entry
+     * gets a DOI, so that no DOI is looked up on the web.
+     */
+    private HttpServer startLocalServer() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            exchange.getResponseHeaders().add("Content-Type", path.endsWith(".pdf") ? "application/pdf" : "text/html");
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        entry.setField(FieldName.DOI, "10.1000/local");
+        return server;
+    }
+
+    private static URL getLocalURL(HttpServer server, String path) throws MalformedURLException {
+        return new URL("http://localhost:" + server.getAddress().getPort() + "/" + path);
+    }
+
     @Test
     public void acceptPdfUrls() throws MalformedURLException {
         URL pdfUrl = new URL("http://docs.oasis-open.org/wsbpel/2.0/OS/wsbpel-v2.0-OS.pdf");
@@ -43,4 +78,134 @@ public class FulltextFetchersTest {
 
         assertEquals(Optional.empty(), fetcher.findFullTextPDF(entry));
     }
+
+    @Test
+    public void concurrentLookupPrefersHigherPriorityIfBothAreFound() throws IOException {
+        HttpServer server = startLocalServer();
+        ExecutorService pool = Executors.newCachedThreadPool();
+        // The priority only breaks ties among finished finders, thus the second finder waits until the first finished
+        CountDownLatch firstFinished = new CountDownLatch(1);
+        Executor executor = task -> pool.execute(() -> {
+            task.run();
+            firstFinished.countDown();
+        });
+        try {
+            URL first = getLocalURL(server, "first.pdf");
+            URL second = getLocalURL(server, "second.pdf");
+            FulltextFetcher secondFinder = e -> {
+                try {
+                    firstFinished.await(1, TimeUnit.MINUTES);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.of(second);
+            };
+            FulltextFetchers fetcher = new FulltextFetchers(Arrays.asList(e -> Optional.of(first), secondFinder),
+                    Collections.emptyList(), executor);
+
+            assertEquals(Optional.of(first), fetcher.findFullTextPDFConcurrently(entry));
+        } finally {
+            server.stop(0);
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void concurrentLookupDoesNotWaitForSlowFinder() throws IOException {
+        HttpServer server = startLocalServer();
+        CountDownLatch never = new CountDownLatch(1);
+        try {
+            URL fast = getLocalURL(server, "fast.pdf");
+            FulltextFetcher slowFinder = e -> {
+                try {
+                    never.await(1, TimeUnit.MINUTES);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.empty();
+            };
+            FulltextFetchers fetcher = new FulltextFetchers(Arrays.asList(slowFinder, e -> Optional.of(fast)));
+
+            long start = System.nanoTime();
+            assertEquals(Optional.of(fast), fetcher.findFullTextPDFConcurrently(entry));
+            assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 30);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void concurrentLookupRejectsNonPdfUrls() throws IOException {
+        HttpServer server = startLocalServer();
+        try {
+            URL html = getLocalURL(server, "index.html");
+            FulltextFetchers fetcher = new FulltextFetchers(Arrays.asList(e -> Optional.of(html)));
+
+            assertEquals(Optional.empty(), fetcher.findFullTextPDFConcurrently(entry));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void concurrentLookupDoesNotAskMetaSearchIfPublisherFindsPdf() throws IOException {
+        HttpServer server = startLocalServer();
+        AtomicBoolean metaSearchAsked = new AtomicBoolean();
+        try {
+            URL publisherPdf = getLocalURL(server, "publisher.pdf");
+            FulltextFetcher metaSearch = e -> {
+                metaSearchAsked.set(true);
+                return Optional.of(getLocalURL(server, "mirror.pdf"));
+            };
+            FulltextFetchers fetcher = new FulltextFetchers(Collections.singletonList(e -> Optional.of(publisherPdf)),
+                    Collections.singletonList(metaSearch));
+
+            assertEquals(Optional.of(publisherPdf), fetcher.findFullTextPDFConcurrently(entry));
+            assertFalse(metaSearchAsked.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void concurrentLookupAsksMetaSearchIfNoPublisherFindsPdf() throws IOException {
+        HttpServer server = startLocalServer();
+        try {
+            URL html = getLocalURL(server, "index.html");
+            URL mirrorPdf = getLocalURL(server, "mirror.pdf");
+            FulltextFetchers fetcher = new FulltextFetchers(Collections.singletonList(e -> Optional.of(html)),
+                    Collections.singletonList(e -> Optional.of(mirrorPdf)));
+
+            assertEquals(Optional.of(mirrorPdf), fetcher.findFullTextPDFConcurrently(entry));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void batchLookupKeepsOrderOfEntries() throws IOException {
+        HttpServer server = startLocalServer();
+        try {
+            BibEntry first = new BibEntry();
+            first.setField(FieldName.DOI, "10.1000/first");
+            first.setField(FieldName.TITLE, "first");
+            BibEntry second = new BibEntry();
+            second.setField(FieldName.DOI, "10.1000/second");
+            second.setField(FieldName.TITLE, "second");
+            FulltextFetcher finder = e -> {
+                if (e.hasField(FieldName.TITLE)) {
+                    return Optional.of(getLocalURL(server, e.getField(FieldName.TITLE).get() + ".pdf"));
+                }
+                return Optional.of(getLocalURL(server, "index.html"));
+            };
+            FulltextFetchers fetcher = new FulltextFetchers(Arrays.asList(finder));
+
+            List<Optional<URL>> results = fetcher.findFullTextPDFs(Arrays.asList(second, entry, first));
+
+            assertEquals(Arrays.asList(Optional.of(getLocalURL(server, "second.pdf")), Optional.empty(),
+                    Optional.of(getLocalURL(server, "first.pdf"))), results);
+        } finally {
+            server.stop(0);
+        }
+    }
 }
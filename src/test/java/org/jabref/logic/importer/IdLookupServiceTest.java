@@ -0,0 +1,224 @@
+package org.jabref.logic.importer;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
+import org.jabref.model.entry.identifier.DOI;
+
+import com.google.common.io.CharStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs the lookups against a local HTTP server standing in for a web service like CrossRef. The server answers a
+ * query for a title with the DOI "10.1000/title", except for some special titles.
+ */
+public class IdLookupServiceTest {
+
+    private static final int MAX_RETRIES = 2;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private StandInFetcher fetcher;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/works", this::handle);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        fetcher = new StandInFetcher(server.getAddress().getPort());
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String title = URLDecoder.decode(exchange.getRequestURI().getRawQuery().substring("title=".length()),
+                StandardCharsets.UTF_8.name());
+        int numberOfRequests = requests.computeIfAbsent(title, key -> new AtomicInteger()).incrementAndGet();
+
+        if ("missing".equals(title)) {
+            exchange.sendResponseHeaders(404, -1);
+        } else if ("broken".equals(title) || ("flaky".equals(title) && (numberOfRequests == 1))) {
+            exchange.sendResponseHeaders(503, -1);
+        } else {
+            byte[] response = ("10.1000/" + title).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        }
+        exchange.close();
+    }
+
+    private List<IdLookupService.Result<DOI>> lookup(IdLookupService<DOI> service, String... titles) {
+        List<BibEntry> entries = new ArrayList<>();
+        for (String title : titles) {
+            BibEntry entry = new BibEntry();
+            entry.setField(FieldName.TITLE, title);
+            entries.add(entry);
+        }
+
+        List<IdLookupService.Result<DOI>> results = Collections.synchronizedList(new ArrayList<>());
+        service.lookup(entries, results::add);
+        return results;
+    }
+
+    private List<IdLookupService.Result<DOI>> lookup(String... titles) {
+        return lookup(new IdLookupService<>(fetcher, 4, 1000, MAX_RETRIES, 10), titles);
+    }
+
+    private static Optional<String> getDOI(List<IdLookupService.Result<DOI>> results, String title) {
+        return results.stream()
+                .filter(result -> result.getEntry().getField(FieldName.TITLE).equals(Optional.of(title)))
+                .findFirst()
+                .flatMap(IdLookupService.Result::getIdentifier)
+                .map(DOI::getDOI);
+    }
+
+    @Test
+    public void allEntriesAreLookedUp() {
+        List<IdLookupService.Result<DOI>> results = lookup("a", "b", "c", "d", "e", "f", "g", "h");
+
+        Assert.assertEquals(8, results.size());
+        for (String title : Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h")) {
+            Assert.assertEquals(Optional.of("10.1000/" + title), getDOI(results, title));
+        }
+    }
+
+    @Test
+    public void identicalQueriesAreSentOnce() {
+        List<IdLookupService.Result<DOI>> results = lookup("same", "same", "same", "other");
+
+        Assert.assertEquals(4, results.size());
+        Assert.assertEquals(1, requests.get("same").get());
+        results.forEach(result -> Assert.assertTrue(result.getIdentifier().isPresent()));
+    }
+
+    @Test
+    public void failedRequestIsRetried() {
+        List<IdLookupService.Result<DOI>> results = lookup("flaky");
+
+        Assert.assertEquals(Optional.of("10.1000/flaky"), getDOI(results, "flaky"));
+        Assert.assertEquals(2, requests.get("flaky").get());
+    }
+
+    @Test
+    public void requestIsGivenUpAfterMaximalNumberOfRetries() {
+        List<IdLookupService.Result<DOI>> results = lookup("broken");
+
+        Assert.assertTrue(results.get(0).getError().isPresent());
+        Assert.assertEquals(MAX_RETRIES + 1, requests.get("broken").get());
+    }
+
+    @Test
+    public void unknownEntryHasNoIdentifier() {
+        List<IdLookupService.Result<DOI>> results = lookup("missing");
+
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals(Optional.empty(), results.get(0).getIdentifier());
+        Assert.assertEquals(Optional.empty(), results.get(0).getError());
+    }
+
+    @Test
+    public void requestsToOneHostAreRateLimited() {
+        long start = System.nanoTime();
+        // 10 requests per second, thus the sixth request is sent after half a second at the earliest
+        lookup(new IdLookupService<>(fetcher, 4, 10, MAX_RETRIES, 10), "a", "b", "c", "d", "e", "f");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertTrue("Finished after " + elapsedMillis + " ms", elapsedMillis >= 400);
+    }
+
+    @Test
+    public void servicesShareRateLimitOfHost() throws Exception {
+        long start = System.nanoTime();
+        // 5 requests per second for both services together, thus the eighth request is sent after 1.4 seconds
+        CompletableFuture<?> first = CompletableFuture.runAsync(
+                () -> lookup(new IdLookupService<>(fetcher, 4, 5, MAX_RETRIES, 10), "a", "b", "c", "d"));
+        CompletableFuture<?> second = CompletableFuture.runAsync(
+                () -> lookup(new IdLookupService<>(fetcher, 4, 5, MAX_RETRIES, 10), "e", "f", "g", "h"));
+        CompletableFuture.allOf(first, second).get();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertTrue("Finished after " + elapsedMillis + " ms", elapsedMillis >= 1200);
+    }
+
+    private static class StandInFetcher implements IdParserFetcher<DOI> {
+
+        private final int port;
+
+        StandInFetcher(int port) {
+            this.port = port;
+        }
+
+        @Override
+        public URL getURLForEntry(BibEntry entry) throws MalformedURLException {
+            try {
+                return new URL("http://localhost:" + port + "/works?title="
+                        + URLEncoder.encode(entry.getField(FieldName.TITLE).orElse(""), StandardCharsets.UTF_8.name()));
+            } catch (IOException e) {
+                throw new MalformedURLException(e.getMessage());
+            }
+        }
+
+        @Override
+        public Parser getParser() {
+            return inputStream -> {
+                try {
+                    BibEntry entry = new BibEntry();
+                    entry.setField(FieldName.DOI,
+                            CharStreams.toString(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+                    return Collections.singletonList(entry);
+                } catch (IOException e) {
+                    throw new ParseException(e);
+                }
+            };
+        }
+
+        @Override
+        public Optional<DOI> extractIdentifier(BibEntry inputEntry, List<BibEntry> fetchedEntries) {
+            return fetchedEntries.get(0).getDOI();
+        }
+
+        @Override
+        public String getIdentifierName() {
+            return "DOI";
+        }
+
+        @Override
+        public String getName() {
+            return "Stand-in";
+        }
+    }
+}
@@ -1,27 +1,48 @@
 package org.jabref.logic.importer;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.jabref.logic.bibtex.FieldContentParserPreferences;
+import org.jabref.logic.util.FileExtensions;
 import org.jabref.logic.xmp.XMPPreferences;
+import org.jabref.model.entry.BibEntry;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Answers;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class ImportFormatReaderTestParameterless {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private ImportFormatReader reader;
+    private ImportFormatPreferences importFormatPreferences;
 
     @Before
     public void setUp() {
         reader = new ImportFormatReader();
-        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
         when(importFormatPreferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
         reader.resetImportFormats(importFormatPreferences, mock(XMPPreferences.class));
     }
@@ -44,4 +65,126 @@ public class ImportFormatReaderTestParameterless {
         reader.importFromFile("someunknownformat", Paths.get("somepath"));
         fail();
     }
+
+    @Test
+    public void importUnknownFormatKeepsImportWithMostEntries() throws Exception {
+        Path file = createFile("test.txt", "some content");
+        useImporters(new StubImporter("A", FileExtensions.TXT, 1), new StubImporter("B", FileExtensions.TXT, 2));
+
+        ImportFormatReader.UnknownFormatImport result = reader.importUnknownFormat(file);
+
+        assertEquals("B", result.format);
+        assertEquals(2, result.parserResult.getDatabase().getEntryCount());
+    }
+
+    @Test
+    public void importUnknownFormatPrefersImporterSupportingExtensionOnTie() throws Exception {
+        Path file = createFile("test.ris", "some content");
+        useImporters(new StubImporter("A", FileExtensions.TXT, 1), new StubImporter("B", FileExtensions.RIS, 1));
+
+        assertEquals("B", reader.importUnknownFormat(file).format);
+    }
+
+    @Test
+    public void importUnknownFormatPassesContentReadOnceToAllImporters() throws Exception {
+        Path file = createFile("test.txt", "some content");
+        StubImporter first = new StubImporter("A", FileExtensions.TXT, 1);
+        StubImporter second = new StubImporter("B", FileExtensions.TXT, 1);
+        useImporters(first, second);
+
+        reader.importUnknownFormat(file);
+
+        assertEquals(Collections.singletonList("some content"), first.readContents);
+        assertEquals(Collections.singletonList("some content"), second.readContents);
+        assertFalse(first.readFile || second.readFile);
+    }
+
+    @Test
+    public void importUnknownFormatDoesNotCacheParsedLibrary() throws Exception {
+        Path cacheDirectory = temporaryFolder.newFolder("cache").toPath();
+        when(importFormatPreferences.getParsedLibraryCacheDirectory()).thenReturn(Optional.of(cacheDirectory));
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.getFieldContentParserPreferences()).thenReturn(new FieldContentParserPreferences());
+        Path file = createFile("test.txt", "some content");
+        useImporters(new StubImporter("A", FileExtensions.TXT, 1));
+
+        reader.importUnknownFormat(file);
+
+        try (Stream<Path> snapshots = Files.list(cacheDirectory)) {
+            assertEquals(Collections.emptyList(), snapshots.collect(Collectors.toList()));
+        }
+    }
+
+    private Path createFile(String name, String content) throws IOException {
+        Path file = temporaryFolder.newFile(name).toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private void useImporters(Importer... importers) {
+        reader.getImportFormats().clear();
+        Collections.addAll(reader.getImportFormats(), importers);
+    }
+
+    /**
+     * Recognizes every input and imports the given number of entries.
+     */
+    private static class StubImporter extends Importer {
+
+        private final String name;
+        private final FileExtensions extensions;
+        private final int numberOfEntries;
+        private final List<String> readContents = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean readFile;
+
+        StubImporter(String name, FileExtensions extensions, int numberOfEntries) {
+            this.name = name;
+            this.extensions = extensions;
+            this.numberOfEntries = numberOfEntries;
+        }
+
+        @Override
+        public boolean isRecognizedFormat(BufferedReader input) {
+            return true;
+        }
+
+        @Override
+        public boolean isRecognizedFormat(Path filePath, Charset encoding) throws IOException {
+            readFile = true;
+            return super.isRecognizedFormat(filePath, encoding);
+        }
+
+        @Override
+        public ParserResult importDatabase(BufferedReader input) {
+            readContents.add(input.lines().collect(Collectors.joining("\n")));
+            List<BibEntry> entries = new ArrayList<>();
+            for (int i = 0; i < numberOfEntries; i++) {
+                BibEntry entry = new BibEntry();
+                entry.setField("title", name + i);
+                entries.add(entry);
+            }
+            return new ParserResult(entries);
+        }
+
+        @Override
+        public ParserResult importDatabase(Path filePath, Charset encoding) throws IOException {
+            readFile = true;
+            return super.importDatabase(filePath, encoding);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public FileExtensions getExtensions() {
+            return extensions;
+        }
+
+        @Override
+        public String getDescription() {
+            return name;
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package org.jabref.logic.importer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.bibtex.FieldContentParserPreferences;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Answers;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ParsedLibraryCacheTest {
+
+    private static final String LIBRARY = "% Encoding: UTF-8\n\n"
+            + "@Preamble{\"\\newcommand{\\noop}[1]{}\"}\n\n"
+            + "@String{acm = {Association for Computing Machinery}}\n\n"
+            + "% comment before entry\n"
+            + "@Article{Einstein1931,\n  author    = {Albert Einstein},\n  title     = {Relativity},\n  publisher = acm,\n}\n\n"
+            + "@Book{Newton1687,\n  author = {Isaac Newton},\n  title  = {Principia},\n}\n\n"
+            + "@Comment{jabref-meta: databaseType:biblatex;}\n";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ImportFormatPreferences importFormatPreferences;
+    private ParsedLibraryCache cache;
+    private Path library;
+    private AtomicInteger numberOfParses;
+
+    @Before
+    public void setUp() throws IOException {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.getFieldContentParserPreferences()).thenReturn(new FieldContentParserPreferences());
+
+        cache = new ParsedLibraryCache(temporaryFolder.newFolder("cache").toPath(), importFormatPreferences);
+        library = temporaryFolder.newFile("library.bib").toPath();
+        Files.write(library, LIBRARY.getBytes(StandardCharsets.UTF_8));
+        numberOfParses = new AtomicInteger();
+    }
+
+    private ParserResult load() throws IOException {
+        return cache.loadOrParse(library, file -> {
+            numberOfParses.incrementAndGet();
+            return new BibtexImporter(importFormatPreferences).importDatabase(file, StandardCharsets.UTF_8);
+        });
+    }
+
+    @Test
+    public void unchangedLibraryIsNotParsedAgain() throws IOException {
+        load();
+        load();
+
+        Assert.assertEquals(1, numberOfParses.get());
+    }
+
+    @Test
+    public void cachedResultEqualsParsedResult() throws IOException {
+        ParserResult parsed = load();
+        ParserResult cached = load();
+
+        Assert.assertEquals(parsed.getDatabase().getEntries(), cached.getDatabase().getEntries());
+        Assert.assertEquals(parsed.getDatabase().getPreamble(), cached.getDatabase().getPreamble());
+        Assert.assertEquals(parsed.getDatabase().getEpilog(), cached.getDatabase().getEpilog());
+        Assert.assertEquals(parsed.getDatabase().getStringValues().iterator().next(),
+                cached.getDatabase().getStringValues().iterator().next());
+        Assert.assertEquals(parsed.getMetaData(), cached.getMetaData());
+        Assert.assertEquals(parsed.getDatabase().getEntries().get(0).getParsedSerialization(),
+                cached.getDatabase().getEntries().get(0).getParsedSerialization());
+        Assert.assertFalse(cached.getDatabase().getEntries().get(0).hasChanged());
+        Assert.assertEquals(library.toFile(), cached.getFile().get());
+    }
+
+    @Test
+    public void changedLibraryIsParsedAgain() throws IOException {
+        load();
+        Files.write(library, (LIBRARY + "\n@Misc{new,}\n").getBytes(StandardCharsets.UTF_8));
+
+        ParserResult result = load();
+
+        Assert.assertEquals(2, numberOfParses.get());
+        Assert.assertEquals(3, result.getDatabase().getEntryCount());
+    }
+
+    @Test
+    public void libraryWithSameSizeAndModificationTimeButDifferentContentIsParsedAgain() throws IOException {
+        load();
+        FileTime lastModified = Files.getLastModifiedTime(library);
+        Files.write(library, LIBRARY.replace("Relativity", "Relativism").getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(library, lastModified);
+
+        ParserResult result = load();
+
+        Assert.assertEquals(2, numberOfParses.get());
+        Assert.assertEquals("Relativism", result.getDatabase().getEntries().get(0).getField("title").get());
+    }
+
+    @Test
+    public void corruptSnapshotFallsBackToParsing() throws IOException {
+        load();
+        Files.write(cache.getSnapshotPath(library), new byte[] {1, 2, 3});
+
+        ParserResult result = load();
+
+        Assert.assertEquals(2, numberOfParses.get());
+        Assert.assertEquals(2, result.getDatabase().getEntryCount());
+    }
+
+    @Test
+    public void resultWithWarningsIsNotCached() throws IOException {
+        Files.write(library, "@Comment{jabref-entrytype: broken}\n".getBytes(StandardCharsets.UTF_8));
+
+        load();
+        load();
+
+        Assert.assertEquals(2, numberOfParses.get());
+    }
+}
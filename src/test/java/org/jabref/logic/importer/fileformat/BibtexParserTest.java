@@ -1758,4 +1758,98 @@ public class BibtexParserTest {
         assertFalse(result.hasWarnings());
         assertEquals(Optional.empty(), result.getDatabase().getPreamble());
     }
+
+    @Test
+    public void parseInParallelReturnsSameResultAsSequentialParsing() throws IOException {
+        String bibtexString = "% some comment" + OS.NEWLINE
+                + "@preamble{some preamble}" + OS.NEWLINE
+                + "@String{aaa = {A string}}" + OS.NEWLINE + OS.NEWLINE
+                + "@article{first, author = {Foo@Bar}, title = \"Title with {braces}\"}" + OS.NEWLINE
+                + "comment between entries" + OS.NEWLINE
+                + "@inproceedings(second, booktitle = aaa # { and more}, year = 2017)  " + OS.NEWLINE
+                + "@comment{jabref-meta: databaseType:bibtex;}" + OS.NEWLINE
+                + "@misc{first, note = {duplicate key}}"
+                + "some epilog";
+
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(new StringReader(bibtexString));
+        ParserResult result = parser.parseInParallel(new StringReader(bibtexString));
+
+        List<BibEntry> expectedEntries = expected.getDatabase().getEntries();
+        List<BibEntry> entries = result.getDatabase().getEntries();
+        assertEquals(3, entries.size());
+        assertEquals(expectedEntries, entries);
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(expectedEntries.get(i).getParsedSerialization(), entries.get(i).getParsedSerialization());
+            assertEquals(expectedEntries.get(i).getUserComments(), entries.get(i).getUserComments());
+        }
+        assertEquals(expected.getDatabase().getPreamble(), result.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getEpilog(), result.getDatabase().getEpilog());
+        assertEquals(expected.getDatabase().resolveForStrings("#aaa#"),
+                result.getDatabase().resolveForStrings("#aaa#"));
+        assertEquals(expected.getMetaData(), result.getMetaData());
+        assertEquals(Collections.singletonList("first"), result.getDuplicateKeys());
+        assertFalse(result.hasWarnings());
+    }
+
+    @Test
+    public void parseInParallelKeepsOrderOfEntries() throws IOException {
+        StringBuilder bibtexString = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            bibtexString.append("@article{key").append(i).append(", title = {Title ").append(i).append("}}")
+                    .append(OS.NEWLINE);
+        }
+
+        List<BibEntry> entries = parser.parseInParallel(new StringReader(bibtexString.toString())).getDatabase()
+                .getEntries();
+
+        assertEquals(1000, entries.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Optional.of("key" + i), entries.get(i).getCiteKeyOptional());
+        }
+    }
+
+    @Test
+    public void parseInParallelReportsWarningsOfEntriesLikeSequentialParsing() throws IOException {
+        String bibtexString = "@article{test,author={Ed von Test}}" + OS.NEWLINE
+                + OS.NEWLINE
+                + "@article{corrupted key, title = {A title}}" + OS.NEWLINE
+                + "@article{other corrupted key, title = {Another title}}" + OS.NEWLINE
+                + "@article{last,author={Ed von Test}}";
+
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(new StringReader(bibtexString));
+        ParserResult result = parser.parseInParallel(new StringReader(bibtexString));
+
+        assertEquals(expected.getDatabase().getEntries(), result.getDatabase().getEntries());
+        assertEquals(2, result.warnings().size());
+        assertEquals(expected.warnings(), result.warnings());
+    }
+
+    @Test
+    public void parseInParallelHandlesEOFCharacterInInput() throws IOException {
+        String bibtexString = "@article{first, title = {First}}" + OS.NEWLINE
+                + "comment \uFFFF between entries" + OS.NEWLINE
+                + "@article{second, title = {Second}}";
+
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(new StringReader(bibtexString));
+        ParserResult result = parser.parseInParallel(new StringReader(bibtexString));
+
+        assertEquals(expected.getDatabase().getEntries(), result.getDatabase().getEntries());
+        assertEquals(expected.warnings(), result.warnings());
+        assertEquals(expected.getDatabase().getEpilog(), result.getDatabase().getEpilog());
+    }
+
+    @Test
+    public void parseInParallelFallsBackToSequentialParsingForMalformedEntries() throws IOException {
+        String bibtexString = "@article{test,author={Ed von Test}}" + OS.NEWLINE
+                + "@article{corrupted key, title = {A title}}" + OS.NEWLINE
+                + "@article{broken, title = {missing brace}" + OS.NEWLINE
+                + "@article{last,author={Ed von Test}}";
+
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(new StringReader(bibtexString));
+        ParserResult result = parser.parseInParallel(new StringReader(bibtexString));
+
+        assertEquals(expected.getDatabase().getEntries(), result.getDatabase().getEntries());
+        assertEquals(expected.warnings(), result.warnings());
+        assertEquals(expected.getDatabase().getEpilog(), result.getDatabase().getEpilog());
+    }
 }
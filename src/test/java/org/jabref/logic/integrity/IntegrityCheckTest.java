@@ -30,6 +30,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class IntegrityCheckTest {
 
@@ -346,6 +349,82 @@ public class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    public void changedEntryIsCheckedAgain() {
+        BibDatabaseContext context = withMode(createContext("year", "2014"), BibDatabaseMode.BIBLATEX);
+        IntegrityCheck check = new IntegrityCheck(context,
+                mock(FileDirectoryPreferences.class),
+                createBibtexKeyPatternPreferences(),
+                new JournalAbbreviationRepository(new Abbreviation("IEEE Software", "IEEE SW")));
+        assertEquals(Collections.emptyList(), check.checkBibtexDatabase());
+
+        context.getDatabase().getEntries().get(0).setField("year", "abc");
+
+        assertFalse(check.checkBibtexDatabase().isEmpty());
+    }
+
+    @Test
+    public void switchingModeChecksEntriesAgain() {
+        BibDatabaseContext context = withMode(createContext("title", "sometitle", "patent"), BibDatabaseMode.BIBLATEX);
+        IntegrityCheck check = new IntegrityCheck(context,
+                mock(FileDirectoryPreferences.class),
+                createBibtexKeyPatternPreferences(),
+                new JournalAbbreviationRepository(new Abbreviation("IEEE Software", "IEEE SW")));
+        assertEquals(Collections.emptyList(), check.checkBibtexDatabase());
+
+        context.setMode(BibDatabaseMode.BIBTEX);
+
+        assertFalse(check.checkBibtexDatabase().isEmpty());
+    }
+
+    @Test
+    public void unchangedEntryIsNotCheckedAgain() {
+        BibDatabaseContext context = withMode(createContext("journal", "IEEE Software"), BibDatabaseMode.BIBTEX);
+        JournalAbbreviationRepository repository = spy(
+                new JournalAbbreviationRepository(new Abbreviation("IEEE Software", "IEEE SW")));
+        IntegrityCheck check = new IntegrityCheck(context,
+                mock(FileDirectoryPreferences.class),
+                createBibtexKeyPatternPreferences(),
+                repository);
+
+        assertEquals(Collections.emptyList(), check.checkBibtexDatabase());
+        assertEquals(Collections.emptyList(), check.checkBibtexDatabase());
+
+        verify(repository, times(1)).isKnownName("IEEE Software");
+    }
+
+    @Test
+    public void changingPreferencesKeepsResultsForSameJournalAbbreviations() {
+        BibDatabaseContext context = withMode(createContext("journal", "IEEE Software"), BibDatabaseMode.BIBTEX);
+        JournalAbbreviationRepository repository = spy(
+                new JournalAbbreviationRepository(new Abbreviation("IEEE Software", "IEEE SW")));
+        IntegrityCheck check = new IntegrityCheck(context,
+                mock(FileDirectoryPreferences.class),
+                createBibtexKeyPatternPreferences(),
+                repository);
+        check.checkBibtexDatabase();
+
+        check.withPreferences(mock(FileDirectoryPreferences.class), createBibtexKeyPatternPreferences(), repository)
+                .checkBibtexDatabase();
+
+        verify(repository, times(1)).isKnownName("IEEE Software");
+    }
+
+    @Test
+    public void changingJournalAbbreviationsChecksEntriesAgain() {
+        BibDatabaseContext context = withMode(createContext("journal", "IEEE Software"), BibDatabaseMode.BIBTEX);
+        IntegrityCheck check = new IntegrityCheck(context,
+                mock(FileDirectoryPreferences.class),
+                createBibtexKeyPatternPreferences(),
+                new JournalAbbreviationRepository(new Abbreviation("IEEE Software", "IEEE SW")));
+        assertEquals(Collections.emptyList(), check.checkBibtexDatabase());
+
+        IntegrityCheck changedCheck = check.withPreferences(mock(FileDirectoryPreferences.class),
+                createBibtexKeyPatternPreferences(), new JournalAbbreviationRepository());
+
+        assertFalse(changedCheck.checkBibtexDatabase().isEmpty());
+    }
+
     @Test
     public void testASCIIChecks() {
         assertCorrect(createContext("title", "Only ascii characters!'@12"));
@@ -2,9 +2,15 @@ package org.jabref.logic.layout;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParserResult;
@@ -125,4 +131,57 @@ public class LayoutTest {
                 "1. Test file (" + new File("src/test/resources/pdfs/encrypted.pdf").getCanonicalPath() + ")",
                 layoutText);
     }
+
+    @Test
+    public void numberIsTakenFromRenderContext() throws IOException {
+        BibEntry entry = LayoutTest.bibtexString2BibtexEntry("@article{canh05, year={2005}}");
+        Layout layout = new LayoutHelper(new StringReader("\\format[Number]{\\bibtexkey}"),
+                layoutFormatterPreferences).getLayoutFromText();
+
+        Assert.assertEquals("42", layout.doLayout(entry, null, new LayoutRenderContext(42)));
+        Assert.assertEquals("1", layout.doLayout(entry, null));
+    }
+
+    @Test
+    public void groupIsPrintedOncePerRenderContext() throws IOException {
+        BibEntry first = LayoutTest.bibtexString2BibtexEntry("@article{first, year={2005}}");
+        BibEntry second = LayoutTest.bibtexString2BibtexEntry("@article{second, year={2005}}");
+        Layout layout = new LayoutHelper(new StringReader("\\begingroup{year}\\year: \\endgroup{year}\\bibtexkey "),
+                layoutFormatterPreferences).getLayoutFromText();
+        LayoutRenderContext context = new LayoutRenderContext(1);
+
+        Assert.assertTrue(layout.containsGroups());
+        Assert.assertEquals("2005: first ", layout.doLayout(first, null, context));
+        Assert.assertEquals("second ", layout.doLayout(second, null, context));
+        Assert.assertEquals("2005: second ", layout.doLayout(second, null, new LayoutRenderContext(2)));
+    }
+
+    @Test
+    public void layoutRenderedInParallelEqualsSequentialRendering() throws IOException {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            entries.add(LayoutTest.bibtexString2BibtexEntry("@article{key" + i + ", author={Doe, Jane and Smith, John},"
+                    + " title={Title, number " + i + " -- with ^special_ characters?}, journal={J@urnal|" + i + "},"
+                    + " abstract={Some\ttabbed `text`}}"));
+        }
+
+        // Each layout is fresh, so that its formatters are used for the first time by several threads at once
+        Layout parallelLayout = createDocBookLayout();
+        List<String> renderedInParallel = entries.parallelStream()
+                .map(entry -> parallelLayout.doLayout(entry, null))
+                .collect(Collectors.toList());
+        Layout sequentialLayout = createDocBookLayout();
+        List<String> renderedSequentially = entries.stream()
+                .map(entry -> sequentialLayout.doLayout(entry, null))
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(renderedSequentially, renderedInParallel);
+    }
+
+    private Layout createDocBookLayout() throws IOException {
+        try (Reader reader = new InputStreamReader(LayoutTest.class.getResourceAsStream("/resource/layout/docbook.layout"),
+                StandardCharsets.UTF_8)) {
+            return new LayoutHelper(reader, layoutFormatterPreferences).getLayoutFromText();
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package org.jabref.logic.search;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -124,4 +125,49 @@ public class DatabaseSearcherTest {
 
         assertEquals(Collections.emptyList(), databaseSearcher.getMatches());
     }
+
+    @Test
+    public void testCorrectMatchesUsingIndexForContainsBasedSearch() {
+        BibEntry first = new BibEntry().withField("author", "tonho");
+        BibEntry second = new BibEntry().withField("title", "Tonho and friends");
+        database.insertEntries(first, new BibEntry().withField("author", "harrer"), second);
+
+        SearchQuery query = new SearchQuery("tonho", false, false);
+
+        assertEquals(Arrays.asList(first, second), new DatabaseSearcher(query, database).getMatches());
+    }
+
+    @Test
+    public void testCorrectMatchesUsingIndexForFieldBasedSearch() {
+        BibEntry first = new BibEntry().withField("author", "tonho");
+        BibEntry second = new BibEntry().withField("title", "Tonho and friends");
+        database.insertEntries(first, second);
+
+        SearchQuery query = new SearchQuery("author=tonho", false, false);
+
+        assertEquals(Collections.singletonList(first), new DatabaseSearcher(query, database).getMatches());
+    }
+
+    @Test
+    public void testCorrectMatchesUsingIndexForNegatedFieldBasedSearch() {
+        BibEntry first = new BibEntry().withField("author", "tonho");
+        BibEntry second = new BibEntry().withField("title", "Tonho and friends");
+        database.insertEntries(first, second);
+
+        SearchQuery query = new SearchQuery("title=friends or not author=tonho", false, false);
+
+        assertEquals(Collections.singletonList(second), new DatabaseSearcher(query, database).getMatches());
+    }
+
+    @Test
+    public void testMatchesReflectChangesAfterPreviousSearch() {
+        BibEntry entry = new BibEntry().withField("author", "tonho");
+        database.insertEntry(entry);
+        SearchQuery query = new SearchQuery("harrer", false, false);
+        assertEquals(Collections.emptyList(), new DatabaseSearcher(query, database).getMatches());
+
+        entry.setField("author", "harrer");
+
+        assertEquals(Collections.singletonList(entry), new DatabaseSearcher(query, database).getMatches());
+    }
 }
@@ -0,0 +1,171 @@
+package org.jabref.logic.xmp;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.metadata.FileDirectoryPreferences;
+
+import org.apache.pdfbox.exceptions.COSVisitorException;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class XMPBulkWriterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path pdf;
+    private Path journal;
+    private BibEntry entry;
+    private BibDatabaseContext databaseContext;
+    private XMPPreferences xmpPreferences;
+
+    @Before
+    public void setUp() throws IOException, COSVisitorException {
+        pdf = temporaryFolder.newFile("paper.pdf").toPath();
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage());
+            document.save(pdf.toString());
+        }
+        journal = temporaryFolder.getRoot().toPath().resolve("xmp").resolve("library.journal");
+
+        entry = new BibEntry("article");
+        entry.setCiteKey("Einstein1931");
+        entry.setField("author", "Albert Einstein");
+        entry.setField("title", "Relativity");
+        entry.addFile(new LinkedFile("", pdf.toString(), "PDF"));
+
+        BibDatabase database = new BibDatabase();
+        database.insertEntry(entry);
+        databaseContext = new BibDatabaseContext(database);
+
+        xmpPreferences = mock(XMPPreferences.class);
+        when(xmpPreferences.isUseXMPPrivacyFilter()).thenReturn(false);
+        when(xmpPreferences.getKeywordSeparator()).thenReturn(',');
+    }
+
+    private XMPBulkWriter createWriter() {
+        return new XMPBulkWriter(databaseContext,
+                new FileDirectoryPreferences("", Collections.emptyMap(), false), xmpPreferences, Optional.of(journal), 2);
+    }
+
+    private List<XMPBulkWriter.Result> write(BibEntry... entries) {
+        List<XMPBulkWriter.Result> reported = Collections.synchronizedList(new ArrayList<>());
+        List<XMPBulkWriter.Result> results = createWriter().write(Arrays.asList(entries), reported::add);
+        Assert.assertEquals(results.size(), reported.size());
+        return results;
+    }
+
+    @Test
+    public void writesMetadataToLinkedPdf() throws IOException {
+        List<XMPBulkWriter.Result> results = write(entry);
+
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals(XMPBulkWriter.Status.WRITTEN, results.get(0).getStatus());
+        List<BibEntry> embedded = XMPUtil.readXMP(pdf.toFile(), xmpPreferences);
+        Assert.assertEquals(1, embedded.size());
+        Assert.assertEquals(Optional.of("Relativity"), embedded.get(0).getField("title"));
+    }
+
+    @Test
+    public void fileWithSameMetadataIsNotWrittenAgain() {
+        write(entry);
+
+        List<XMPBulkWriter.Result> results = write(entry);
+
+        Assert.assertEquals(XMPBulkWriter.Status.UP_TO_DATE, results.get(0).getStatus());
+    }
+
+    @Test
+    public void fileWithDifferentMetadataIsWrittenAgain() {
+        write(entry);
+        entry.setField("title", "Relativism");
+
+        List<XMPBulkWriter.Result> results = write(entry);
+
+        Assert.assertEquals(XMPBulkWriter.Status.WRITTEN, results.get(0).getStatus());
+    }
+
+    @Test
+    public void entriesWithoutExistingPdfAreSkipped() {
+        BibEntry withoutFile = new BibEntry("article");
+        BibEntry withMissingFile = new BibEntry("article");
+        Path missingFile = temporaryFolder.getRoot().toPath().resolve("missing.pdf");
+        withMissingFile.addFile(new LinkedFile("", missingFile.toString(), "PDF"));
+
+        List<XMPBulkWriter.Result> results = write(withoutFile, withMissingFile);
+
+        Assert.assertEquals(XMPBulkWriter.Status.NO_PDF, results.get(0).getStatus());
+        Assert.assertEquals(XMPBulkWriter.Status.FILE_NOT_FOUND, results.get(1).getStatus());
+    }
+
+    @Test
+    public void fileRecordedInJournalIsNotOpenedAgain() throws IOException {
+        // not a PDF, thus it fails as soon as it is opened
+        Files.write(pdf, "no pdf".getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(journal.getParent());
+        Files.write(journal, Collections.singletonList(createWriter().getMetadataHash(entry) + "\t"
+                + Files.getLastModifiedTime(pdf).toMillis() + "\t" + pdf.toAbsolutePath()), StandardCharsets.UTF_8);
+
+        List<XMPBulkWriter.Result> results = write(entry);
+
+        Assert.assertEquals(XMPBulkWriter.Status.UP_TO_DATE, results.get(0).getStatus());
+    }
+
+    @Test
+    public void journalIsDeletedAfterCompletedRun() {
+        write(entry);
+
+        Assert.assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    public void failureIsReported() throws IOException {
+        Files.write(pdf, "no pdf".getBytes(StandardCharsets.UTF_8));
+
+        List<XMPBulkWriter.Result> results = write(entry);
+
+        Assert.assertEquals(XMPBulkWriter.Status.FAILED, results.get(0).getStatus());
+        Assert.assertTrue(results.get(0).getError().isPresent());
+    }
+
+    @Test
+    public void runtimeExceptionFailsOnlyItsFile() throws IOException {
+        Path otherPdf = temporaryFolder.newFile("other.pdf").toPath();
+        Files.copy(pdf, otherPdf, StandardCopyOption.REPLACE_EXISTING);
+        BibEntry otherEntry = new BibEntry("article");
+        otherEntry.addFile(new LinkedFile("", otherPdf.toString(), "PDF"));
+        databaseContext.getDatabase().insertEntry(otherEntry);
+        when(xmpPreferences.isUseXMPPrivacyFilter()).thenReturn(true);
+        when(xmpPreferences.getXmpPrivacyFilter()).thenThrow(new IllegalStateException());
+        XMPBulkWriter writer = createWriter();
+
+        List<XMPBulkWriter.Result> results = writer.write(Arrays.asList(entry, otherEntry), result -> {
+        });
+
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals(XMPBulkWriter.Status.FAILED, results.get(0).getStatus());
+        Assert.assertEquals(XMPBulkWriter.Status.FAILED, results.get(1).getStatus());
+        Assert.assertFalse(writer.isCanceled());
+    }
+}
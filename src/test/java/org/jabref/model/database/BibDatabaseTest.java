@@ -12,8 +12,10 @@ import java.util.Set;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.IdGenerator;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.event.TestEventListener;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -181,6 +183,26 @@ public class BibDatabaseTest {
         assertEquals(entry, tel.getBibEntry());
     }
 
+    @Test
+    public void changeOfReinsertedEntryIsPostedOnce() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        database.insertEntry(entry);
+        List<FieldChangedEvent> events = new ArrayList<>();
+        database.registerListener(new Object() {
+
+            @Subscribe
+            public void listen(FieldChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        entry.setField("test", "some value");
+
+        assertEquals(1, events.size());
+    }
+
     @Test
     public void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
@@ -212,6 +234,69 @@ public class BibDatabaseTest {
         assertEquals(1, database.getDuplicationChecker().getNumberOfKeyOccurrences("AAA"));
     }
 
+    @Test
+    public void getEntryByKeyFindsEntryAfterKeyChange() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("AAA");
+        database.insertEntry(entry);
+
+        entry.setCiteKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByKey("AAA"));
+        assertEquals(Optional.of(entry), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntryByKeyDoesNotFindRemovedEntry() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+
+        // removed entries still notify the database about changes
+        entry.setCiteKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByKey("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntriesByKeyKeepsOrderOfDatabase() {
+        // entries compare by content, thus they need different titles
+        BibEntry first = new BibEntry();
+        first.setCiteKey("AAA");
+        first.setField("title", "first");
+        BibEntry second = new BibEntry();
+        second.setCiteKey("BBB");
+        second.setField("title", "second");
+        BibEntry third = new BibEntry();
+        third.setCiteKey("AAA");
+        third.setField("title", "third");
+        database.insertEntries(first, second, third);
+
+        second.setCiteKey("AAA");
+
+        assertEquals(Arrays.asList(first, second, third), database.getEntriesByKey("AAA"));
+        assertEquals(Collections.emptyList(), database.getEntriesByKey("BBB"));
+
+        first.clearCiteKey();
+
+        assertEquals(Optional.of(second), database.getEntryByKey("AAA"));
+    }
+
+    @Test
+    public void getEntryByIdFindsEntryAfterIdChange() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        String oldId = entry.getId();
+
+        entry.setId("newId");
+
+        assertEquals(Optional.empty(), database.getEntryById(oldId));
+        assertEquals(Optional.of(entry), database.getEntryById("newId"));
+        assertTrue(database.containsEntryWithId("newId"));
+    }
+
     @Test
     public void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -1,7 +1,14 @@
 package org.jabref.model.entry;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import com.google.common.cache.CacheStats;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -659,4 +666,37 @@ public class AuthorListTest {
         Assert.assertEquals(new AuthorList(expected), AuthorList.parse("Rodriguez Fernandez, José María"));
     }
 
+    @Test
+    public void parseReturnsCachedInstance() {
+        String authors = "Cached, Author and Another, Cached";
+        CacheStats before = AuthorList.getCacheStatistics();
+
+        AuthorList first = AuthorList.parse(authors);
+        AuthorList second = AuthorList.parse(authors);
+
+        CacheStats difference = AuthorList.getCacheStatistics().minus(before);
+        Assert.assertSame(first, second);
+        Assert.assertTrue(difference.missCount() >= 1);
+        Assert.assertTrue(difference.hitCount() >= 1);
+        Assert.assertTrue(AuthorList.getCacheSize() > 0);
+    }
+
+    @Test
+    public void parseFromMultipleThreadsReturnsSameResult() throws Exception {
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String authors = "Concurrent Author" + (i % 10) + " and Second Author";
+            tasks.add(() -> AuthorList.parse(authors).getAsLastFirstNamesWithAnd(true));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                Assert.assertEquals("Author" + (i % 10) + ", C. and Author, S.", results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -4,10 +4,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import javafx.beans.binding.ObjectBinding;
+
 import org.jabref.model.FieldChange;
+import org.jabref.model.entry.event.FieldChangedEvent;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -395,4 +400,110 @@ public class BibEntryTests {
         be.clearField("author");
         assertEquals(Optional.empty(), be.getField("author"));
     }
+
+    @Test
+    public void fieldNamesAreSorted() {
+        BibEntry be = new BibEntry();
+        be.setField("year", "2017");
+        be.setField("author", "Albert Einstein");
+        be.setField("title", "Title");
+        be.clearField("author");
+        be.setField("abstract", "Abstract");
+
+        assertEquals(Arrays.asList("abstract", "title", "year"), new ArrayList<>(be.getFieldNames()));
+    }
+
+    @Test
+    public void fieldMapIsSnapshot() {
+        BibEntry be = new BibEntry();
+        be.setField("author", "Albert Einstein");
+        Map<String, String> fieldMap = be.getFieldMap();
+
+        be.setField("title", "Title");
+
+        assertEquals(Collections.singletonMap("author", "Albert Einstein"), fieldMap);
+        assertEquals(2, be.getFieldMap().size());
+    }
+
+    @Test
+    public void cloneDoesNotShareChanges() {
+        BibEntry be = new BibEntry();
+        be.setField("author", "Albert Einstein");
+        BibEntry clone = (BibEntry) be.clone();
+
+        clone.setField("author", "Isaac Newton");
+
+        assertEquals(Optional.of("Albert Einstein"), be.getField("author"));
+        assertEquals(Optional.of("Isaac Newton"), clone.getField("author"));
+    }
+
+    @Test
+    public void equalEntriesHaveSameHashCode() {
+        BibEntry first = new BibEntry("article");
+        first.setField("title", "Title");
+        first.setField("author", "Albert Einstein");
+        BibEntry second = new BibEntry("article");
+        second.setField("author", "Albert Einstein");
+        second.setField("title", "Title");
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void registeredListenerIsNotified() {
+        BibEntry be = new BibEntry();
+        List<FieldChangedEvent> events = new ArrayList<>();
+        Object listener = new Object() {
+
+            @Subscribe
+            public void listen(FieldChangedEvent event) {
+                events.add(event);
+            }
+        };
+        be.registerListener(listener);
+
+        be.setField("author", "Albert Einstein");
+        be.unregisterListener(listener);
+        be.setField("title", "Title");
+
+        assertEquals(1, events.size());
+        assertEquals("author", events.get(0).getFieldName());
+    }
+
+    @Test
+    public void modificationCountIsIncreasedOnEveryChange() {
+        BibEntry be = new BibEntry();
+        int count = be.getModificationCount();
+
+        be.setField("author", "Albert Einstein");
+        assertEquals(count + 1, be.getModificationCount());
+        be.setField("author", "Albert Einstein");
+        assertEquals(count + 1, be.getModificationCount());
+        be.setType("book");
+        be.clearField("author");
+        assertEquals(count + 3, be.getModificationCount());
+    }
+
+    @Test
+    public void unregisteringUnknownListenerIsIgnored() {
+        BibEntry be = new BibEntry();
+        be.unregisterListener(new Object());
+        be.registerListener(this);
+        be.unregisterListener(new Object());
+    }
+
+    @Test
+    public void fieldBindingFollowsChanges() {
+        BibEntry be = new BibEntry();
+        be.setField("author", "Albert Einstein");
+        ObjectBinding<String> binding = be.getFieldBinding("author");
+        assertEquals("Albert Einstein", binding.get());
+
+        be.setField("author", "Isaac Newton");
+        assertEquals("Isaac Newton", binding.get());
+
+        be.clearField("author");
+        Assert.assertNull(binding.get());
+    }
 }
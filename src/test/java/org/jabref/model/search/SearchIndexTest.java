@@ -0,0 +1,125 @@
+package org.jabref.model.search;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SearchIndexTest {
+
+    private BibDatabase database;
+    private BibEntry entry;
+
+    @Before
+    public void setUp() {
+        database = new BibDatabase();
+        entry = new BibEntry().withField("title", "Marine finfish larviculture in Europe");
+        entry.setField("author", "Kevin Shields");
+        database.insertEntry(entry);
+    }
+
+    @Test
+    public void findsEntryInAnyFieldBySubstring() {
+        assertEquals(Optional.of(Collections.singleton(entry)), database.getSearchIndex().getCandidates("FINFISH"));
+        assertEquals(Optional.of(Collections.singleton(entry)), database.getSearchIndex().getCandidates("arvi"));
+    }
+
+    @Test
+    public void findsEntryOnlyInGivenField() {
+        assertEquals(Optional.of(Collections.singleton(entry)), database.getSearchIndex().getCandidates("author", "shields"));
+        assertEquals(Optional.of(Collections.emptySet()), database.getSearchIndex().getCandidates("title", "shields"));
+    }
+
+    @Test
+    public void phraseRequiresAllParts() {
+        assertEquals(Optional.of(Collections.singleton(entry)), database.getSearchIndex().getCandidates("marine finfish"));
+        assertEquals(Optional.of(Collections.emptySet()), database.getSearchIndex().getCandidates("marine salmon"));
+    }
+
+    @Test
+    public void whitespaceDoesNotRestrictCandidates() {
+        assertEquals(Optional.empty(), database.getSearchIndex().getCandidates("  "));
+    }
+
+    @Test
+    public void indexIsUpdatedOnFieldChange() {
+        SearchIndex index = database.getSearchIndex();
+        entry.setField("title", "Salmon farming");
+
+        assertEquals(Optional.of(Collections.emptySet()), index.getCandidates("finfish"));
+        assertEquals(Optional.of(Collections.singleton(entry)), index.getCandidates("salmon"));
+    }
+
+    @Test
+    public void indexIsUpdatedOnClearedField() {
+        SearchIndex index = database.getSearchIndex();
+        entry.clearField("author");
+
+        assertEquals(Optional.of(Collections.emptySet()), index.getCandidates("shields"));
+    }
+
+    @Test
+    public void indexIsUpdatedOnAddedAndRemovedEntries() {
+        SearchIndex index = database.getSearchIndex();
+        BibEntry other = new BibEntry().withField("title", "Marine biology");
+        database.insertEntry(other);
+
+        Set<BibEntry> candidates = index.getCandidates("marine").get();
+        assertEquals(2, candidates.size());
+        assertTrue(candidates.contains(other));
+
+        database.removeEntry(entry);
+        assertEquals(Optional.of(Collections.singleton(other)), index.getCandidates("marine"));
+        assertFalse(index.isIndexed(entry));
+    }
+
+    @Test
+    public void changesOfRemovedEntriesAreIgnored() {
+        SearchIndex index = database.getSearchIndex();
+        database.removeEntry(entry);
+        entry.setField("title", "Salmon farming");
+
+        assertEquals(Optional.of(Collections.emptySet()), index.getCandidates("salmon"));
+    }
+
+    @Test
+    public void latexIsRemovedBeforeIndexing() {
+        entry.setField("journal", "J{\\\"o}rgensen");
+
+        assertEquals(Optional.of(Collections.singleton(entry)), database.getSearchIndex().getCandidates("journal", "jörgensen"));
+    }
+
+    @Test
+    public void termSharedByEntriesIsKeptUntilLastEntryIsRemoved() {
+        SearchIndex index = database.getSearchIndex();
+        BibEntry other = new BibEntry().withField("title", "Shellfish and fist fights");
+        database.insertEntry(other);
+
+        assertEquals(2, index.getCandidates("fish").get().size());
+        assertEquals(Optional.of(Collections.singleton(other)), index.getCandidates("fist"));
+
+        database.removeEntry(other);
+        assertEquals(Optional.of(Collections.singleton(entry)), index.getCandidates("fish"));
+        assertEquals(Optional.of(Collections.emptySet()), index.getCandidates("fist"));
+    }
+
+    @Test
+    public void findsEntryBySubstringOfLongTerm() {
+        entry.setField("file", ":/home/user/papers/2017/larviculture-in-europe.pdf:PDF");
+        SearchIndex index = database.getSearchIndex();
+
+        assertEquals(Optional.of(Collections.singleton(entry)), index.getCandidates("file", "papers/2017"));
+
+        entry.clearField("file");
+        assertEquals(Optional.of(Collections.emptySet()), index.getCandidates("file", "papers/2017"));
+    }
+}
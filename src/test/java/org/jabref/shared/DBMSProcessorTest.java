@@ -92,6 +92,32 @@ public class DBMSProcessorTest {
         Assert.assertEquals(expectedFieldMap, actualFieldMap);
     }
 
+    @Test
+    public void testInsertEntries() throws SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = new BibEntry(); // entry without fields
+        BibEntry thirdEntry = getBibEntryExample();
+        thirdEntry.setField("year", "1995");
+
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry, thirdEntry));
+
+        Assert.assertEquals(Arrays.asList(firstEntry, secondEntry, thirdEntry), dbmsProcessor.getSharedEntries());
+        Assert.assertEquals(1, firstEntry.getSharedBibEntryData().getSharedID());
+        Assert.assertEquals(2, secondEntry.getSharedBibEntryData().getSharedID());
+        Assert.assertEquals(3, thirdEntry.getSharedBibEntryData().getSharedID());
+    }
+
+    @Test
+    public void testInsertEntriesSendsFieldsAsSingleBatch() throws SQLException {
+        dbmsProcessor.getQueryStatistics().reset();
+
+        dbmsProcessor.insertEntries(Arrays.asList(getBibEntryExample(), getBibEntryExample()));
+
+        // one insert per entry (to retrieve the generated ID) and a single batch for all fields
+        Assert.assertEquals(3, dbmsProcessor.getQueryStatistics().getNumberOfQueries());
+        Assert.assertEquals(2 + (2 * 5), dbmsProcessor.getQueryStatistics().getNumberOfStatements());
+    }
+
     @Test
     public void testUpdateEntry() throws OfflineLockException, SQLException {
         BibEntry expectedEntry = getBibEntryExample();
@@ -115,6 +141,19 @@ public class DBMSProcessorTest {
         }
     }
 
+    @Test
+    public void testUpdateEntrySetsSharedVersion() throws OfflineLockException, SQLException {
+        BibEntry bibEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(bibEntry);
+
+        bibEntry.setField("year", "1993");
+        dbmsProcessor.updateEntry(bibEntry);
+
+        Assert.assertEquals(2, bibEntry.getSharedBibEntryData().getVersion());
+        Assert.assertEquals(Integer.valueOf(2),
+                dbmsProcessor.getSharedIDVersionMapping().get(bibEntry.getSharedBibEntryData().getSharedID()));
+    }
+
     @Test(expected = OfflineLockException.class)
     public void testUpdateNewerEntry() throws OfflineLockException, SQLException {
         BibEntry bibEntry = getBibEntryExample();
@@ -192,6 +231,25 @@ public class DBMSProcessorTest {
         Assert.assertFalse(actualBibEntryOptional.isPresent());
     }
 
+    @Test
+    public void testGetSharedEntriesByIDs() throws SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = new BibEntry(); // entry without fields
+        BibEntry thirdEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(firstEntry);
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.insertEntry(thirdEntry);
+
+        List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries(Arrays.asList(
+                thirdEntry.getSharedBibEntryData().getSharedID(),
+                secondEntry.getSharedBibEntryData().getSharedID(),
+                thirdEntry.getSharedBibEntryData().getSharedID(),
+                -1));
+
+        Assert.assertEquals(Arrays.asList(secondEntry, thirdEntry), actualEntries);
+    }
+
     @Test
     public void testGetSharedIDVersionMapping() throws OfflineLockException, SQLException {
         BibEntry firstEntry = getBibEntryExample();
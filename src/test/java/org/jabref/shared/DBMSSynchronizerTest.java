@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.jabref.logic.exporter.MetaDataSerializer;
 import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
@@ -102,6 +103,88 @@ public class DBMSSynchronizerTest {
 
     }
 
+    @Test
+    public void testFieldChangedEventListenerWithSynchronizationDelay() throws Exception {
+        DBMSSynchronizer delayedSynchronizer = new DBMSSynchronizer(new BibDatabaseContext(bibDatabase), ',',
+                pattern, 60000);
+        BibEntry expectedEntry = getBibEntryExample(1);
+        bibDatabase.insertEntry(expectedEntry);
+
+        bibDatabase.unregisterListener(dbmsSynchronizer);
+        bibDatabase.registerListener(delayedSynchronizer);
+        delayedSynchronizer.openSharedDatabase(dbmsConnection);
+        expectedEntry.setField("author", "Brad L");
+        expectedEntry.setField("author", "Brad L and Gilson");
+
+        Assert.assertEquals(Optional.of("Wirthlin, Michael J1"), dbmsProcessor.getSharedEntries().get(0).getField("author"));
+
+        delayedSynchronizer.synchronizePendingEntries();
+
+        List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
+        Assert.assertEquals(1, actualEntries.size());
+        Assert.assertEquals(Optional.of("Brad L and Gilson"), actualEntries.get(0).getField("author"));
+    }
+
+    @Test
+    public void testEntryAddedEventListenerWithSynchronizationDelay() throws Exception {
+        DBMSSynchronizer delayedSynchronizer = new DBMSSynchronizer(new BibDatabaseContext(bibDatabase), ',',
+                pattern, 60000);
+        bibDatabase.unregisterListener(dbmsSynchronizer);
+        bibDatabase.registerListener(delayedSynchronizer);
+        delayedSynchronizer.openSharedDatabase(dbmsConnection);
+
+        BibEntry firstEntry = getBibEntryExample(1);
+        BibEntry secondEntry = getBibEntryExample(2);
+        bibDatabase.insertEntries(firstEntry, secondEntry);
+        firstEntry.setField("author", "Brad L and Gilson");
+
+        Assert.assertEquals(0, dbmsProcessor.getSharedEntries().size());
+        // a pull must not remove the entries which are not inserted yet
+        delayedSynchronizer.pullChanges();
+        Assert.assertEquals(2, bibDatabase.getEntryCount());
+
+        delayedSynchronizer.synchronizePendingEntries();
+
+        Assert.assertEquals(Arrays.asList(firstEntry, secondEntry), dbmsProcessor.getSharedEntries());
+        Assert.assertEquals(2, bibDatabase.getEntryCount());
+    }
+
+    @Test
+    public void testPullKeepsLocalChangesWhichAreNotPushedYet() throws Exception {
+        BibEntry bibEntry = getBibEntryExample(1);
+        bibDatabase.insertEntry(bibEntry);
+
+        DBMSSynchronizer delayedSynchronizer = new DBMSSynchronizer(new BibDatabaseContext(bibDatabase), ',',
+                pattern, 60000);
+        bibDatabase.unregisterListener(dbmsSynchronizer);
+        bibDatabase.registerListener(delayedSynchronizer);
+        delayedSynchronizer.openSharedDatabase(dbmsConnection);
+        bibEntry.setField("year", "2017");
+
+        // another client changes the entry in the meantime
+        BibEntry sharedEntry = dbmsProcessor.getSharedEntries().get(0);
+        sharedEntry.setField("title", "The micro multiplexer");
+        dbmsProcessor.updateEntry(sharedEntry);
+
+        delayedSynchronizer.pullChanges();
+
+        Assert.assertEquals(Optional.of("2017"), bibEntry.getField("year"));
+        Assert.assertEquals(Optional.of("The nano processor1"), bibEntry.getField("title"));
+    }
+
+    @Test
+    public void testPulledChangesAreAppliedByLocalExecutor() {
+        List<Runnable> localTasks = new ArrayList<>();
+        dbmsSynchronizer.setLocalExecutor(localTasks::add);
+        dbmsProcessor.insertEntry(getBibEntryExample(1));
+
+        dbmsSynchronizer.pullChanges();
+        Assert.assertTrue(bibDatabase.getEntries().isEmpty());
+
+        localTasks.forEach(Runnable::run);
+        Assert.assertEquals(1, bibDatabase.getEntryCount());
+    }
+
     @Test
     public void testEntryRemovedEventListener() {
         BibEntry bibEntry = getBibEntryExample(1);
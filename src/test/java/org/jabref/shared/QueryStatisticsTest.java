@@ -0,0 +1,96 @@
+package org.jabref.shared;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QueryStatisticsTest {
+
+    private QueryStatistics statistics;
+
+    @Before
+    public void setUp() {
+        statistics = new QueryStatistics(100);
+    }
+
+    @Test
+    public void emptyStatisticsReturnZero() {
+        Assert.assertEquals(0, statistics.getNumberOfQueries());
+        Assert.assertEquals(0, statistics.getAverageLatencyMillis(), 0);
+        Assert.assertEquals(0, statistics.getLatencyPercentileMillis(99), 0);
+    }
+
+    @Test
+    public void batchCountsAsSingleQuery() {
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(2));
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(4), 10);
+
+        Assert.assertEquals(2, statistics.getNumberOfQueries());
+        Assert.assertEquals(11, statistics.getNumberOfStatements());
+        Assert.assertEquals(3, statistics.getAverageLatencyMillis(), 0.001);
+    }
+
+    @Test
+    public void percentilesUseNearestRank() {
+        for (int i = 1; i <= 100; i++) {
+            statistics.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        Assert.assertEquals(1, statistics.getLatencyPercentileMillis(0), 0.001);
+        Assert.assertEquals(50, statistics.getLatencyPercentileMillis(50), 0.001);
+        Assert.assertEquals(99, statistics.getLatencyPercentileMillis(99), 0.001);
+        Assert.assertEquals(100, statistics.getLatencyPercentileMillis(100), 0.001);
+    }
+
+    @Test
+    public void percentilesOnlyConsiderRecentQueries() {
+        for (int i = 0; i < 100; i++) {
+            statistics.record(TimeUnit.MILLISECONDS.toNanos(1000));
+        }
+        for (int i = 0; i < 100; i++) {
+            statistics.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        Assert.assertEquals(200, statistics.getNumberOfQueries());
+        Assert.assertEquals(1, statistics.getLatencyPercentileMillis(100), 0.001);
+    }
+
+    @Test
+    public void resetClearsStatistics() {
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(5));
+
+        statistics.reset();
+
+        Assert.assertEquals(0, statistics.getNumberOfQueries());
+        Assert.assertEquals(0, statistics.getLatencyPercentileMillis(50), 0);
+    }
+
+    @Test
+    public void concurrentlyRecordedQueriesAreCounted() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    statistics.record(TimeUnit.MILLISECONDS.toNanos(1), 2);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(40000, statistics.getNumberOfQueries());
+        Assert.assertEquals(80000, statistics.getNumberOfStatements());
+        Assert.assertEquals(1, statistics.getAverageLatencyMillis(), 0.001);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPercentileThrowsException() {
+        statistics.getLatencyPercentileMillis(101);
+    }
+}
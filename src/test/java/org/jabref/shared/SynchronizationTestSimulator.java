@@ -63,6 +63,7 @@ public class SynchronizationTestSimulator {
     public void simulateEntryInsertionAndManualPull() {
         clientContextA.getDatabase().insertEntry(getBibEntryExample(1)); // client A inserts an entry
         clientContextA.getDatabase().insertEntry(getBibEntryExample(2)); // client A inserts another entry
+        clientContextA.getDBMSSynchronizer().synchronizePendingEntries(); // client A pushes its changes
         clientContextB.getDBMSSynchronizer().pullChanges(); // client B pulls the changes
 
         Assert.assertEquals(clientContextA.getDatabase().getEntries(), clientContextB.getDatabase().getEntries());
@@ -75,6 +76,7 @@ public class SynchronizationTestSimulator {
         bibEntry.setField("custom", "custom value"); // client A changes the entry
         bibEntry.clearField("author");
 
+        clientContextA.getDBMSSynchronizer().synchronizePendingEntries(); // client A pushes its changes
         clientContextB.getDBMSSynchronizer().pullChanges(); // client B pulls the changes
 
         Assert.assertEquals(clientContextA.getDatabase().getEntries(), clientContextB.getDatabase().getEntries());
@@ -84,6 +86,7 @@ public class SynchronizationTestSimulator {
     public void simulateEntryDelitionAndManualPull() {
         BibEntry bibEntry = getBibEntryExample(1);
         clientContextA.getDatabase().insertEntry(bibEntry); // client A inserts an entry
+        clientContextA.getDBMSSynchronizer().synchronizePendingEntries(); // client A pushes its changes
         clientContextB.getDBMSSynchronizer().pullChanges(); // client B pulls the entry
 
         Assert.assertFalse(clientContextA.getDatabase().getEntries().isEmpty());
@@ -91,6 +94,7 @@ public class SynchronizationTestSimulator {
         Assert.assertEquals(clientContextA.getDatabase().getEntries(), clientContextB.getDatabase().getEntries());
 
         clientContextA.getDatabase().removeEntry(bibEntry); // client A removes the entry
+        clientContextA.getDBMSSynchronizer().synchronizePendingEntries(); // client A pushes its changes
         clientContextB.getDBMSSynchronizer().pullChanges(); // client B pulls the change
 
         Assert.assertTrue(clientContextA.getDatabase().getEntries().isEmpty());
@@ -101,6 +105,7 @@ public class SynchronizationTestSimulator {
     public void simulateUpdateOnNoLongerExistingEntry() {
         BibEntry bibEntryOfClientA = getBibEntryExample(1);
         clientContextA.getDatabase().insertEntry(bibEntryOfClientA); // client A inserts an entry
+        clientContextA.getDBMSSynchronizer().synchronizePendingEntries(); // client A pushes its changes
         clientContextB.getDBMSSynchronizer().pullChanges(); // client B pulls the entry
 
         Assert.assertFalse(clientContextA.getDatabase().getEntries().isEmpty());
@@ -108,12 +113,14 @@ public class SynchronizationTestSimulator {
         Assert.assertEquals(clientContextA.getDatabase().getEntries(), clientContextB.getDatabase().getEntries());
 
         clientContextA.getDatabase().removeEntry(bibEntryOfClientA); // client A removes the entry
+        clientContextA.getDBMSSynchronizer().synchronizePendingEntries(); // client A pushes its changes
 
         Assert.assertFalse(clientContextB.getDatabase().getEntries().isEmpty());
         Assert.assertNull(eventListenerB.getSharedEntryNotPresentEvent());
 
         BibEntry bibEntryOfClientB = clientContextB.getDatabase().getEntries().get(0); // client B tries to update the entry
         bibEntryOfClientB.setField("year", "2009");
+        clientContextB.getDBMSSynchronizer().synchronizePendingEntries(); // client B pushes its changes
 
         // here a new SharedEntryNotPresentEvent has been thrown. In this case the user B would get an pop-up window.
         Assert.assertNotNull(eventListenerB.getSharedEntryNotPresentEvent());
@@ -124,9 +131,11 @@ public class SynchronizationTestSimulator {
     public void simulateEntryChangeConflicts() {
         BibEntry bibEntryOfClientA = getBibEntryExample(1);
         clientContextA.getDatabase().insertEntry(bibEntryOfClientA); // client A inserts an entry
+        clientContextA.getDBMSSynchronizer().synchronizePendingEntries(); // client A pushes its changes
         clientContextB.getDBMSSynchronizer().pullChanges(); // client B pulls the entry
 
         bibEntryOfClientA.setField("year", "2001"); // A now increases the version number
+        clientContextA.getDBMSSynchronizer().synchronizePendingEntries(); // client A pushes its changes
 
         // B does nothing here, so there is no event occurrence
 
@@ -137,6 +146,7 @@ public class SynchronizationTestSimulator {
 
         BibEntry bibEntryOfClientB = clientContextB.getDatabase().getEntries().get(0);
         bibEntryOfClientB.setField("year", "2016"); // B also tries to change something
+        clientContextB.getDBMSSynchronizer().synchronizePendingEntries(); // client B pushes its changes
 
         // B now cannot update the shared entry, due to optimistic offline lock.
         // In this case an BibEntry merge dialog pops up.